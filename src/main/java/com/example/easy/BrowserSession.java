@@ -0,0 +1,111 @@
+package com.example.easy;
+
+import org.openqa.selenium.WebDriver;
+
+import com.example.easy.JobApplier.ContactInfo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A single independent browser session: its own WebDriver, screenshot directory
+ * and login state. Sessions are owned by a {@link BrowserSessionPool} and are only
+ * used by one task at a time.
+ */
+public final class BrowserSession {
+
+    private static final String SCREENSHOT_ROOT = "screenshots";
+
+    // Lets static helpers that only have a WebDriver find the session it belongs to
+    private static final Map<WebDriver, BrowserSession> sessionsByDriver = new ConcurrentHashMap<>();
+
+    private final int id;
+    private final WebDriver driver;
+    private final Path screenshotDirectory;
+    private ContactInfo contactInfo;
+    private boolean loggedIn = false;
+
+    /**
+     * Creates a session around an already started WebDriver
+     *
+     * @param id Session number, used to name the screenshot directory
+     * @param driver WebDriver owned by this session
+     */
+    public BrowserSession(int id, WebDriver driver) {
+        this.id = id;
+        this.driver = driver;
+        this.screenshotDirectory = LinkedInConfigLoader.getDataPath(SCREENSHOT_ROOT).resolve("session-" + id);
+
+        try {
+            Files.createDirectories(screenshotDirectory);
+        } catch (IOException e) {
+            System.err.println("Warning: Could not create screenshot directory " + screenshotDirectory + ": " + e.getMessage());
+        }
+
+        sessionsByDriver.put(driver, this);
+    }
+
+    /**
+     * Resolves where screenshots taken with the given driver should be saved.
+     * Drivers that belong to a session write into the session's own directory;
+     * any other driver writes into the top-level screenshot directory.
+     *
+     * @param driver WebDriver that took the screenshot
+     * @return Directory to save the screenshot in
+     */
+    public static Path screenshotDirectory(WebDriver driver) {
+        BrowserSession session = sessionsByDriver.get(driver);
+        return session != null ? session.screenshotDirectory : LinkedInConfigLoader.getDataPath(SCREENSHOT_ROOT);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public Path getScreenshotDirectory() {
+        return screenshotDirectory;
+    }
+
+    /**
+     * Returns this session's Easy Apply handler, creating it on first use
+     *
+     * @return ContactInfo bound to this session's driver
+     */
+    public ContactInfo getContactInfo() {
+        if (contactInfo == null) {
+            contactInfo = new ContactInfo(driver);
+        }
+        return contactInfo;
+    }
+
+    public boolean isLoggedIn() {
+        return loggedIn;
+    }
+
+    public void setLoggedIn(boolean loggedIn) {
+        this.loggedIn = loggedIn;
+    }
+
+    /**
+     * Releases the session's resources and quits its browser
+     */
+    public void close() {
+        sessionsByDriver.remove(driver);
+        try {
+            if (contactInfo != null) {
+                contactInfo.cleanup();
+            }
+            driver.quit();
+            System.out.println("Browser session " + id + " closed.");
+        } catch (Exception e) {
+            System.out.println("Error closing browser session " + id + ": " + e.getMessage());
+        }
+    }
+}
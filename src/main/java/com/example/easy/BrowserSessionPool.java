@@ -0,0 +1,188 @@
+package com.example.easy;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+
+/**
+ * Bounded pool of independent browser sessions fed from a work queue.
+ * Every submitted task runs on its own virtual thread in the pool's {@link WorkflowScope}
+ * and waits, without holding a platform thread, until a session is free. Each task checks
+ * out one session for its whole duration, so no two tasks ever share a browser.
+ * Sessions are started lazily, up to the pool size, or all at once with {@link #prewarm()}.
+ */
+public class BrowserSessionPool implements AutoCloseable {
+
+    /**
+     * A unit of work that runs against one browser session
+     *
+     * @param <T> Result type of the task
+     */
+    @FunctionalInterface
+    public interface SessionTask<T> {
+        T run(BrowserSession session) throws Exception;
+    }
+
+    private final int size;
+    private final IntFunction<WebDriver> driverFactory;
+    private final WorkflowScope scope = new WorkflowScope("browser-session");
+    private final BlockingQueue<BrowserSession> idleSessions = new LinkedBlockingQueue<>();
+    private final List<BrowserSession> allSessions = new ArrayList<>();
+    private int reserved = 0;
+    
+    // A lock rather than synchronized, so a virtual thread starting a browser does not pin its carrier
+    private final ReentrantLock sessionsLock = new ReentrantLock();
+
+    /**
+     * Creates a pool of at most {@code size} browser sessions
+     *
+     * @param size Maximum number of concurrent browser sessions
+     * @param driverFactory Starts a new browser for the given session number when the pool needs another session
+     */
+    public BrowserSessionPool(int size, IntFunction<WebDriver> driverFactory) {
+        this.size = Math.max(1, size);
+        this.driverFactory = driverFactory;
+    }
+
+    /**
+     * Queues a task to run on the next free browser session
+     *
+     * @param task Task to run
+     * @param <T> Result type of the task
+     * @return Future holding the task's result
+     */
+    public <T> Future<T> submit(SessionTask<T> task) {
+        return scope.fork(() -> {
+            BrowserSession session = acquire();
+            try {
+                return task.run(session);
+            } finally {
+                idleSessions.offer(session);
+            }
+        });
+    }
+
+    /**
+     * Returns the maximum number of concurrent sessions
+     *
+     * @return Pool size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Starts every session's browser in the background, so browsers launch in parallel
+     * with each other and with whatever the caller does next. Tasks submitted meanwhile
+     * wait for the first browser that is ready.
+     */
+    public void prewarm() {
+        for (int i = 0; i < size; i++) {
+            scope.fork(() -> {
+                try {
+                    BrowserSession session = startSession();
+                    if (session != null) {
+                        idleSessions.offer(session);
+                    }
+                } catch (Exception e) {
+                    System.out.println("Could not prewarm a browser session: " + e.getMessage());
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Takes an idle session, starting a new browser if the pool is not yet full
+     */
+    private BrowserSession acquire() throws InterruptedException {
+        BrowserSession session = idleSessions.poll();
+        if (session != null) {
+            return session;
+        }
+
+        // Keep checking for a free slot too: a browser that was being started for the pool may fail
+        while (true) {
+            session = startSession();
+            if (session != null) {
+                return session;
+            }
+            session = idleSessions.poll(1, TimeUnit.SECONDS);
+            if (session != null) {
+                return session;
+            }
+        }
+    }
+
+    /**
+     * Starts a new session if the pool is not yet full. The slot is reserved under the lock,
+     * but the browser is started outside it so several browsers can launch at once.
+     *
+     * @return The new session, or null if every slot is taken
+     */
+    private BrowserSession startSession() {
+        int id;
+        sessionsLock.lock();
+        try {
+            if (reserved >= size) {
+                return null;
+            }
+            id = ++reserved;
+        } finally {
+            sessionsLock.unlock();
+        }
+
+        BrowserSession session;
+        try {
+            session = new BrowserSession(id, driverFactory.apply(id));
+        } catch (RuntimeException e) {
+            sessionsLock.lock();
+            try {
+                reserved--;
+            } finally {
+                sessionsLock.unlock();
+            }
+            throw e;
+        }
+
+        sessionsLock.lock();
+        try {
+            allSessions.add(session);
+        } finally {
+            sessionsLock.unlock();
+        }
+        System.out.println("Started browser session " + session.getId() + " of " + size);
+        return session;
+    }
+
+    /**
+     * Waits for queued tasks to finish and closes every browser session
+     */
+    @Override
+    public void close() {
+        try {
+            scope.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scope.close();
+
+        sessionsLock.lock();
+        try {
+            for (BrowserSession session : allSessions) {
+                session.close();
+            }
+            allSessions.clear();
+        } finally {
+            sessionsLock.unlock();
+        }
+        idleSessions.clear();
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.easy;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Finds the chromedriver binary without putting WebDriverManager on every launch's critical path.
+ *
+ * The driver WebDriverManager resolves is pinned in chromedriver.properties in the data
+ * directory, and later launches reuse that path without any version lookup or network access.
+ * Resolution starts on a virtual thread as soon as the workflow starts, so it overlaps with
+ * loading the configuration and run state; browsers are started once it completes.
+ * If Chrome refuses the pinned driver after a browser update, the pin is dropped and the
+ * driver is resolved again.
+ */
+public class DriverResolver {
+
+    private static final String CACHE_FILE = "chromedriver.properties";
+    private static final String DRIVER_PROPERTY = "webdriver.chrome.driver";
+
+    private static CompletableFuture<String> resolution;
+
+    /**
+     * Starts resolving the driver in the background, once per JVM
+     *
+     * @return Future holding the path of the driver binary
+     */
+    public static synchronized CompletableFuture<String> resolveAsync() {
+        if (resolution == null) {
+            resolution = new CompletableFuture<>();
+            CompletableFuture<String> pending = resolution;
+            Thread.ofVirtual().name("driver-resolver").start(() -> {
+                try {
+                    pending.complete(resolve());
+                } catch (Exception e) {
+                    pending.completeExceptionally(e);
+                }
+            });
+        }
+        return resolution;
+    }
+
+    /**
+     * Resolves the driver, or waits for the background resolution to finish
+     *
+     * @return Path of the driver binary
+     * @throws IllegalStateException If no driver could be found
+     */
+    public static String setup() {
+        try {
+            return resolveAsync().join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Could not set up chromedriver: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Drops the pinned driver after Chrome refused it and resolves a matching one.
+     * When several browsers fail at once, only the first caller resolves again.
+     *
+     * @param failedPath Driver path the failed browser was started with
+     * @return Path of the driver to retry with
+     */
+    public static synchronized String refresh(String failedPath) {
+        String current = System.getProperty(DRIVER_PROPERTY);
+        if (current != null && !current.equals(failedPath)) {
+            return current;
+        }
+
+        System.out.println("Chrome did not accept the pinned chromedriver. Resolving it again...");
+        try {
+            Files.deleteIfExists(cacheFile());
+        } catch (IOException e) {
+            System.err.println("Warning: Could not remove " + cacheFile() + ": " + e.getMessage());
+        }
+        String path = download();
+        resolution = CompletableFuture.completedFuture(path);
+        return path;
+    }
+
+    /**
+     * Uses an explicitly configured or pinned driver if there is one, otherwise asks WebDriverManager
+     */
+    private static String resolve() {
+        String explicit = System.getProperty(DRIVER_PROPERTY);
+        if (explicit != null) {
+            return explicit;
+        }
+
+        String configured = LinkedInConfigLoader.getDriverPath();
+        if (!configured.isEmpty()) {
+            System.setProperty(DRIVER_PROPERTY, configured);
+            System.out.println("Using configured chromedriver: " + configured);
+            return configured;
+        }
+
+        Properties pinned = readCache();
+        String path = pinned.getProperty("path");
+        if (path != null && Files.isExecutable(Paths.get(path))) {
+            System.setProperty(DRIVER_PROPERTY, path);
+            System.out.println("Using pinned chromedriver " + pinned.getProperty("version", "") + ": " + path);
+            return path;
+        }
+
+        return download();
+    }
+
+    /**
+     * Resolves the driver with WebDriverManager, which may need the network, and pins the result
+     */
+    private static String download() {
+        long start = System.currentTimeMillis();
+        WebDriverManager manager = WebDriverManager.chromedriver();
+        String version = LinkedInConfigLoader.getDriverVersion();
+        if (!version.isEmpty()) {
+            manager.driverVersion(version);
+        }
+        manager.setup();
+
+        String path = manager.getDownloadedDriverPath();
+        System.setProperty(DRIVER_PROPERTY, path);
+        System.out.println("Resolved chromedriver " + manager.getDownloadedDriverVersion() + " in "
+            + (System.currentTimeMillis() - start) + " ms: " + path);
+
+        Properties pinned = new Properties();
+        pinned.setProperty("path", path);
+        pinned.setProperty("version", String.valueOf(manager.getDownloadedDriverVersion()));
+        pinned.setProperty("resolvedAt", Instant.now().toString());
+        try (OutputStream output = Files.newOutputStream(cacheFile())) {
+            pinned.store(output, "Pinned chromedriver; delete this file to resolve the driver again");
+        } catch (IOException e) {
+            System.err.println("Warning: Could not pin chromedriver: " + e.getMessage());
+        }
+        return path;
+    }
+
+    private static Properties readCache() {
+        Properties pinned = new Properties();
+        Path file = cacheFile();
+        if (Files.exists(file)) {
+            try (InputStream input = Files.newInputStream(file)) {
+                pinned.load(input);
+            } catch (IOException e) {
+                System.err.println("Warning: Could not read " + file + ": " + e.getMessage());
+            }
+        }
+        return pinned;
+    }
+
+    private static Path cacheFile() {
+        return LinkedInConfigLoader.getDataPath(CACHE_FILE);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.easy;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Spring Boot entry point. Starts the application context, which serves the workflow's
+ * metrics through Actuator at /actuator/metrics, then runs the LinkedIn workflow.
+ * The context stays up after the run so the metrics can still be inspected.
+ */
+@SpringBootApplication
+public class EasyApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(EasyApplication.class, args);
+        LinkedInWorkflow.main(args);
+    }
+}
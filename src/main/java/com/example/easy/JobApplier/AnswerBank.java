@@ -0,0 +1,391 @@
+package com.example.easy.JobApplier;
+
+import com.example.easy.WorkflowMetrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Maps the label of an Easy Apply form field to a stored answer.
+ *
+ * Labels are normalized before they are compared: camelCase property names are split
+ * into words, everything is lower-cased, punctuation is dropped and so are stop words
+ * such as "what", "your" or "please". "firstName", "First name" and "What is your first
+ * name?" all become "first name".
+ *
+ * A lookup tries the normalized label as a whole first. Otherwise each of its words is
+ * looked up in an index from word to answers, matching whole words, then words it is a
+ * prefix of ("exp" for "experience"), then words within one or two edits of it
+ * ("adress" for "address"). The answer sharing the most words with the label wins,
+ * provided the overlap is large enough (Dice coefficient of at least {@link #MIN_SIMILARITY})
+ * and every specific word on either side is matched. Only words that shape a question
+ * rather than say what it is about ("years", "experience", "level") may go unmatched, so
+ * "Years of experience with Python" never takes the answer saved for Java; such a field
+ * gets no answer and a required one is parked for the user.
+ * A lookup only touches the answers sharing a word with the label, so it stays well
+ * under a millisecond with thousands of stored answers. Typos are found through an index
+ * of every word with one or two letters deleted: the label word's own deletions are
+ * looked up there, so only words that can be within reach are compared letter by letter.
+ */
+public class AnswerBank {
+
+    /** Overlap below which two labels are considered different questions */
+    static final double MIN_SIMILARITY = 0.6;
+
+    private static final double PREFIX_WEIGHT = 0.8;
+    private static final double FUZZY_WEIGHT = 0.6;
+
+    /** Shortest word looked up by prefix or with typos; shorter ones only match whole words */
+    private static final int MIN_PARTIAL_LENGTH = 3;
+
+    private static final String METRIC_NAME = "answer_bank";
+
+    /** Words that shape a question without saying what it is about; they need no counterpart */
+    private static final Set<String> GENERIC_WORDS = Set.of(
+        "years", "year", "experience", "experienced", "work", "working", "many", "much", "long", "level",
+        "number", "total", "professional", "hands", "current", "currently", "address", "mobile", "city");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "can", "do", "does", "for", "from", "have", "has",
+        "how", "i", "if", "in", "is", "it", "me", "my", "of", "on", "or", "please", "provide", "enter",
+        "select", "that", "the", "this", "to", "us", "was", "we", "what", "which", "will", "with", "you", "your");
+
+    /**
+     * A stored answer
+     *
+     * @param key Key the answer is saved under, e.g. "firstName" or a question label
+     * @param answer The answer
+     * @param similarity How closely the looked-up label matched the key, 1.0 for the same normalized label
+     */
+    public record Match(String key, String answer, double similarity) {
+    }
+
+    private record Entry(String key, String answer, String[] tokens) {
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<String, Integer> byLabel = new HashMap<>();
+    // Sorted, so all words starting with a prefix are one sub-map
+    private final NavigableMap<String, List<Integer>> byToken = new TreeMap<>();
+    // Each word of byToken with up to two letters deleted, to the words it was made from
+    private final Map<String, List<String>> byDeletion = new HashMap<>();
+
+    // Lookups run in parallel; only learning a new answer excludes them
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Stores an answer, replacing any answer stored under the same normalized label
+     *
+     * @param key Property name or question label
+     * @param answer The answer
+     */
+    public void put(String key, String answer) {
+        String label = normalize(key);
+        if (label.isEmpty() || answer == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = byLabel.get(label);
+            if (existing != null) {
+                entries.set(existing, new Entry(key, answer, entries.get(existing).tokens()));
+                return;
+            }
+            int id = entries.size();
+            String[] tokens = label.split(" ");
+            entries.add(new Entry(key, answer, tokens));
+            byLabel.put(label, id);
+            for (String token : tokens) {
+                List<Integer> ids = byToken.get(token);
+                if (ids == null) {
+                    ids = new ArrayList<>(2);
+                    byToken.put(token, ids);
+                    indexDeletions(token);
+                }
+                ids.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up the answer for a form field
+     *
+     * @param key Property name the field is saved under, or null if it has none
+     * @param labelText Label shown on the form
+     * @return The closest stored answer, or null if none is close enough
+     */
+    public Match find(String key, String labelText) {
+        Match match = null;
+        if (key != null) {
+            match = findExact(normalize(key));
+        }
+        if (match == null) {
+            match = find(labelText);
+        } else {
+            WorkflowMetrics.countCacheLookup(METRIC_NAME, "exact");
+        }
+        return match;
+    }
+
+    /**
+     * Looks up the answer for a form field label
+     *
+     * @param labelText Label shown on the form
+     * @return The closest stored answer, or null if none is close enough
+     */
+    public Match find(String labelText) {
+        String label = normalize(labelText);
+        Match match = label.isEmpty() ? null : findExact(label);
+        if (match != null) {
+            WorkflowMetrics.countCacheLookup(METRIC_NAME, "exact");
+            return match;
+        }
+
+        match = label.isEmpty() ? null : findSimilar(label.split(" "));
+        WorkflowMetrics.countCacheLookup(METRIC_NAME, match != null ? "indexed" : "miss");
+        return match;
+    }
+
+    /**
+     * Returns the number of stored answers
+     *
+     * @return Number of answers
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Match findExact(String label) {
+        lock.readLock().lock();
+        try {
+            Integer id = byLabel.get(label);
+            if (id == null) {
+                return null;
+            }
+            Entry entry = entries.get(id);
+            return new Match(entry.key(), entry.answer(), 1.0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Match findSimilar(String[] tokens) {
+        lock.readLock().lock();
+        try {
+            // Weight of the best match of each label word, per answer sharing a word with the label
+            Map<Integer, double[]> weights = new HashMap<>();
+            for (int i = 0; i < tokens.length; i++) {
+                String token = tokens[i];
+                if (!collect(weights, tokens.length, i, byToken.get(token), 1.0) && token.length() >= MIN_PARTIAL_LENGTH) {
+                    boolean found = false;
+                    for (Map.Entry<String, List<Integer>> prefixed : byToken.subMap(token, false, token + Character.MAX_VALUE, false).entrySet()) {
+                        found |= collect(weights, tokens.length, i, prefixed.getValue(), PREFIX_WEIGHT);
+                    }
+                    if (!found) {
+                        collectFuzzy(weights, tokens.length, i, token);
+                    }
+                }
+            }
+
+            Entry best = null;
+            double bestSimilarity = 0;
+            for (Map.Entry<Integer, double[]> candidate : weights.entrySet()) {
+                Entry entry = entries.get(candidate.getKey());
+                double shared = 0;
+                for (double weight : candidate.getValue()) {
+                    shared += weight;
+                }
+                double similarity = 2 * shared / (tokens.length + entry.tokens().length);
+                if (similarity > bestSimilarity && coversSpecificWords(tokens, candidate.getValue(), entry.tokens())) {
+                    best = entry;
+                    bestSimilarity = similarity;
+                }
+            }
+            return best != null && bestSimilarity >= MIN_SIMILARITY ? new Match(best.key(), best.answer(), bestSimilarity) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Checks that every specific word of the label found a counterpart in the answer's key,
+     * and every specific word of the key one in the label
+     *
+     * @param tokens Label words
+     * @param perToken Weight of the best match of each label word in the key, 0 if none
+     * @param keyTokens Words of the answer's key
+     */
+    private static boolean coversSpecificWords(String[] tokens, double[] perToken, String[] keyTokens) {
+        for (int i = 0; i < tokens.length; i++) {
+            if (perToken[i] == 0 && !GENERIC_WORDS.contains(tokens[i])) {
+                return false;
+            }
+        }
+        for (String keyToken : keyTokens) {
+            if (!GENERIC_WORDS.contains(keyToken) && !matchesAny(keyToken, tokens)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a word of an answer's key is matched by a label word in the same
+     * way the index matches them: whole, by prefix or within a few edits
+     */
+    private static boolean matchesAny(String word, String[] tokens) {
+        for (String token : tokens) {
+            if (word.equals(token)) {
+                return true;
+            }
+            if (token.length() >= MIN_PARTIAL_LENGTH && word.length() >= MIN_PARTIAL_LENGTH) {
+                int maxEdits = maxEdits(token.length());
+                if (word.startsWith(token) || editDistance(token, word, maxEdits) <= maxEdits) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Credits label word i to every answer in the postings list, keeping its best weight per answer
+     *
+     * @return true if the list had any answers
+     */
+    private static boolean collect(Map<Integer, double[]> weights, int tokenCount, int i, List<Integer> ids, double weight) {
+        if (ids == null || ids.isEmpty()) {
+            return false;
+        }
+        for (int id : ids) {
+            double[] perToken = weights.computeIfAbsent(id, k -> new double[tokenCount]);
+            perToken[i] = Math.max(perToken[i], weight);
+        }
+        return true;
+    }
+
+    /**
+     * Credits label word i to the answers containing a word within a small edit distance of it.
+     * Two words within d edits share a string both reach by deleting at most d letters, so only
+     * the words found under the label word's own deletions are compared.
+     */
+    private void collectFuzzy(Map<Integer, double[]> weights, int tokenCount, int i, String token) {
+        int maxEdits = maxEdits(token.length());
+        Set<String> variants = new HashSet<>();
+        deletions(token, maxEdits, variants);
+        Set<String> candidates = new HashSet<>();
+        for (String variant : variants) {
+            List<String> words = byDeletion.get(variant);
+            if (words != null) {
+                candidates.addAll(words);
+            }
+        }
+        for (String word : candidates) {
+            if (editDistance(token, word, maxEdits) <= maxEdits) {
+                collect(weights, tokenCount, i, byToken.get(word), FUZZY_WEIGHT);
+            }
+        }
+    }
+
+    /**
+     * Adds a new word of byToken to the deletion index. A word is deleted as deep as the
+     * longest label word it can be compared with allows, which is at most two letters longer.
+     */
+    private void indexDeletions(String word) {
+        if (word.length() < MIN_PARTIAL_LENGTH) {
+            return;
+        }
+        Set<String> variants = new HashSet<>();
+        deletions(word, maxEdits(word.length() + 2), variants);
+        for (String variant : variants) {
+            byDeletion.computeIfAbsent(variant, v -> new ArrayList<>(1)).add(word);
+        }
+    }
+
+    /**
+     * Adds the word and every string made by deleting up to the given number of letters from it
+     */
+    private static void deletions(String word, int depth, Set<String> variants) {
+        if (!variants.add(word) || depth == 0) {
+            return;
+        }
+        for (int k = 0; k < word.length(); k++) {
+            deletions(word.substring(0, k) + word.substring(k + 1), depth - 1, variants);
+        }
+    }
+
+    /**
+     * Number of typos tolerated in a word of the given length
+     */
+    private static int maxEdits(int length) {
+        return length > 7 ? 2 : 1;
+    }
+
+    /**
+     * Levenshtein distance between two words, giving up once it exceeds a bound
+     *
+     * @return The distance, or bound + 1 if it is larger than the bound
+     */
+    static int editDistance(String a, String b, int bound) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > bound) {
+                return bound + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], bound + 1);
+    }
+
+    /**
+     * Normalizes a property name or label: words split at camelCase and punctuation,
+     * lower-cased, without stop words, separated by single spaces
+     *
+     * @param text Property name or label text, may be null
+     * @return Normalized label, empty if nothing is left
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String spaced = text.replaceAll("([a-z0-9])([A-Z])", "$1 $2").toLowerCase();
+        StringBuilder label = new StringBuilder();
+        for (String word : spaced.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty() && !STOP_WORDS.contains(word)) {
+                if (label.length() > 0) {
+                    label.append(' ');
+                }
+                label.append(word);
+            }
+        }
+        return label.toString();
+    }
+}
@@ -0,0 +1,320 @@
+package com.example.easy.JobApplier;
+
+import com.example.easy.LinkedInConfigLoader;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Embedded, file-based history of every job the workflow has visited or applied to.
+ * Records are appended to a JSON-lines file and replayed into memory at startup, where
+ * they are indexed by job ID, company and status. Writes update the indexes immediately
+ * and are appended to disk in batches by a background writer, so recording an outcome
+ * never blocks the browser loop.
+ */
+public class ApplicationHistoryStore implements AutoCloseable {
+
+    private static final String DEFAULT_HISTORY_PATH = "application_history.jsonl";
+
+    /** Maximum number of records appended in one batch */
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private final Gson gson = new Gson();
+    private final Path path;
+    private final Map<String, ApplicationRecord> byJobId = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byCompany = new ConcurrentHashMap<>();
+    private final Map<JobHarvester.Outcome, Set<String>> byStatus = new ConcurrentHashMap<>();
+    private final BlockingQueue<ApplicationRecord> pendingWrites = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean closed = false;
+    private int linesOnDisk = 0;
+
+    /**
+     * A job as recorded in the history. Timestamps are epoch milliseconds.
+     *
+     * @param jobId LinkedIn job ID
+     * @param url URL of the job posting
+     * @param company Company name, if known
+     * @param title Job title, if known
+     * @param firstSeen When the job was first recorded
+     * @param lastUpdated When the job's status last changed
+     * @param status Outcome of the most recent attempt
+     */
+    public record ApplicationRecord(String jobId, String url, String company, String title,
+                                    long firstSeen, long lastUpdated, JobHarvester.Outcome status) {
+    }
+
+    /**
+     * Opens the history store at the default location
+     *
+     * @return The opened store
+     */
+    public static ApplicationHistoryStore open() {
+        return new ApplicationHistoryStore(LinkedInConfigLoader.getDataPath(DEFAULT_HISTORY_PATH));
+    }
+
+    /**
+     * Opens the history store backed by the given file, replaying any existing records
+     *
+     * @param path JSON-lines history file
+     */
+    public ApplicationHistoryStore(Path path) {
+        this.path = path;
+        load();
+        this.writer = Thread.ofVirtual().name("application-history-writer").start(this::writeLoop);
+    }
+
+    /**
+     * Looks up a job by its ID
+     *
+     * @param jobId LinkedIn job ID
+     * @return The job's record, or null if it has never been recorded
+     */
+    public ApplicationRecord find(String jobId) {
+        return jobId == null ? null : byJobId.get(jobId);
+    }
+
+    /**
+     * Returns every recorded job for a company
+     *
+     * @param company Company name (case-insensitive)
+     * @return Matching records
+     */
+    public List<ApplicationRecord> findByCompany(String company) {
+        return lookup(byCompany.get(companyKey(company)));
+    }
+
+    /**
+     * Returns every recorded job whose latest outcome is the given status
+     *
+     * @param status Outcome to look for
+     * @return Matching records
+     */
+    public List<ApplicationRecord> findByStatus(JobHarvester.Outcome status) {
+        return lookup(byStatus.get(status));
+    }
+
+    /**
+     * Checks whether a job has already been handled and should not be opened again.
+     * Jobs that errored, whose form could not be filled, whose Easy Apply could not be
+     * started or that are waiting for answers are retried.
+     *
+     * @param jobId LinkedIn job ID
+     * @return true if the job should be skipped
+     */
+    public boolean isAlreadyHandled(String jobId) {
+        ApplicationRecord record = find(jobId);
+        if (record == null) {
+            return false;
+        }
+        return record.status() == JobHarvester.Outcome.SUBMITTED
+            || record.status() == JobHarvester.Outcome.READY_TO_SUBMIT
+            || record.status() == JobHarvester.Outcome.CONTACT_INFO_COMPLETED
+            || record.status() == JobHarvester.Outcome.NOT_EASY_APPLY;
+    }
+
+    /**
+     * Records the latest outcome for a job. The in-memory indexes are updated
+     * immediately; the disk write happens in the background.
+     *
+     * @param jobId LinkedIn job ID
+     * @param url URL of the job posting
+     * @param company Company name, may be null
+     * @param title Job title, may be null
+     * @param status Outcome of the attempt
+     */
+    public void record(String jobId, String url, String company, String title, JobHarvester.Outcome status) {
+        if (jobId == null || closed) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        // The indexes and the write queue are updated under the job's entry lock, so two sessions
+        // recording the same job cannot leave it in two status sets or write its lines out of order
+        byJobId.compute(jobId, (id, previous) -> {
+            ApplicationRecord updated = new ApplicationRecord(
+                id,
+                url != null ? url : previous != null ? previous.url() : null,
+                company != null ? company : previous != null ? previous.company() : null,
+                title != null ? title : previous != null ? previous.title() : null,
+                previous != null ? previous.firstSeen() : now,
+                now,
+                status);
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(updated);
+            pendingWrites.offer(updated);
+            return updated;
+        });
+    }
+
+    /**
+     * Flushes pending writes, compacts the file and stops the background writer
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        compact();
+    }
+
+    /**
+     * Background loop that appends queued records to the file in batches
+     */
+    private void writeLoop() {
+        List<ApplicationRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (!closed || !pendingWrites.isEmpty()) {
+            try {
+                ApplicationRecord first = pendingWrites.poll(250, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                pendingWrites.drainTo(batch, MAX_BATCH_SIZE - 1);
+                append(batch);
+            } catch (InterruptedException e) {
+                // Keep draining until the store is closed
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Appends a batch of records with a single write and flush
+     */
+    private void append(List<ApplicationRecord> batch) {
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (ApplicationRecord record : batch) {
+                out.write(gson.toJson(record));
+                out.newLine();
+            }
+            linesOnDisk += batch.size();
+        } catch (IOException e) {
+            System.err.println("Warning: Could not write application history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replays the history file into memory. Later lines for the same job win.
+     */
+    private void load() {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        try (BufferedReader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                linesOnDisk++;
+                try {
+                    ApplicationRecord record = gson.fromJson(line, ApplicationRecord.class);
+                    if (record != null && record.jobId() != null) {
+                        ApplicationRecord previous = byJobId.put(record.jobId(), record);
+                        if (previous != null) {
+                            unindex(previous);
+                        }
+                        index(record);
+                    }
+                } catch (JsonParseException e) {
+                    System.err.println("Warning: Skipping corrupt application history line: " + e.getMessage());
+                }
+            }
+            System.out.println("Application history loaded: " + byJobId.size() + " jobs from " + path.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Warning: Could not load application history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rewrites the file with one line per job when superseded lines pile up.
+     * The new file is written alongside and moved into place atomically.
+     */
+    private void compact() {
+        if (linesOnDisk <= byJobId.size() * 2) {
+            return;
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (ApplicationRecord record : byJobId.values()) {
+                out.write(gson.toJson(record));
+                out.newLine();
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Could not compact application history: " + e.getMessage());
+            return;
+        }
+
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            linesOnDisk = byJobId.size();
+        } catch (IOException e) {
+            System.err.println("Warning: Could not replace application history: " + e.getMessage());
+        }
+    }
+
+    private void index(ApplicationRecord record) {
+        byStatus.computeIfAbsent(record.status(), s -> ConcurrentHashMap.newKeySet()).add(record.jobId());
+        if (record.company() != null) {
+            byCompany.computeIfAbsent(companyKey(record.company()), c -> ConcurrentHashMap.newKeySet()).add(record.jobId());
+        }
+    }
+
+    private void unindex(ApplicationRecord record) {
+        Set<String> statusIds = byStatus.get(record.status());
+        if (statusIds != null) {
+            statusIds.remove(record.jobId());
+        }
+        if (record.company() != null) {
+            Set<String> companyIds = byCompany.get(companyKey(record.company()));
+            if (companyIds != null) {
+                companyIds.remove(record.jobId());
+            }
+        }
+    }
+
+    private List<ApplicationRecord> lookup(Set<String> ids) {
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+        List<ApplicationRecord> records = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            ApplicationRecord record = byJobId.get(id);
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private static String companyKey(String company) {
+        return company == null ? "" : company.trim().toLowerCase();
+    }
+}
@@ -3,19 +3,23 @@ package com.example.easy.JobApplier;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.JavascriptExecutor;
 
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import com.example.easy.LinkedInConfigLoader;
+import com.example.easy.Pacing;
+import com.example.easy.PageReadiness;
+import com.example.easy.ScreenshotService;
+import com.example.easy.SelectorResolver;
+import com.example.easy.WorkflowMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Properties;
-import java.util.Random;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.Scanner;
+import java.util.Set;
 
 /**
  * Handles the contact information section of LinkedIn's Easy Apply process.
@@ -24,11 +28,19 @@ import java.util.Scanner;
  */
 public class ContactInfo {
     
-    private static final String USER_INFO_FILE = "src/main/resources/user_info.properties";
-    private static final Random random = new Random();
-    private Properties userInfo;
+    // Index over the saved user information, so form labels find answers saved under other names
+    private static AnswerBank answers;
+    
+    // Console input is shared by every browser session; prompts are serialized on this lock.
+    // A ReentrantLock lets virtual threads waiting for the console unmount instead of pinning.
+    private static final ReentrantLock CONSOLE_LOCK = new ReentrantLock();
+    private static Scanner scanner;
+    
     private final WebDriver driver;
-    private Scanner scanner; // Single scanner instance for the class
+    
+    // Job whose application is open, and how many of its questions were parked for the user
+    private String currentJobId;
+    private int parkedQuestions;
     
     /**
      * Constructor initializes the contact info handler with a WebDriver instance
@@ -38,196 +50,264 @@ public class ContactInfo {
      */
     public ContactInfo(WebDriver driver) {
         this.driver = driver;
-        userInfo = loadUserInfo();
-        this.scanner = new Scanner(System.in); // Initialize scanner
+        loadAnswers();
+    }
+    
+    /**
+     * Loads the saved user information and indexes it, once for all sessions.
+     * Questions answered from the command line since the last run are learned on the way.
+     */
+    private static synchronized void loadAnswers() {
+        if (answers != null) {
+            return;
+        }
+        UserInfoStore userInfo = UserInfoStore.get();
+        answers = new AnswerBank();
+        for (Map.Entry<String, String> entry : userInfo.entries().entrySet()) {
+            answers.put(entry.getKey(), entry.getValue());
+        }
+        
+        for (PendingQuestions.Question question : PendingQuestions.get().answered()) {
+            userInfo.put(question.key(), question.answer());
+            answers.put(question.key(), question.answer());
+        }
+    }
+    
+    /**
+     * Reads every job card on the current results page in a single script call.
+     * 
+     * @return Job cards in page order, empty if none were found
+     */
+    public List<JobCard> getJobCards() {
+        return JobCardExtractor.extract(driver);
+    }
+    
+    /**
+     * Clicks on a job card from the search results and waits for its details,
+     * without starting the application yet.
+     * 
+     * @param card Job card read from the current results page
+     * @return true if the job's details are shown
+     * @throws Exception if any errors occur
+     */
+    public boolean clickJob(JobCard card) throws Exception {
+        currentJobId = card.jobId();
+        parkedQuestions = 0;
+        boolean opened = false;
+        try {
+            opened = WorkflowMetrics.time("click_job", () -> showJob(card));
+            return opened;
+        } finally {
+            if (!opened) {
+                ScreenshotService.saveTrail(driver, "click_job");
+            }
+        }
+    }
+    
+    /**
+     * Opens a job's own page without starting the application yet, e.g. to retry a job
+     * that was parked on a question.
+     * 
+     * @param jobId LinkedIn job ID
+     * @return true once the job's details are shown
+     * @throws Exception if any errors occur
+     */
+    public boolean openJob(String jobId) throws Exception {
+        currentJobId = jobId;
+        parkedQuestions = 0;
+        return WorkflowMetrics.time("open_job", () -> {
+            System.out.println("Opening job " + jobId + "...");
+            driver.navigate().to(LinkedInConfigLoader.getUrl("/jobs/view/" + jobId + "/"));
+            PageReadiness.awaitJobDetails(driver, jobId);
+            return true;
+        });
     }
     
     /**
-     * Clicks on the first job in the search results and then 
-     * clicks the Easy Apply button.
+     * Clicks the Easy Apply button of the job shown by {@link #clickJob(JobCard)} or
+     * {@link #openJob(String)} and waits for the application form.
      * 
      * @return true if successfully started the Easy Apply process
      * @throws Exception if any errors occur
      */
-    public boolean clickFirstJobAndApply() throws Exception {
-        System.out.println("Attempting to click on first job listing...");
-        
+    public boolean startEasyApply() throws Exception {
+        boolean started = false;
         try {
-            // Wait for job results to load - we'll use this implicitly with WebElements
-            
-            // Different selectors for job listings
-            List<By> jobSelectors = List.of(
-                By.cssSelector(".job-card-container"),
-                By.cssSelector(".jobs-search-results__list-item"),
-                By.xpath("//li[contains(@class, 'jobs-search-results__list-item')]"),
-                By.xpath("//div[contains(@class, 'job-card-container')]")
-            );
-            
-            // Try each selector until we find one that works
-            WebElement firstJob = null;
-            for (By selector : jobSelectors) {
-                List<WebElement> jobs = driver.findElements(selector);
-                if (!jobs.isEmpty()) {
-                    firstJob = jobs.get(0);
-                    break;
-                }
+            started = WorkflowMetrics.time("click_easy_apply", () -> {
+                // Look over the job like a person would before applying
+                Pacing.pause(1000, 2000);
+                return clickEasyApply();
+            });
+            return started;
+        } finally {
+            if (!started) {
+                ScreenshotService.saveTrail(driver, "click_easy_apply");
             }
-            
-            if (firstJob == null) {
-                System.out.println("No job listings found. Taking screenshot for debugging.");
-                takeScreenshot(driver, "no_job_listings.png");
+        }
+    }
+    
+    /**
+     * Checks whether questions of the current application were parked for the user,
+     * so the application cannot be completed until they are answered
+     * 
+     * @return true if the job is awaiting input
+     */
+    public boolean isAwaitingInput() {
+        return parkedQuestions > 0;
+    }
+    
+    /**
+     * Clicks the job card and waits for its details; timed by {@link #clickJob(JobCard)}.
+     */
+    private boolean showJob(JobCard card) throws Exception {
+        System.out.println("Attempting to click on job listing #" + (card.index() + 1) + "...");
+        
+        try {
+            WebElement job = JobCardExtractor.findElement(driver, card);
+            if (job == null) {
+                System.out.println("No job listing found at position " + (card.index() + 1) + ". Taking screenshot for debugging.");
+                ScreenshotService.capture(driver, "no_job_listings.png");
                 return false;
             }
             
-            // Click on the first job
-            System.out.println("Found first job listing. Clicking...");
-            humanClick(firstJob);
+            // Click on the job card
+            System.out.println("Found job listing. Clicking...");
+            humanClick(job);
             
-            // Wait for job details to load
-            Thread.sleep(2000 + random.nextInt(1000));
+            // Wait until the details pane shows this job
+            PageReadiness.awaitJobDetails(driver, card.jobId());
             
             // Take a screenshot of the job details page for debugging
-            takeScreenshot(driver, "job_details_page.png");
+            ScreenshotService.capture(driver, "job_details_page.png");
             System.out.println("Taking screenshot of job details page to help debugging");
             
-            // Allow more time for the page to load completely
-            Thread.sleep(3000 + random.nextInt(2000));
-            
-            // Look for Easy Apply button with more comprehensive selectors
-            List<By> easyApplySelectors = List.of(
-                // Specific to the button seen in the screenshot
-                By.cssSelector("button.artdeco-button--primary:has(span:contains('Easy Apply'))"),
-                By.cssSelector(".jobs-apply-button"),
-                By.cssSelector("button[data-control-name='jobdetails_topcard_inapply']"),
-                // Based on the surrounding HTML structure
-                By.xpath("//div[contains(@class, 'jobs-unified-top-card')]//button[contains(., 'Easy Apply')]"),
-                By.xpath("//div[contains(@class, 'jobs-details-top-card')]//button[contains(., 'Easy Apply')]"),
-                // With LinkedIn logo
-                By.xpath("//button[.//li-icon and contains(., 'Easy Apply')]"),
-                // Text-based selectors
-                By.xpath("//button[contains(.,'Easy Apply')]"),
-                By.xpath("//span[text()='Easy Apply']/ancestor::button"),
-                // More generic
-                By.cssSelector("button.artdeco-button--primary"),
-                By.xpath("//div[contains(@class, 'jobs-s-apply')]//button"),
-                // Absolute last resort
-                By.xpath("//button[contains(@id, 'apply')]"),
-                By.xpath("//button[contains(@class, 'apply')]"),
-                By.xpath("//a[contains(@class, 'apply')]")
-            );
-            
-            // Try each selector until we find the Easy Apply button
-            WebElement easyApplyButton = null;
-            for (By selector : easyApplySelectors) {
-                try {
-                    List<WebElement> buttons = driver.findElements(selector);
-                    if (!buttons.isEmpty()) {
-                        for (WebElement button : buttons) {
-                            if (button.isDisplayed()) {
-                                System.out.println("Found Easy Apply button with selector: " + selector.toString());
-                                easyApplyButton = button;
-                                break;
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    // Log the exception but continue trying other selectors
-                    System.out.println("Error with selector " + selector.toString() + ": " + e.getMessage());
-                }
-                if (easyApplyButton != null) break;
-            }
-            
-            // If Easy Apply button is still not found, try a more aggressive approach
-            if (easyApplyButton == null) {
-                System.out.println("Standard selectors failed, trying to find any visible apply button...");
-                // Find all buttons on the page
-                List<WebElement> allButtons = driver.findElements(By.tagName("button"));
-                for (WebElement button : allButtons) {
-                    try {
-                        if (button.isDisplayed()) {
-                            String buttonText = button.getText().toLowerCase();
-                            if (buttonText.contains("apply")) {
-                                System.out.println("Found button with 'apply' text: " + buttonText);
-                                easyApplyButton = button;
-                                break;
-                            }
-                        }
-                    } catch (Exception e) {
-                        // Ignore and continue
-                    }
-                }
-            }
+            return true;
             
-            if (easyApplyButton == null) {
-                System.out.println("Easy Apply button not found. Taking screenshot for debugging.");
-                takeScreenshot(driver, "easy_apply_not_found.png");
-                System.out.println("The Easy Apply button should be present above the job description.");
-                System.out.println("Please check the screenshot to see what might have gone wrong.");
-                return false;
+        } catch (Exception e) {
+            System.out.println("Error clicking on job and starting Easy Apply: " + e.getMessage());
+            ScreenshotService.capture(driver, "error_starting_application.png");
+            throw e;
+        }
+    }
+    
+    /**
+     * Finds and clicks the Easy Apply button of the job shown, then waits for the form.
+     */
+    private boolean clickEasyApply() throws Exception {
+        // Look for Easy Apply button with more comprehensive selectors
+        List<By> easyApplySelectors = List.of(
+            By.cssSelector(".jobs-apply-button"),
+            By.cssSelector("button[data-control-name='jobdetails_topcard_inapply']"),
+            // Based on the surrounding HTML structure
+            By.xpath("//div[contains(@class, 'jobs-unified-top-card')]//button[contains(., 'Easy Apply')]"),
+            By.xpath("//div[contains(@class, 'jobs-details-top-card')]//button[contains(., 'Easy Apply')]"),
+            // With LinkedIn logo
+            By.xpath("//button[.//li-icon and contains(., 'Easy Apply')]"),
+            // Text-based selectors
+            By.xpath("//button[contains(.,'Easy Apply')]"),
+            By.xpath("//span[text()='Easy Apply']/ancestor::button")
+        );
+        // Catch-alls match buttons other than Easy Apply, so they stay last whatever their hit rate
+        List<By> fallbackSelectors = List.of(
+            By.cssSelector("button.artdeco-button--primary"),
+            By.xpath("//div[contains(@class, 'jobs-s-apply')]//button"),
+            By.xpath("//button[contains(@id, 'apply')]"),
+            By.xpath("//button[contains(@class, 'apply')]"),
+            By.xpath("//a[contains(@class, 'apply')]")
+        );
+        
+        // Resolve all selectors in one round-trip, most successful specific selectors first
+        WebElement easyApplyButton = null;
+        SelectorResolver.Match easyApplyMatch = SelectorResolver.resolve(driver, "easy-apply", easyApplySelectors,
+            fallbackSelectors, false);
+        if (easyApplyMatch != null) {
+            System.out.println("Found Easy Apply button with selector: " + easyApplyMatch.selector());
+            easyApplyButton = easyApplyMatch.element();
+        }
+        
+        // If Easy Apply button is still not found, try a more aggressive approach
+        if (easyApplyButton == null) {
+            System.out.println("Standard selectors failed, trying to find any visible apply button...");
+            // Scan every button in one script call instead of probing each element
+            Object button = ((JavascriptExecutor) driver).executeScript(
+                "var buttons = document.querySelectorAll('button');" +
+                "for (var i = 0; i < buttons.length; i++) {" +
+                "  var b = buttons[i];" +
+                "  if (b.offsetParent !== null && b.innerText.toLowerCase().indexOf('apply') >= 0) return b;" +
+                "}" +
+                "return null;");
+            if (button instanceof WebElement) {
+                easyApplyButton = (WebElement) button;
+                System.out.println("Found button with 'apply' text: " + easyApplyButton.getText().toLowerCase());
             }
-            
-            // Click the Easy Apply button
-            System.out.println("Found Easy Apply button. Clicking...");
-            takeScreenshot(driver, "before_click_easy_apply.png");
-            
-            // Try multiple approaches to click the button
-            boolean clickSuccess = false;
-            
+        }
+        
+        if (easyApplyButton == null) {
+            System.out.println("Easy Apply button not found. Taking screenshot for debugging.");
+            ScreenshotService.capture(driver, "easy_apply_not_found.png");
+            System.out.println("The Easy Apply button should be present above the job description.");
+            System.out.println("Please check the screenshot to see what might have gone wrong.");
+            return false;
+        }
+        
+        // Click the Easy Apply button
+        System.out.println("Found Easy Apply button. Clicking...");
+        ScreenshotService.capture(driver, "before_click_easy_apply.png");
+        
+        // Try multiple approaches to click the button
+        boolean clickSuccess = false;
+        
+        try {
+            // First approach: Scroll and use JavaScript click
+            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", easyApplyButton);
+            Pacing.sleep(1000);
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", easyApplyButton);
+            System.out.println("Clicked Easy Apply button via JavaScript");
+            clickSuccess = true;
+        } catch (Exception e) {
+            System.out.println("First click approach failed: " + e.getMessage());
+        }
+        
+        // Second approach: Try using Actions class if first approach failed
+        if (!clickSuccess) {
             try {
-                // First approach: Scroll and use JavaScript click
-                ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", easyApplyButton);
-                Thread.sleep(1000);
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", easyApplyButton);
-                System.out.println("Clicked Easy Apply button via JavaScript");
+                org.openqa.selenium.interactions.Actions actions = new org.openqa.selenium.interactions.Actions(driver);
+                actions.moveToElement(easyApplyButton).click().build().perform();
+                System.out.println("Clicked Easy Apply button via Actions");
                 clickSuccess = true;
             } catch (Exception e) {
-                System.out.println("First click approach failed: " + e.getMessage());
-            }
-            
-            // Second approach: Try using Actions class if first approach failed
-            if (!clickSuccess) {
-                try {
-                    org.openqa.selenium.interactions.Actions actions = new org.openqa.selenium.interactions.Actions(driver);
-                    actions.moveToElement(easyApplyButton).click().build().perform();
-                    System.out.println("Clicked Easy Apply button via Actions");
-                    clickSuccess = true;
-                } catch (Exception e) {
-                    System.out.println("Second click approach failed: " + e.getMessage());
-                }
-            }
-            
-            // Third approach: Standard click as last resort
-            if (!clickSuccess) {
-                try {
-                    easyApplyButton.click();
-                    System.out.println("Clicked Easy Apply button via standard click");
-                    clickSuccess = true;
-                } catch (Exception e) {
-                    System.out.println("Third click approach failed: " + e.getMessage());
-                }
+                System.out.println("Second click approach failed: " + e.getMessage());
             }
-            
-            if (!clickSuccess) {
-                System.out.println("All click methods failed. Taking screenshot for debugging.");
-                takeScreenshot(driver, "easy_apply_click_failed.png");
-                System.out.println("Could not click on the Easy Apply button despite finding it.");
-                return false;
+        }
+        
+        // Third approach: Standard click as last resort
+        if (!clickSuccess) {
+            try {
+                easyApplyButton.click();
+                System.out.println("Clicked Easy Apply button via standard click");
+                clickSuccess = true;
+            } catch (Exception e) {
+                System.out.println("Third click approach failed: " + e.getMessage());
             }
-            
-            // Wait longer for application form to load
-            System.out.println("Waiting for application form to load...");
-            Thread.sleep(4000 + random.nextInt(2000));
-            
-            // Take a screenshot after clicking Easy Apply
-            takeScreenshot(driver, "after_easy_apply_click.png");
-            
-            return true;
-            
-        } catch (Exception e) {
-            System.out.println("Error clicking on first job and starting Easy Apply: " + e.getMessage());
-            takeScreenshot(driver, "error_starting_application.png");
-            throw e;
         }
+        
+        if (!clickSuccess) {
+            System.out.println("All click methods failed. Taking screenshot for debugging.");
+            ScreenshotService.capture(driver, "easy_apply_click_failed.png");
+            System.out.println("Could not click on the Easy Apply button despite finding it.");
+            return false;
+        }
+        
+        // Wait for the application form to open
+        System.out.println("Waiting for application form to load...");
+        if (!PageReadiness.await(driver, PageReadiness.Condition.EASY_APPLY_MODAL)) {
+            System.out.println("Application form did not appear in time. Continuing with the current page.");
+        }
+        
+        // Take a screenshot after clicking Easy Apply
+        ScreenshotService.capture(driver, "after_easy_apply_click.png");
+        
+        return true;
     }
     
     /**
@@ -238,12 +318,27 @@ public class ContactInfo {
      * @throws Exception if any errors occur
      */
     public boolean handleContactInfo() throws Exception {
+        boolean filled = false;
+        try {
+            filled = WorkflowMetrics.time("handle_contact_info", this::fillContactInfo);
+            return filled;
+        } finally {
+            if (!filled) {
+                ScreenshotService.saveTrail(driver, "handle_contact_info");
+            }
+        }
+    }
+    
+    /**
+     * Fills the contact info form and moves to the next step; timed by {@link #handleContactInfo()}.
+     */
+    private boolean fillContactInfo() throws Exception {
         // Take a screenshot at the beginning of contact info handling
-        takeScreenshot(driver, "contact_info_start.png");
+        ScreenshotService.capture(driver, "contact_info_start.png");
         System.out.println("Starting contact info handling. Taking screenshot for reference.");
         
-        // Wait for form to be fully loaded
-        Thread.sleep(3000);
+        // Wait for the form to be rendered
+        PageReadiness.await(driver, PageReadiness.Condition.EASY_APPLY_MODAL);
         System.out.println("Handling contact information form...");
         
         try {
@@ -270,25 +365,15 @@ public class ContactInfo {
             
             if (!contactInfoPopupFound) {
                 System.out.println("Could not detect contact info popup. Taking screenshot for debugging.");
-                takeScreenshot(driver, "contact_popup_not_found.png");
+                ScreenshotService.capture(driver, "contact_popup_not_found.png");
                 return false;
             }
             
             System.out.println("Contact info form detected. Processing fields...");
-            
-            // Process text fields: First name, Last name, Location
-            processTextField("First name", "firstName");
-            processTextField("Last name", "lastName");
-            processTextField("Location", "location");
-            
-            // Process phone country code dropdown
-            processPhoneCountryCode();
-            
-            // Process email dropdown
-            processEmailDropdown();
+            fillForm();
             
             // Take a screenshot after filling the form
-            takeScreenshot(driver, "contact_info_filled.png");
+            ScreenshotService.capture(driver, "contact_info_filled.png");
             
             // Look for a Next/Continue button to proceed
             List<By> nextButtonSelectors = List.of(
@@ -321,427 +406,403 @@ public class ContactInfo {
                 return true;
             } else {
                 System.out.println("Next button not found. Taking screenshot for debugging.");
-                takeScreenshot(driver, "next_button_not_found.png");
+                ScreenshotService.capture(driver, "next_button_not_found.png");
                 return false;
             }
             
         } catch (Exception e) {
             System.out.println("Error handling contact info: " + e.getMessage());
             e.printStackTrace();
-            takeScreenshot(driver, "error_handling_contact_info.png");
+            ScreenshotService.capture(driver, "error_handling_contact_info.png");
             return false;
         }
     }
     
     /**
-     * Process a text field by finding it, checking if it's empty, and filling it if needed.
+     * Fills the open page of the Easy Apply form without moving on. Every field is read
+     * in one script call by {@link FormSchemaExtractor} and answered from the saved answers,
+     * with its label as the question. Required fields without a saved answer are asked for
+     * or parked, see {@link #isAwaitingInput()}; optional ones are left empty.
      * 
-     * @param labelText The label text to look for
-     * @param propertyName The property name to use in the user info file
      * @throws Exception if any errors occur
      */
-    private void processTextField(String labelText, String propertyName) throws Exception {
-        // Try multiple ways to find the field
-        WebElement field = findInputField(labelText);
+    void fillForm() throws Exception {
+        FormSchemaExtractor.Schema schema = FormSchemaExtractor.extract(driver);
+        System.out.println("Found " + schema.fields().size() + " form fields.");
         
-        if (field != null) {
-            processTextField(field, propertyName, labelText);
-        } else {
-            System.out.println("Could not find " + labelText + " field using standard selectors.");
-            
-            // Try looking for the label as a WebElement and then find its input
-            List<WebElement> labels = driver.findElements(
-                By.xpath("//label[contains(text(), '" + labelText + "')] | //span[contains(text(), '" + labelText + "')]"));
-            
-            if (!labels.isEmpty()) {
-                for (WebElement label : labels) {
-                    if (label.isDisplayed()) {
-                        WebElement associatedInput = findInputForLabel(label);
-                        if (associatedInput != null) {
-                            System.out.println("Found " + labelText + " field using label-input association.");
-                            processTextField(associatedInput, propertyName, labelText);
-                            return;
-                        }
-                    }
-                }
+        for (FormField field : schema.fields()) {
+            if (field.label() == null || field.label().isEmpty()) {
+                continue;
+            }
+            if (field.isFilled()) {
+                System.out.println(field.label() + " is already filled with: " + field.value());
+                continue;
             }
             
-            System.out.println("Could not find " + labelText + " field using any method.");
+            switch (field.type()) {
+                case "select":
+                case "radio":
+                    fillChoice(field, schema.element(field));
+                    break;
+                case "text":
+                case "textarea":
+                case "number":
+                case "tel":
+                case "email":
+                case "url":
+                    fillText(field, schema.element(field));
+                    break;
+                case "checkbox":
+                    fillCheckbox(field, schema.element(field));
+                    break;
+                case "checkbox-group":
+                    fillCheckboxGroup(field, schema.element(field));
+                    break;
+                default:
+                    System.out.println("Skipping " + field.type() + " field: " + field.label());
+                    break;
+            }
         }
     }
     
     /**
-     * Process a text field by checking if it's empty and filling it if needed.
+     * Fill an empty text field with the saved answer, or with one the user gives.
      * 
-     * @param field The WebElement input field to process
-     * @param propertyName The property name to use in the user info file
-     * @param labelText The human-readable label for this field
+     * @param field The field from the form schema
+     * @param element The field's input
      * @throws Exception if any errors occur
      */
-    private void processTextField(WebElement field, String propertyName, String labelText) throws Exception {
-        // Check if the field is already filled
-        String currentValue = field.getDomProperty("value");
+    private void fillText(FormField field, WebElement element) throws Exception {
+        AnswerBank.Match saved = answers.find(field.label());
+        if (saved != null && !saved.answer().trim().isEmpty()) {
+            System.out.println("Using saved value for " + field.label() + " (" + saved.key() + "): " + saved.answer());
+            typeHumanLike(element, saved.answer());
+            return;
+        }
+        if (!field.required()) {
+            System.out.println("No saved value for optional field " + field.label() + ". Leaving it empty.");
+            return;
+        }
         
-        if (currentValue == null || currentValue.trim().isEmpty()) {
-            // Field is empty, we need to fill it
-            String savedValue = userInfo.getProperty(propertyName);
-            
-            if (savedValue != null && !savedValue.trim().isEmpty()) {
-                // We have a saved value, use it
-                System.out.println("Using saved value for " + labelText + ": " + savedValue);
-                typeHumanLike(field, savedValue);
-            } else {
-                // No saved value, ask the user
-                System.out.println("Need to get " + labelText + " from user.");
-                String userValue = askUserForInput(labelText);
-                typeHumanLike(field, userValue);
-                
-                // Save the value for future use
-                userInfo.setProperty(propertyName, userValue);
-                saveUserInfo();
-            }
-        } else {
-            System.out.println(labelText + " is already filled with: " + currentValue);
+        System.out.println("Need to get " + field.label() + " from user.");
+        String userValue = askUserForInput(field.label(), field.label(), List.of());
+        if (userValue == null) {
+            return;
         }
+        typeHumanLike(element, userValue);
+        
+        // Save the value for future use
+        learnAnswer(field.label(), userValue);
     }
     
     /**
-     * Process phone country code dropdown if present.
+     * Answer a dropdown or radio group with the saved answer, or with an option the user picks.
      * 
+     * @param field The field from the form schema
+     * @param element The dropdown, or the container of the radio buttons
      * @throws Exception if any errors occur
      */
-    private void processPhoneCountryCode() throws Exception {
-        // Look for country code dropdown
-        List<By> countryCodeSelectors = List.of(
-            By.xpath("//label[contains(text(), 'Phone country code')]/..//select"),
-            By.xpath("//span[contains(text(), 'country code')]/..//select"),
-            By.xpath("//select[contains(@id, 'phoneCountry')]"),
-            By.xpath("//select[contains(@aria-label, 'country code')]")
-        );
-        
-        // Try each selector until we find the dropdown
-        WebElement countryCodeDropdown = null;
-        for (By selector : countryCodeSelectors) {
-            List<WebElement> dropdowns = driver.findElements(selector);
-            if (!dropdowns.isEmpty()) {
-                countryCodeDropdown = dropdowns.get(0);
-                break;
+    private void fillChoice(FormField field, WebElement element) throws Exception {
+        AnswerBank.Match saved = answers.find(field.label());
+        if (saved != null) {
+            String option = findOption(field, saved.answer());
+            if (option != null && FormSchemaExtractor.choose(driver, element, option)) {
+                System.out.println("Selected saved answer for " + field.label() + ": " + option);
+                return;
             }
+            System.out.println("Saved answer for " + field.label() + " is not one of the options: " + saved.answer());
         }
         
-        if (countryCodeDropdown != null) {
-            // Check if a selection has already been made
-            Select select = new Select(countryCodeDropdown);
-            WebElement selectedOption = select.getFirstSelectedOption();
-            String currentSelection = selectedOption.getText();
-            
-            // If the default selection isn't meaningful, we need to make a selection
-            if (currentSelection == null || currentSelection.trim().isEmpty() || 
-                currentSelection.equals("Select a country/region") || 
-                currentSelection.equals("--")) {
-                
-                // Use saved value if available
-                String savedCountryCode = userInfo.getProperty("phoneCountryCode");
-                
-                if (savedCountryCode != null && !savedCountryCode.trim().isEmpty()) {
-                    // Try to select the saved country code
-                    try {
-                        select.selectByVisibleText(savedCountryCode);
-                        System.out.println("Selected phone country code: " + savedCountryCode);
-                    } catch (Exception e) {
-                        System.out.println("Could not select saved country code. Asking user.");
-                        selectCountryCodeWithUserInput(select);
-                    }
-                } else {
-                    // No saved value, ask the user
-                    selectCountryCodeWithUserInput(select);
-                }
-            } else {
-                System.out.println("Phone country code already selected: " + currentSelection);
+        // The email dropdown lists the addresses of the account, the first one is the primary address
+        if ("select".equals(field.type()) && field.label().toLowerCase().contains("email") && !field.options().isEmpty()) {
+            if (FormSchemaExtractor.choose(driver, element, field.options().get(0))) {
+                System.out.println("Selected email: " + field.options().get(0));
+                return;
             }
+        }
+        if (!field.required()) {
+            System.out.println("No saved answer for optional field " + field.label() + ". Leaving it unanswered.");
+            return;
+        }
+        
+        String userValue = askUserForInput(field.label(), field.label(), field.options());
+        String option = userValue == null ? null : findOption(field, userValue);
+        if (option != null && FormSchemaExtractor.choose(driver, element, option)) {
+            System.out.println("Selected " + field.label() + ": " + option);
+            learnAnswer(field.label(), option);
+        } else if (userValue != null) {
+            System.out.println("Invalid selection for " + field.label() + ". Leaving it unanswered.");
+        }
+    }
+    
+    /**
+     * Tick an unticked lone checkbox when it is marked required itself, such as a consent to
+     * the terms that the page cannot be submitted without, or when the saved answer for its
+     * label is yes. Checkboxes that are options of a question are filled by
+     * {@link #fillCheckboxGroup(FormField, WebElement)} instead.
+     * 
+     * @param field The field from the form schema
+     * @param element The checkbox
+     */
+    private void fillCheckbox(FormField field, WebElement element) {
+        AnswerBank.Match saved = answers.find(field.label());
+        boolean tick = field.required()
+            || (saved != null && saved.answer().trim().matches("(?i)yes|true|y|1"));
+        if (!tick) {
+            System.out.println("Leaving optional checkbox unticked: " + field.label());
+            return;
+        }
+        if (FormSchemaExtractor.check(driver, element)) {
+            System.out.println("Ticked checkbox: " + field.label());
         } else {
-            System.out.println("No phone country code dropdown found.");
+            System.out.println("Could not tick checkbox: " + field.label());
         }
     }
     
     /**
-     * Ask the user to select a country code from the dropdown.
+     * Tick the options of a checkbox group named by the saved answer for its question, several
+     * separated by semicolons. Like a dropdown, a required group without a saved answer is asked
+     * for or parked; nothing is ticked on a guess, as the options may be attestations such as
+     * needing sponsorship.
      * 
-     * @param select The Select element representing the dropdown
+     * @param field The field from the form schema
+     * @param element The group's container
      * @throws Exception if any errors occur
      */
-    private void selectCountryCodeWithUserInput(Select select) throws Exception {
-        // Get all options from the dropdown
-        List<WebElement> options = select.getOptions();
-        
-        System.out.println("Please select a phone country code from the following options:");
-        for (int i = 0; i < options.size(); i++) {
-            System.out.println((i + 1) + ". " + options.get(i).getText());
+    private void fillCheckboxGroup(FormField field, WebElement element) throws Exception {
+        AnswerBank.Match saved = answers.find(field.label());
+        String answer = saved != null ? saved.answer() : null;
+        boolean learned = false;
+        if (answer == null) {
+            if (!field.required()) {
+                System.out.println("No saved answer for optional field " + field.label() + ". Leaving it unanswered.");
+                return;
+            }
+            answer = askUserForInput(field.label(), field.label(), field.options());
+            if (answer == null) {
+                return;
+            }
+            learned = true;
         }
         
-        // Get user input using the class scanner instance
-        System.out.print("Enter the number of your selection: ");
-        int selection;
-        try {
-            selection = scanner.nextInt();
-            scanner.nextLine(); // Consume the newline
-            
-            if (selection > 0 && selection <= options.size()) {
-                WebElement selectedOption = options.get(selection - 1);
-                String selectedText = selectedOption.getText();
-                select.selectByVisibleText(selectedText);
-                
-                // Save the selection for future use
-                userInfo.setProperty("phoneCountryCode", selectedText);
-                saveUserInfo();
-                
-                System.out.println("Selected phone country code: " + selectedText);
-            } else {
-                System.out.println("Invalid selection. Using default.");
+        List<String> chosen = new ArrayList<>();
+        String whole = findOption(field, answer);
+        for (String part : whole != null ? List.of(whole) : List.of(answer.split(";"))) {
+            String option = findOption(field, part);
+            if (option != null && FormSchemaExtractor.choose(driver, element, option)) {
+                chosen.add(option);
             }
-        } catch (Exception e) {
-            System.out.println("Invalid input. Using default.");
-            scanner.nextLine(); // Consume the invalid input
+        }
+        if (chosen.isEmpty()) {
+            System.out.println("Answer for " + field.label() + " is not one of the options: " + answer);
+            return;
+        }
+        System.out.println("Ticked for " + field.label() + ": " + String.join("; ", chosen));
+        if (learned) {
+            learnAnswer(field.label(), String.join("; ", chosen));
         }
     }
     
     /**
-     * Process email dropdown if present, selecting the first option.
+     * Find the option of a dropdown or radio group an answer stands for.
      * 
-     * @throws Exception if any errors occur
+     * @param field The field from the form schema
+     * @param answer Option text, ignoring case
+     * @return The option as shown on the form, or null if the answer is not one of them
      */
-    private void processEmailDropdown() throws Exception {
-        // Look for email dropdown
-        List<By> emailSelectors = List.of(
-            By.xpath("//label[contains(text(), 'Email')]/..//select"),
-            By.xpath("//span[contains(text(), 'Email address')]/..//select"),
-            By.xpath("//select[contains(@id, 'email')]"),
-            By.xpath("//select[contains(@aria-label, 'email')]")
-        );
-        
-        // Try each selector until we find the dropdown
-        WebElement emailDropdown = null;
-        for (By selector : emailSelectors) {
-            List<WebElement> dropdowns = driver.findElements(selector);
-            if (!dropdowns.isEmpty()) {
-                emailDropdown = dropdowns.get(0);
-                break;
+    private static String findOption(FormField field, String answer) {
+        String wanted = answer.trim();
+        for (String option : field.options()) {
+            if (option.equalsIgnoreCase(wanted)) {
+                return option;
             }
         }
-        
-        if (emailDropdown != null) {
-            // Select the first option (top email) as requested
-            Select select = new Select(emailDropdown);
-            List<WebElement> options = select.getOptions();
+        return null;
+    }
+    
+    /**
+     * Closes the Easy Apply modal so the next job can be processed.
+     * If LinkedIn asks whether to save the application, it is saved as a draft
+     * so it can be finished later.
+     * 
+     * @return true if the modal was closed or was not open
+     */
+    public boolean closeApplicationModal() {
+        try {
+            List<By> dismissSelectors = List.of(
+                By.cssSelector("button[aria-label='Dismiss']"),
+                By.cssSelector(".artdeco-modal__dismiss"),
+                By.xpath("//div[@role='dialog']//button[contains(@aria-label, 'Dismiss')]")
+            );
             
-            if (!options.isEmpty()) {
-                // Skip the first option if it's a placeholder like "Select an email"
-                int indexToSelect = 0;
-                if (options.size() > 1) {
-                    String firstOptionText = options.get(0).getText();
-                    if (firstOptionText.contains("Select") || firstOptionText.equals("--")) {
-                        indexToSelect = 1;
-                    }
-                }
-                
-                if (indexToSelect < options.size()) {
-                    select.selectByIndex(indexToSelect);
-                    System.out.println("Selected email: " + options.get(indexToSelect).getText());
-                }
+            SelectorResolver.Match dismiss = SelectorResolver.resolve(driver, dismissSelectors);
+            if (dismiss == null) {
+                return true;
             }
-        } else {
-            System.out.println("No email dropdown found. It might be a text field instead.");
             
-            // Try to find email as a text field
-            WebElement emailField = findInputField("Email");
-            if (emailField != null) {
-                // Check if the field is already filled
-                // Note: getAttribute is deprecated but still widely used in Selenium
-                // as the recommended alternative varies by browser implementation
-                String currentValue = emailField.getDomProperty("value");
-                
-                if (currentValue == null || currentValue.trim().isEmpty()) {
-                    // Field is empty, we need to fill it
-                    String savedValue = userInfo.getProperty("email");
-                    
-                    if (savedValue != null && !savedValue.trim().isEmpty()) {
-                        // We have a saved value, use it
-                        System.out.println("Using saved email: " + savedValue);
-                        typeHumanLike(emailField, savedValue);
-                    } else {
-                        // No saved value, ask the user
-                        String userValue = askUserForInput("Email address");
-                        typeHumanLike(emailField, userValue);
-                        
-                        // Save the value for future use
-                        userInfo.setProperty("email", userValue);
-                        saveUserInfo();
-                    }
-                } else {
-                    System.out.println("Email field is already filled with: " + currentValue);
-                }
+            humanClick(dismiss.element());
+            
+            // LinkedIn asks whether to save or discard a started application, in a dialog that fades in
+            WebElement confirm = awaitConfirmDialog(Duration.ofSeconds(3));
+            List<By> saveSelectors = List.of(
+                By.cssSelector("button[data-control-name='save_application_btn']"),
+                By.xpath(".//button[.//span[normalize-space()='Save']]"),
+                By.xpath(".//button[normalize-space()='Save']")
+            );
+            
+            SelectorResolver.Match save = confirm != null ? SelectorResolver.resolve(driver, saveSelectors, true, confirm) : null;
+            if (save != null) {
+                humanClick(save.element());
+                System.out.println("Saved application draft and closed Easy Apply modal.");
+            } else {
+                System.out.println("Closed Easy Apply modal.");
             }
+            
+            // The next job card must not be clicked while the modal is still fading out
+            return PageReadiness.await(driver, PageReadiness.Condition.MODAL_CLOSED, Duration.ofSeconds(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            System.out.println("Error closing Easy Apply modal: " + e.getMessage());
+            return false;
         }
     }
     
     /**
-     * Finds an input field based on its label text.
+     * Waits for the save or discard dialog shown after dismissing a started application
      * 
-     * @param labelText The label text to look for
-     * @return WebElement for the input field or null if not found
+     * @param timeout Maximum time to wait
+     * @return The dialog, or null if the modal closed without asking or nothing appeared in time
+     * @throws InterruptedException If the thread is interrupted while polling
      */
-    private WebElement findInputField(String labelText) {
-        List<By> inputSelectors = List.of(
-            By.xpath("//label[contains(text(), '" + labelText + "')]/..//input"),
-            By.xpath("//label[contains(text(), '" + labelText + "')]/following-sibling::div//input"),
-            By.xpath("//label[contains(text(), '" + labelText + "')]/following::input"),
-            By.xpath("//span[contains(text(), '" + labelText + "')]/..//input"),
-            By.xpath("//input[contains(@id, '" + labelText.toLowerCase().replace(" ", "") + "')]"),
-            By.xpath("//input[contains(@aria-label, '" + labelText + "')]")
+    private WebElement awaitConfirmDialog(Duration timeout) throws InterruptedException {
+        List<By> dialogSelectors = List.of(
+            By.cssSelector("[role='alertdialog']"),
+            By.cssSelector("[data-test-modal-id='data-test-easy-apply-discard-confirmation']")
         );
-        
-        WebElement inputField = null;
-        for (By selector : inputSelectors) {
-            List<WebElement> inputs = driver.findElements(selector);
-            if (!inputs.isEmpty()) {
-                for (WebElement input : inputs) {
-                    if (input.isDisplayed()) {
-                        inputField = input;
-                        System.out.println("Found " + labelText + " field using selector: " + selector);
-                        break;
-                    }
-                }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            SelectorResolver.Match dialog = SelectorResolver.resolve(driver, dialogSelectors, false, null);
+            if (dialog != null) {
+                return dialog.element();
             }
-            if (inputField != null) break;
+            if (PageReadiness.check(driver, PageReadiness.Condition.MODAL_CLOSED) || System.nanoTime() >= deadline) {
+                return null;
+            }
+            Thread.sleep(250);
         }
-        
-        return inputField;
     }
     
     /**
-     * Finds an input field associated with a given label element.
-     * This is useful for handling dynamically generated forms where the relationship
-     * between labels and inputs might not follow a consistent pattern.
+     * Ask the user for input via the console, if linkedin.answers.prompt allows it.
+     * Otherwise the question is parked in the {@link PendingQuestions} queue, the field
+     * is left empty and the run carries on without waiting.
      * 
-     * @param label The label WebElement
-     * @return WebElement for the associated input field or null if not found
+     * @param key The property name the answer is saved under
+     * @param fieldName The name of the field to get input for
+     * @param options Choices offered by the form, listed by number; empty for free text
+     * @return The user's input, or the chosen option if a number was entered; null if the question was parked
      */
-    private WebElement findInputForLabel(WebElement label) {
-        WebElement input = null;
-        
+    private String askUserForInput(String key, String fieldName, List<String> options) {
+        if (!LinkedInConfigLoader.isAnswerPromptEnabled()) {
+            parkQuestion(key, fieldName, options);
+            return null;
+        }
+        CONSOLE_LOCK.lock();
         try {
-            // Try to get the 'for' attribute of the label
-            // Using getDomAttribute instead of deprecated getAttribute
-            String forAttribute = label.getDomAttribute("for");
-            if (forAttribute != null && !forAttribute.isEmpty()) {
-                // Try to find the input by id matching the 'for' attribute
-                List<WebElement> matchingInputs = driver.findElements(By.id(forAttribute));
-                if (!matchingInputs.isEmpty()) {
-                    input = matchingInputs.get(0);
-                    System.out.println("Found input for label using 'for' attribute: " + forAttribute);
-                    return input;
-                }
+            if (options.isEmpty()) {
+                System.out.print("Please enter your " + fieldName + ": ");
+                return console().nextLine(); // Using the shared console scanner
             }
             
-            // Try various XPath strategies to find the associated input
-            List<By> inputSelectors = List.of(
-                By.xpath("./following-sibling::div//input"),
-                By.xpath("./following-sibling::input"),
-                By.xpath("./parent::div/following-sibling::div//input"),
-                By.xpath("./ancestor::div[contains(@class, 'form-field')]//input"),
-                By.xpath("./ancestor::div[1]//input")
-            );
-            
-            for (By selector : inputSelectors) {
-                List<WebElement> inputs = label.findElements(selector);
-                if (!inputs.isEmpty()) {
-                    for (WebElement foundInput : inputs) {
-                        if (foundInput.isDisplayed() && foundInput.isEnabled()) {
-                            input = foundInput;
-                            System.out.println("Found input for label using selector: " + selector);
-                            break;
-                        }
-                    }
-                }
-                if (input != null) break;
+            System.out.println("Please select " + fieldName + " from the following options:");
+            for (int i = 0; i < options.size(); i++) {
+                System.out.println((i + 1) + ". " + options.get(i));
             }
-            
-            // If still not found, try looking for inputs nearby in the DOM
-            if (input == null) {
-                WebElement parentDiv = label.findElement(By.xpath("./ancestor::div[position()=1 or position()=2 or position()=3]"));
-                List<WebElement> allInputsInParent = parentDiv.findElements(By.tagName("input"));
-                if (!allInputsInParent.isEmpty()) {
-                    for (WebElement possibleInput : allInputsInParent) {
-                        if (possibleInput.isDisplayed() && possibleInput.isEnabled()) {
-                            input = possibleInput;
-                            System.out.println("Found input for label by searching parent divs");
-                            break;
-                        }
-                    }
-                }
+            System.out.print("Enter the number of your selection: ");
+            String input = console().nextLine().trim();
+            try {
+                int selection = Integer.parseInt(input);
+                return selection > 0 && selection <= options.size() ? options.get(selection - 1) : input;
+            } catch (NumberFormatException e) {
+                return input; // The option's text
             }
-        } catch (Exception e) {
-            System.out.println("Error finding input for label: " + e.getMessage());
+        } finally {
+            CONSOLE_LOCK.unlock();
         }
-        
-        return input;
     }
     
     /**
-     * Ask the user for input via the console.
+     * Park a question for the current job until the user answers it.
      * 
-     * @param fieldName The name of the field to get input for
-     * @return The user's input
+     * @param key The property name the answer is saved under
+     * @param label The label shown on the form
+     * @param options Choices offered by the form, empty for free text
      */
-    private String askUserForInput(String fieldName) {
-        System.out.print("Please enter your " + fieldName + ": ");
-        return scanner.nextLine(); // Using the class scanner instance
+    private void parkQuestion(String key, String label, List<String> options) {
+        PendingQuestions.get().park(key, label, options, currentJobId);
+        parkedQuestions++;
     }
     
     /**
-     * Load user information from properties file.
+     * Answer a pending question and learn the answer, so the next form asking it is filled.
      * 
-     * @return Properties object with user info
+     * @param question Number, property name or label of the question
+     * @param answer The answer
+     * @return The answered question, or null if there is no such open question
      */
-    private Properties loadUserInfo() {
-        Properties props = new Properties();
-        Path path = Paths.get(USER_INFO_FILE);
-        
-        if (Files.exists(path)) {
-            try (FileInputStream input = new FileInputStream(path.toFile())) {
-                props.load(input);
-                System.out.println("User info loaded successfully from: " + path.toAbsolutePath());
-            } catch (IOException e) {
-                System.err.println("Warning: Could not load user info file: " + e.getMessage());
-            }
-        } else {
-            System.out.println("User info file not found. Will create a new one when needed.");
+    public static PendingQuestions.Question answerQuestion(String question, String answer) {
+        PendingQuestions.Question answered = PendingQuestions.get().answer(question, answer);
+        if (answered != null) {
+            learnAnswer(answered.key(), answer);
         }
-        
-        return props;
+        return answered;
     }
     
     /**
-     * Save user information to properties file.
+     * Learn every answered question and remove it from the queue.
+     * 
+     * @return Jobs that were parked on the answered questions and have no open questions left
      */
-    private void saveUserInfo() {
-        Path path = Paths.get(USER_INFO_FILE);
-        
-        try {
-            // Create parent directories if they don't exist
-            Path parentDir = path.getParent();
-            if (parentDir != null && !Files.exists(parentDir)) {
-                Files.createDirectories(parentDir);
-            }
-            
-            // Save the properties file
-            try (FileOutputStream output = new FileOutputStream(path.toFile())) {
-                userInfo.store(output, "LinkedIn Easy Apply User Information");
-                System.out.println("User info saved successfully to: " + path.toAbsolutePath());
-            }
-        } catch (IOException e) {
-            System.err.println("Error: Could not save user info file: " + e.getMessage());
+    public static Set<String> takeAnsweredJobs() {
+        PendingQuestions queue = PendingQuestions.get();
+        Set<String> jobIds = new LinkedHashSet<>();
+        for (PendingQuestions.Question question : queue.takeAnswered()) {
+            learnAnswer(question.key(), question.answer());
+            jobIds.addAll(question.jobIds());
+        }
+        jobIds.removeIf(queue::isWaiting);
+        return jobIds;
+    }
+    
+    /**
+     * Store an answer the user gave, so this and every similarly labelled field is filled from now on.
+     * 
+     * @param key The property name to save the answer under
+     * @param value The answer
+     * @throws IllegalStateException If the user information store was already closed; the workflow
+     *         keeps it open until the sessions and the questions endpoint have stopped
+     */
+    private static void learnAnswer(String key, String value) {
+        loadAnswers();
+        synchronized (ContactInfo.class) {
+            answers.put(key, value);
+        }
+        UserInfoStore.current().put(key, value);
+    }
+    
+    /**
+     * Get the console scanner shared by all sessions, creating it on first use.
+     * Callers must hold CONSOLE_LOCK.
+     * 
+     * @return Scanner reading from standard input
+     */
+    private static Scanner console() {
+        if (scanner == null) {
+            scanner = new Scanner(System.in);
         }
+        return scanner;
     }
     
     /**
@@ -757,17 +818,23 @@ public class ContactInfo {
         String currentValue = element.getDomProperty("value");
         if (currentValue != null && !currentValue.isEmpty()) {
             element.clear();
-            Thread.sleep(300 + random.nextInt(200));
+            Pacing.pause(300, 500);
+        }
+        
+        // Without pacing there is no point in sending one key at a time
+        if (Pacing.isDisabled()) {
+            element.sendKeys(text);
+            return;
         }
         
         // Type each character with a random delay
         for (char c : text.toCharArray()) {
             element.sendKeys(String.valueOf(c));
-            Thread.sleep(50 + random.nextInt(100));
+            Pacing.pause(50, 150);
         }
         
         // Pause at the end as a human would
-        Thread.sleep(500 + random.nextInt(500));
+        Pacing.pause(500, 1000);
     }
     
     /**
@@ -788,35 +855,16 @@ public class ContactInfo {
         }
         
         // Pause after clicking as a human would
-        Thread.sleep(1000 + random.nextInt(1000));
-    }
-    
-    /**
-     * Take a screenshot for debugging purposes.
-     * 
-     * @param driver WebDriver instance
-     * @param filename Name of the screenshot file
-     */
-    private void takeScreenshot(WebDriver driver, String filename) {
-        try {
-            org.openqa.selenium.OutputType<java.io.File> outputType = org.openqa.selenium.OutputType.FILE;
-            java.io.File screenshot = ((org.openqa.selenium.TakesScreenshot) driver).getScreenshotAs(outputType);
-            Path destination = Paths.get(filename);
-            Files.copy(screenshot.toPath(), destination, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-            System.out.println("Screenshot saved to: " + destination.toAbsolutePath());
-        } catch (Exception e) {
-            System.out.println("Failed to save screenshot: " + e.getMessage());
-        }
+        Pacing.pause(1000, 2000);
     }
     
     /**
      * Cleanup resources when this class is no longer needed.
      * Should be called when the workflow is completed.
+     * The console scanner is shared by all sessions and wraps System.in,
+     * so it is deliberately left open.
      */
     public void cleanup() {
-        if (scanner != null) {
-            scanner.close();
-            scanner = null;
-        }
+        // Nothing session-specific to release
     }
 }
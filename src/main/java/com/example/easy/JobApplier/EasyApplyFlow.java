@@ -0,0 +1,368 @@
+package com.example.easy.JobApplier;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import com.example.easy.LinkedInConfigLoader;
+import com.example.easy.Pacing;
+import com.example.easy.PageReadiness;
+import com.example.easy.ScreenshotService;
+import com.example.easy.WorkflowMetrics;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drives an open Easy Apply form through all of its pages: contact info, resume,
+ * the pages of questions, review and submit.
+ *
+ * The current page is read with a single script call from the modal's heading,
+ * progress indicator and primary button, and each page runs as its own workflow phase
+ * (easy_apply_contact_info, easy_apply_resume, ...), so the phase timer and the
+ * WebDriver command counter show where an application spends its time. The flow stops
+ * when the application is sent, when a question had to be parked for the user, when a
+ * page does not advance, or at the review page unless linkedin.apply.submit is set.
+ */
+public class EasyApplyFlow {
+
+    /** Guards against a form that keeps adding pages */
+    private static final int MAX_STEPS = 15;
+
+    private static final Gson GSON = new Gson();
+
+    private static final String STATE_SCRIPT =
+        "function visible(el) {" +
+        "  return !!el && el.getClientRects().length > 0 && getComputedStyle(el).visibility !== 'hidden';" +
+        "}" +
+        "function firstVisible(root, selector) {" +
+        "  return Array.prototype.find.call(root.querySelectorAll(selector), visible) || null;" +
+        "}" +
+        "var dialogs = Array.prototype.filter.call(document.querySelectorAll('.jobs-easy-apply-modal, " +
+        "    [aria-labelledby*=\"jobs-easy-apply\"], [role=\"dialog\"]'), visible);" +
+        "var text = dialogs.map(function(d) { return d.innerText; }).join(' ');" +
+        "var submitted = /Application sent|application was sent|Application submitted/i.test(text);" +
+        "var modal = dialogs.filter(function(d) { return d.querySelector('form, input, select, textarea, footer button'); })[0];" +
+        "if (!modal) return JSON.stringify({open: false, submitted: submitted});" +
+        "var heading = firstVisible(modal, '.artdeco-modal__content h3, form h3, h3');" +
+        "var progress = -1;" +
+        "var meter = firstVisible(modal, 'progress, [role=\"progressbar\"]');" +
+        "if (meter) {" +
+        "  var value = parseFloat(meter.getAttribute('value') || meter.getAttribute('aria-valuenow'));" +
+        "  var max = parseFloat(meter.getAttribute('max') || meter.getAttribute('aria-valuemax') || '100');" +
+        "  if (!isNaN(value) && max > 0) progress = Math.round(value * 100 / max);" +
+        "}" +
+        "if (progress < 0) {" +
+        "  var percent = (modal.innerText.match(/(\\d{1,3})\\s*%/) || [])[1];" +
+        "  if (percent) progress = parseInt(percent, 10);" +
+        "}" +
+        "var button = firstVisible(modal, 'footer button.artdeco-button--primary, button.artdeco-button--primary');" +
+        "var errors = Array.prototype.filter.call(modal.querySelectorAll('.artdeco-inline-feedback--error, " +
+        "    .fb-dash-form-element-error, [role=\"alert\"]'), visible).map(function(e) { return e.innerText.trim(); })" +
+        "    .filter(function(e) { return e; });" +
+        "return JSON.stringify({" +
+        "  open: true," +
+        "  submitted: submitted," +
+        "  heading: heading ? heading.innerText.trim() : ''," +
+        "  progress: progress," +
+        "  button: button ? (button.getAttribute('aria-label') || button.innerText).trim() : ''," +
+        "  resume: !!modal.querySelector('.jobs-document-upload, .jobs-resume-picker, input[type=\"file\"]')," +
+        "  errors: errors" +
+        "});";
+
+    private static final String SELECT_RESUME_SCRIPT =
+        // Keep the resume LinkedIn preselected; otherwise choose the most recent one
+        "var modal = document.querySelector('.jobs-easy-apply-modal, [role=\"dialog\"]');" +
+        "if (!modal || modal.querySelector('.jobs-document-upload-redesign-card__container--selected, " +
+        "    .jobs-resume-picker__resume--selected, input[type=\"radio\"][name*=\"resume\" i]:checked')) return false;" +
+        "var choice = modal.querySelector('.jobs-document-upload-redesign-card__container, .jobs-resume-picker__resume, " +
+        "    input[type=\"radio\"][name*=\"resume\" i]');" +
+        "if (!choice) return false;" +
+        "choice.click();" +
+        "return true;";
+
+    private static final String CLICK_PRIMARY_SCRIPT =
+        // Same modal as STATE_SCRIPT reads: the first visible dialog with form controls, not a hidden leftover one
+        "function visible(el) {" +
+        "  return !!el && el.getClientRects().length > 0 && getComputedStyle(el).visibility !== 'hidden';" +
+        "}" +
+        "var modal = Array.prototype.filter.call(document.querySelectorAll('.jobs-easy-apply-modal, " +
+        "    [aria-labelledby*=\"jobs-easy-apply\"], [role=\"dialog\"]'), visible)" +
+        "    .filter(function(d) { return d.querySelector('form, input, select, textarea, footer button'); })[0];" +
+        "if (!modal) return false;" +
+        "var buttons = modal.querySelectorAll('footer button.artdeco-button--primary, button.artdeco-button--primary');" +
+        "for (var i = 0; i < buttons.length; i++) {" +
+        "  var b = buttons[i];" +
+        "  if (visible(b) && !b.disabled) { b.scrollIntoView({block: 'center'}); b.click(); return true; }" +
+        "}" +
+        "return false;";
+
+    /**
+     * Page of the Easy Apply form
+     */
+    public enum Step {
+        CONTACT_INFO,
+        RESUME,
+        QUESTIONS,
+        REVIEW,
+        SUBMITTED,
+        CLOSED
+    }
+
+    /**
+     * How far an application got
+     */
+    public enum Result {
+        /** The application was sent */
+        SUBMITTED,
+        /** Every page was filled and the review page reached; submitting is disabled */
+        READY_TO_SUBMIT,
+        /** A question was parked for the user */
+        AWAITING_INPUT,
+        /** A page could not be filled or did not advance */
+        FAILED
+    }
+
+    /**
+     * Time and browser round-trips spent on one page of the form
+     *
+     * @param step Page of the form
+     * @param millis Time spent filling the page and moving on
+     * @param roundTrips WebDriver commands issued for the page
+     */
+    public record StepTiming(Step step, long millis, long roundTrips) {
+    }
+
+    /**
+     * State of the modal as read by {@link #STATE_SCRIPT}
+     */
+    private record FormState(boolean open, boolean submitted, String heading, int progress, String button,
+                             boolean resume, List<String> errors) {
+
+        String signature() {
+            return heading + "|" + progress + "|" + button;
+        }
+    }
+
+    private final WebDriver driver;
+    private final ContactInfo contactInfo;
+    private final List<StepTiming> timings = new ArrayList<>();
+    private Result result;
+
+    /**
+     * Creates a flow for the Easy Apply form open in the given browser session
+     *
+     * @param driver WebDriver instance with the Easy Apply modal open
+     * @param contactInfo Form filler for the same driver
+     */
+    public EasyApplyFlow(WebDriver driver, ContactInfo contactInfo) {
+        this.driver = driver;
+        this.contactInfo = contactInfo;
+    }
+
+    /**
+     * Fills and advances through every page of the form
+     *
+     * @return How far the application got
+     * @throws Exception If a page fails unexpectedly
+     */
+    public Result run() throws Exception {
+        result = null;
+        timings.clear();
+        PageReadiness.await(driver, PageReadiness.Condition.EASY_APPLY_MODAL);
+
+        FormState state = readState();
+        Step step = Step.CLOSED;
+        try {
+            for (int i = 0; i < MAX_STEPS && result == null; i++) {
+                step = classify(state);
+                if (step == Step.SUBMITTED) {
+                    result = Result.SUBMITTED;
+                    break;
+                }
+                if (step == Step.CLOSED) {
+                    System.out.println("Easy Apply form is no longer open.");
+                    result = Result.FAILED;
+                    break;
+                }
+
+                long start = System.nanoTime();
+                long commands = WorkflowMetrics.commandsOnThread();
+                FormState current = state;
+                Step currentStep = step;
+                FormState next = WorkflowMetrics.time("easy_apply_" + step.name().toLowerCase(), () -> runStep(currentStep, current));
+                timings.add(new StepTiming(step, (System.nanoTime() - start) / 1_000_000, WorkflowMetrics.commandsOnThread() - commands));
+                if (next == null) {
+                    break;
+                }
+                state = next;
+            }
+            if (result == null) {
+                System.out.println("Easy Apply form did not finish within " + MAX_STEPS + " pages.");
+                result = Result.FAILED;
+            }
+            return result;
+        } finally {
+            printTimings();
+            if (result == Result.FAILED) {
+                ScreenshotService.saveTrail(driver, "easy_apply_" + step.name().toLowerCase());
+            }
+        }
+    }
+
+    /**
+     * Returns the time and round-trips of each page of the last run
+     *
+     * @return Timings in page order
+     */
+    public List<StepTiming> getTimings() {
+        return List.copyOf(timings);
+    }
+
+    /**
+     * Fills one page and moves on to the next
+     *
+     * @return State of the next page, or null once the flow has a result
+     */
+    private FormState runStep(Step step, FormState state) throws Exception {
+        System.out.println("Easy Apply step " + step + (state.progress() >= 0 ? " (" + state.progress() + "%)" : "")
+            + ": " + state.heading());
+        switch (step) {
+            case CONTACT_INFO:
+                contactInfo.fillForm();
+                break;
+            case RESUME:
+                if (Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(SELECT_RESUME_SCRIPT))) {
+                    System.out.println("Selected the most recent resume.");
+                }
+                // A resume page may ask questions too, e.g. for a cover letter
+                contactInfo.fillForm();
+                break;
+            case QUESTIONS:
+                contactInfo.fillForm();
+                break;
+            case REVIEW:
+                // The page with the Submit button can still ask questions, e.g. on a one-page form
+                if (hasEmptyFields()) {
+                    contactInfo.fillForm();
+                }
+                if (!LinkedInConfigLoader.isSubmitEnabled() && !contactInfo.isAwaitingInput()) {
+                    System.out.println("Application is ready to submit. Leaving it for review (linkedin.apply.submit=false).");
+                    result = Result.READY_TO_SUBMIT;
+                    return null;
+                }
+                break;
+            default:
+                break;
+        }
+
+        if (contactInfo.isAwaitingInput()) {
+            System.out.println("Questions on this page were parked for the user. Leaving the application for later.");
+            result = Result.AWAITING_INPUT;
+            return null;
+        }
+
+        ScreenshotService.capture(driver, "easy_apply_" + step.name().toLowerCase() + ".png");
+        if (!Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(CLICK_PRIMARY_SCRIPT))) {
+            System.out.println("No enabled button to continue from " + step + ".");
+            result = Result.FAILED;
+            return null;
+        }
+        System.out.println("Clicked " + state.button() + ".");
+
+        FormState next = awaitNextPage(state);
+        if (next == null) {
+            FormState stuck = readState();
+            System.out.println("Easy Apply form did not move on from " + step
+                + (stuck.errors() == null || stuck.errors().isEmpty() ? "." : ": " + String.join("; ", stuck.errors())));
+            result = Result.FAILED;
+            return null;
+        }
+        Pacing.pause(500, 1000);
+        return next;
+    }
+
+    /**
+     * Waits until the modal shows another page, the application is sent or the modal closes
+     *
+     * @return The new state, or null if the page stayed the same until the timeout
+     */
+    private FormState awaitNextPage(FormState previous) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + LinkedInConfigLoader.getReadinessTimeoutSeconds() * 1000L;
+        while (System.currentTimeMillis() < deadline) {
+            FormState state = readState();
+            if (!state.open() || state.submitted() || !state.signature().equals(previous.signature())) {
+                return state;
+            }
+            if (state.errors() != null && !state.errors().isEmpty()) {
+                // Validation errors keep the page where it is
+                return null;
+            }
+            // A poll interval rather than a human pause, so not scaled by the pacing profile
+            Thread.sleep(250);
+        }
+        return null;
+    }
+
+    private boolean hasEmptyFields() {
+        for (FormField field : FormSchemaExtractor.extract(driver).fields()) {
+            if (!field.isFilled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private FormState readState() {
+        try {
+            Object json = ((JavascriptExecutor) driver).executeScript(STATE_SCRIPT);
+            if (json instanceof String) {
+                FormState state = GSON.fromJson((String) json, FormState.class);
+                if (state != null) {
+                    return state;
+                }
+            }
+        } catch (JsonParseException e) {
+            System.out.println("Could not parse Easy Apply form state: " + e.getMessage());
+        } catch (Exception e) {
+            System.out.println("Could not read Easy Apply form state: " + e.getMessage());
+        }
+        return new FormState(false, false, "", -1, "", false, List.of());
+    }
+
+    /**
+     * Works out the page from the modal's heading and primary button
+     */
+    private static Step classify(FormState state) {
+        if (state.submitted()) {
+            return Step.SUBMITTED;
+        }
+        if (!state.open()) {
+            return Step.CLOSED;
+        }
+        String heading = state.heading() == null ? "" : state.heading().toLowerCase();
+        String button = state.button() == null ? "" : state.button().toLowerCase();
+        if (button.contains("submit") || heading.startsWith("review")) {
+            return Step.REVIEW;
+        }
+        if (heading.contains("contact")) {
+            return Step.CONTACT_INFO;
+        }
+        if (heading.contains("resume") || heading.contains("cv") || state.resume()) {
+            return Step.RESUME;
+        }
+        return Step.QUESTIONS;
+    }
+
+    private void printTimings() {
+        if (timings.isEmpty()) {
+            return;
+        }
+        List<String> parts = new ArrayList<>();
+        for (StepTiming timing : timings) {
+            parts.add(timing.step() + " " + timing.millis() + " ms / " + timing.roundTrips() + " round-trips");
+        }
+        System.out.println("Easy Apply " + (result != null ? result : "stopped") + " after " + String.join(", ", parts));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.easy.JobApplier;
+
+import java.util.List;
+
+/**
+ * A field of the open Easy Apply form as read by {@link FormSchemaExtractor}.
+ * A group of radio buttons is one field whose options are the buttons' labels, and so is a
+ * group of checkboxes under one question ("checkbox-group"); a lone checkbox is its own field.
+ *
+ * @param index Zero-based position of the field in the form, also its element's position in the schema
+ * @param label Label text without the required marker
+ * @param id Element ID, or null if the element has none
+ * @param name Element name, or null if the element has none
+ * @param type "text", "textarea", "number", "tel", "email", "select", "radio", "checkbox", "checkbox-group" and so on
+ * @param value Current value; for a dropdown or radio group the chosen option's text, for a checkbox group the
+ *              ticked options joined by "; ", for a lone checkbox "true" if ticked; empty if nothing is chosen
+ * @param required true if the form marks the field as required; a lone checkbox only if it is marked itself
+ * @param options Option texts of a dropdown, radio or checkbox group without placeholders, empty for other fields
+ */
+public record FormField(int index, String label, String id, String name, String type, String value, boolean required,
+                        List<String> options) {
+
+    /**
+     * Checks whether the field already has a value
+     *
+     * @return true if something was entered or chosen
+     */
+    public boolean isFilled() {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.easy.JobApplier;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads every field of the open Easy Apply form with a single script call, in the same
+ * way {@link JobCardExtractor} reads the result cards. The script walks the modal once,
+ * resolving each field's label from label[for], a wrapping label, aria-labelledby,
+ * aria-label or the form element group, and returns the fields as JSON together with
+ * their elements, so filling needs no further lookups.
+ */
+public class FormSchemaExtractor {
+
+    private static final Gson GSON = new Gson();
+
+    private static final String EXTRACT_SCRIPT =
+        "function visible(el) {" +
+        "  return !!el && el.getClientRects().length > 0 && getComputedStyle(el).visibility !== 'hidden';" +
+        "}" +
+        "function clean(text) {" +
+        // LinkedIn repeats labels for screen readers on a second line
+        "  return (text || '').split('\\n')[0].replace(/\\s+/g, ' ').replace(/\\s*\\*\\s*$/, '').trim();" +
+        "}" +
+        "function own(el) {" +
+        "  if (el.id) {" +
+        "    var forLabel = document.querySelector('label[for=\"' + CSS.escape(el.id) + '\"]');" +
+        "    if (forLabel && clean(forLabel.innerText)) return forLabel;" +
+        "  }" +
+        "  var wrapping = el.closest('label');" +
+        "  return wrapping && clean(wrapping.innerText) ? wrapping : null;" +
+        "}" +
+        "function groupOf(el) {" +
+        "  return el.closest('fieldset, .fb-dash-form-element, .jobs-easy-apply-form-element, " +
+        "    .jobs-easy-apply-form-section__grouping, [data-test-form-element]');" +
+        "}" +
+        "function groupLabel(el) {" +
+        "  var group = groupOf(el);" +
+        "  var title = group && group.querySelector('legend, .fb-dash-form-element__label, " +
+        "    [data-test-form-builder-radio-button-form-component__title], label, span[aria-hidden=\"true\"]');" +
+        "  return title ? clean(title.innerText) : '';" +
+        "}" +
+        "function labelOf(el) {" +
+        "  var label = own(el);" +
+        "  if (label) return clean(label.innerText);" +
+        "  var ids = el.getAttribute('aria-labelledby');" +
+        "  if (ids) {" +
+        "    var text = ids.split(/\\s+/).map(function(id) { var l = document.getElementById(id); return l ? l.innerText : ''; }).join(' ');" +
+        "    if (clean(text)) return clean(text);" +
+        "  }" +
+        "  if (el.getAttribute('aria-label')) return clean(el.getAttribute('aria-label'));" +
+        "  return groupLabel(el) || clean(el.getAttribute('placeholder') || el.name || '');" +
+        "}" +
+        "function selfRequired(el) {" +
+        "  var label = own(el);" +
+        "  return el.required || el.getAttribute('aria-required') === 'true' || /\\*\\s*$/.test(label ? label.innerText.trim() : '');" +
+        "}" +
+        "function required(el) {" +
+        "  var group = groupOf(el);" +
+        "  return selfRequired(el) || " +
+        "    !!(group && group.querySelector('.fb-dash-form-element__label-title--is-required, [aria-required=\"true\"], abbr[title=\"required\"]'));" +
+        "}" +
+        "function placeholder(option, i) {" +
+        "  return (i === 0 && !option.value) || /^(Select|--)/i.test(option.text.trim());" +
+        "}" +
+        "var modal = Array.prototype.find.call(document.querySelectorAll('.jobs-easy-apply-modal, " +
+        "    [aria-labelledby*=\"jobs-easy-apply\"], [role=\"dialog\"]'), visible);" +
+        "if (!modal) return null;" +
+        "var fields = [], elements = [], radioGroups = {}, unnamedGroups = new Map(), checkboxGroups = new Map();" +
+        "modal.querySelectorAll('input, select, textarea').forEach(function(el) {" +
+        "  var type = el.tagName === 'INPUT' ? (el.getAttribute('type') || 'text').toLowerCase() : el.tagName.toLowerCase();" +
+        "  if (['hidden', 'file', 'submit', 'button', 'reset', 'image'].indexOf(type) >= 0 || el.disabled || el.readOnly) return;" +
+        "  if (type === 'radio') {" +
+        // Radio buttons are hidden behind styled labels, so the group rather than the button has to be visible
+        "    var group = groupOf(el) || el.parentElement;" +
+        "    if (!visible(group)) return;" +
+        "    var field = el.name ? radioGroups[el.name] : unnamedGroups.get(group);" +
+        "    if (!field) {" +
+        "      field = {index: fields.length, label: groupLabel(el) || labelOf(el), id: el.id || null, name: el.name || null," +
+        "               type: 'radio', value: '', required: required(el), options: []};" +
+        // Buttons without a name are grouped by their container element itself
+        "      if (el.name) radioGroups[el.name] = field; else unnamedGroups.set(group, field);" +
+        "      fields.push(field);" +
+        "      elements.push(group);" +
+        "    }" +
+        "    var option = own(el) ? clean(own(el).innerText) : el.value;" +
+        "    field.options.push(option);" +
+        "    if (el.checked) field.value = option;" +
+        "    return;" +
+        "  }" +
+        "  if (type === 'checkbox') {" +
+        "    var box = groupOf(el);" +
+        // Several checkboxes under one question are one field answered with the options to tick
+        "    if (box && box.querySelectorAll('input[type=\"checkbox\"]').length > 1) {" +
+        "      if (!visible(box)) return;" +
+        "      var choices = checkboxGroups.get(box);" +
+        "      if (!choices) {" +
+        "        choices = {index: fields.length, label: groupLabel(el), id: null, name: el.name || null," +
+        "                   type: 'checkbox-group', value: '', required: required(el), options: []};" +
+        "        checkboxGroups.set(box, choices);" +
+        "        fields.push(choices);" +
+        "        elements.push(box);" +
+        "      }" +
+        "      var choice = own(el) ? clean(own(el).innerText) : el.value;" +
+        "      choices.options.push(choice);" +
+        "      if (el.checked) choices.value = choices.value ? choices.value + '; ' + choice : choice;" +
+        "      return;" +
+        "    }" +
+        "    if (!visible(el) && !visible(own(el))) return;" +
+        // A lone checkbox only counts as required if it says so itself, not because its section has a required field
+        "    fields.push({index: fields.length, label: labelOf(el), id: el.id || null, name: el.name || null, type: type," +
+        "                 value: el.checked ? 'true' : '', required: selfRequired(el), options: []});" +
+        "    elements.push(el);" +
+        "    return;" +
+        "  }" +
+        "  if (!visible(el)) return;" +
+        "  var value = el.value || '';" +
+        "  var options = [];" +
+        "  if (type === 'select') {" +
+        "    Array.prototype.forEach.call(el.options, function(o, i) { if (!placeholder(o, i)) options.push(o.text.trim()); });" +
+        "    var selected = el.options[el.selectedIndex];" +
+        "    value = selected && !placeholder(selected, el.selectedIndex) ? selected.text.trim() : '';" +
+        "  }" +
+        "  fields.push({index: fields.length, label: labelOf(el), id: el.id || null, name: el.name || null, type: type," +
+        "               value: value, required: required(el), options: options});" +
+        "  elements.push(el);" +
+        "});" +
+        "return [JSON.stringify(fields), elements];";
+
+    private static final String CHOOSE_SCRIPT =
+        // Chooses an option of a dropdown, radio group or checkbox group by its text, as a click or change by the user would;
+        // a checkbox that is already ticked is left ticked
+        "var el = arguments[0], wanted = arguments[1].trim().toLowerCase();" +
+        "function text(t) { return (t || '').split('\\n')[0].replace(/\\s+/g, ' ').trim().toLowerCase(); }" +
+        "if (el.tagName === 'SELECT') {" +
+        "  for (var i = 0; i < el.options.length; i++) {" +
+        "    if (text(el.options[i].text) === wanted) {" +
+        "      el.selectedIndex = i;" +
+        "      el.dispatchEvent(new Event('input', {bubbles: true}));" +
+        "      el.dispatchEvent(new Event('change', {bubbles: true}));" +
+        "      return true;" +
+        "    }" +
+        "  }" +
+        "  return false;" +
+        "}" +
+        "var radios = el.querySelectorAll('input[type=\"radio\"], input[type=\"checkbox\"]');" +
+        "for (var j = 0; j < radios.length; j++) {" +
+        "  var r = radios[j];" +
+        "  var label = (r.id && document.querySelector('label[for=\"' + CSS.escape(r.id) + '\"]')) || r.closest('label');" +
+        "  if (text(label ? label.innerText : r.value) === wanted) {" +
+        "    if (!r.checked) (label || r).click();" +
+        "    return r.checked;" +
+        "  }" +
+        "}" +
+        "return false;";
+
+    private static final String CHECK_SCRIPT =
+        // Ticks a checkbox through its label, as LinkedIn hides the box itself behind a styled one
+        "var el = arguments[0];" +
+        "if (!el.checked) {" +
+        "  var label = (el.id && document.querySelector('label[for=\"' + CSS.escape(el.id) + '\"]')) || el.closest('label');" +
+        "  (label || el).click();" +
+        "}" +
+        "return el.checked;";
+
+    /**
+     * The fields of the open form with the elements to fill them through
+     *
+     * @param fields Fields in form order
+     * @param elements Element of each field by {@link FormField#index()}; the group container for radio groups
+     */
+    public record Schema(List<FormField> fields, List<WebElement> elements) {
+
+        /**
+         * Returns the element to fill a field through
+         *
+         * @param field Field of this schema
+         * @return The field's element
+         */
+        public WebElement element(FormField field) {
+            return elements.get(field.index());
+        }
+    }
+
+    /**
+     * Reads every field of the open Easy Apply form
+     *
+     * @param driver WebDriver instance with the Easy Apply modal open
+     * @return The form's fields, empty if no form is open or the script failed
+     */
+    public static Schema extract(WebDriver driver) {
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(EXTRACT_SCRIPT);
+            if (!(result instanceof List) || ((List<?>) result).size() != 2) {
+                return new Schema(List.of(), List.of());
+            }
+            List<?> parts = (List<?>) result;
+            FormField[] fields = GSON.fromJson((String) parts.get(0), FormField[].class);
+            List<WebElement> elements = new ArrayList<>();
+            for (Object element : (List<?>) parts.get(1)) {
+                elements.add((WebElement) element);
+            }
+            if (fields == null || fields.length != elements.size()) {
+                return new Schema(List.of(), List.of());
+            }
+            return new Schema(List.of(fields), elements);
+        } catch (JsonParseException e) {
+            System.out.println("Could not parse form fields: " + e.getMessage());
+        } catch (Exception e) {
+            System.out.println("Could not read form fields: " + e.getMessage());
+        }
+        return new Schema(List.of(), List.of());
+    }
+
+    /**
+     * Chooses an option of a dropdown, radio group or checkbox group in one round-trip
+     *
+     * @param driver WebDriver instance with the form open
+     * @param element The field's element from the schema
+     * @param option Text of the option to choose, matched case-insensitively
+     * @return true if the option was found and chosen
+     */
+    public static boolean choose(WebDriver driver, WebElement element, String option) {
+        try {
+            return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(CHOOSE_SCRIPT, element, option));
+        } catch (Exception e) {
+            System.out.println("Could not choose " + option + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Ticks a checkbox in one round-trip, leaving it alone if it is already ticked
+     *
+     * @param driver WebDriver instance with the form open
+     * @param element The checkbox from the schema
+     * @return true if the checkbox is ticked afterwards
+     */
+    public static boolean check(WebDriver driver, WebElement element) {
+        try {
+            return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(CHECK_SCRIPT, element));
+        } catch (Exception e) {
+            System.out.println("Could not tick checkbox: " + e.getMessage());
+            return false;
+        }
+    }
+}
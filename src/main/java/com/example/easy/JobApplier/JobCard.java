@@ -0,0 +1,18 @@
+package com.example.easy.JobApplier;
+
+/**
+ * A job card as read from a LinkedIn search results page. Fields the page did not
+ * show are null.
+ *
+ * @param index Zero-based position of the card on the results page
+ * @param jobId LinkedIn job ID
+ * @param title Job title
+ * @param company Company name
+ * @param location Location line, e.g. "Berlin, Germany (Hybrid)"
+ * @param postedTime When the job was posted, e.g. "2 days ago"
+ * @param easyApply true if the card advertises Easy Apply
+ * @param applied true if the card shows LinkedIn's "Applied" badge
+ */
+public record JobCard(int index, String jobId, String title, String company, String location,
+                      String postedTime, boolean easyApply, boolean applied) {
+}
@@ -0,0 +1,113 @@
+package com.example.easy.JobApplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.util.List;
+
+/**
+ * Reads every job card on a LinkedIn search results page with a single script call.
+ * The script serializes the cards to a JSON array in the page, which is parsed into
+ * {@link JobCard} records, so no per-card element lookups or getText calls are needed.
+ * Each card element is tagged with its index so it can be found again for clicking.
+ */
+public class JobCardExtractor {
+
+    private static final Gson GSON = new Gson();
+
+    /** Attribute the extraction script sets on each card element */
+    private static final String INDEX_ATTRIBUTE = "data-autoapply-card-index";
+
+    // Card containers, tried in order until one matches; the same layouts as ContactInfo's job card selectors
+    private static final String EXTRACT_SCRIPT =
+        "var containers = ['li[data-occludable-job-id]', '.job-card-container', '.jobs-search-results__list-item', " +
+        "                  '[data-job-id]'];" +
+        "var cards = [];" +
+        "for (var i = 0; i < containers.length && cards.length === 0; i++) {" +
+        "  cards = Array.prototype.slice.call(document.querySelectorAll(containers[i]));" +
+        "}" +
+        "function text(card, selectors) {" +
+        "  for (var i = 0; i < selectors.length; i++) {" +
+        "    var el = card.querySelector(selectors[i]);" +
+        "    if (el && el.innerText && el.innerText.trim()) return el.innerText.trim().split('\\n')[0].trim();" +
+        "  }" +
+        "  return null;" +
+        "}" +
+        "function jobId(card) {" +
+        "  var holder = card.closest('[data-occludable-job-id],[data-job-id]') || " +
+        "               card.querySelector('[data-occludable-job-id],[data-job-id]');" +
+        "  var id = holder ? (holder.getAttribute('data-occludable-job-id') || holder.getAttribute('data-job-id')) : null;" +
+        "  if (!id) {" +
+        "    var link = card.querySelector('a[href*=\"/jobs/view/\"]');" +
+        "    var match = link ? link.getAttribute('href').match(/\\/jobs\\/view\\/(\\d+)/) : null;" +
+        "    id = match ? match[1] : null;" +
+        "  }" +
+        "  return id;" +
+        "}" +
+        "return JSON.stringify(cards.map(function(card, index) {" +
+        "  card.setAttribute('" + INDEX_ATTRIBUTE + "', index);" +
+        "  var footer = (text(card, ['.job-card-container__footer-wrapper', '.job-card-list__footer-wrapper']) || '') + ' ' +" +
+        "               Array.prototype.map.call(card.querySelectorAll('.job-card-container__apply-method, " +
+        "                 .job-card-container__footer-item, .job-card-container__footer-job-state'), " +
+        "                 function(el) { return el.innerText; }).join(' ');" +
+        "  var time = card.querySelector('time');" +
+        "  return {" +
+        "    index: index," +
+        "    jobId: jobId(card)," +
+        "    title: text(card, ['.job-card-list__title', '.job-card-list__title--link strong', " +
+        "                       '.job-card-container__link strong', 'a.job-card-container__link'])," +
+        "    company: text(card, ['.job-card-container__primary-description', '.artdeco-entity-lockup__subtitle', " +
+        "                         '.job-card-container__company-name'])," +
+        "    location: text(card, ['.job-card-container__metadata-item', '.artdeco-entity-lockup__caption li', " +
+        "                          '.job-card-container__metadata-wrapper li'])," +
+        "    postedTime: time ? (time.innerText.trim() || time.getAttribute('datetime')) : " +
+        "                text(card, ['.job-card-container__listed-time', '.job-card-list__footer-wrapper time'])," +
+        "    easyApply: /Easy Apply/i.test(footer) || /Easy Apply/i.test(card.innerText)," +
+        "    applied: /(^|\\s)Applied(\\s|$)/.test(footer)" +
+        "  };" +
+        "}));";
+
+    /**
+     * Reads every job card on the current results page
+     *
+     * @param driver WebDriver instance on a LinkedIn search results page
+     * @return Job cards in page order, empty if none were found or the script failed
+     */
+    public static List<JobCard> extract(WebDriver driver) {
+        try {
+            Object json = ((JavascriptExecutor) driver).executeScript(EXTRACT_SCRIPT);
+            if (!(json instanceof String)) {
+                return List.of();
+            }
+            JobCard[] cards = GSON.fromJson((String) json, JobCard[].class);
+            return cards == null ? List.of() : List.of(cards);
+        } catch (JsonParseException e) {
+            System.out.println("Could not parse job cards: " + e.getMessage());
+        } catch (Exception e) {
+            System.out.println("Could not read job cards: " + e.getMessage());
+        }
+        return List.of();
+    }
+
+    /**
+     * Finds the element of a card returned by the last {@link #extract(WebDriver)} call.
+     * Falls back to the job ID if the page re-rendered the card since.
+     *
+     * @param driver WebDriver instance on the same results page
+     * @param card Card to find
+     * @return The card element, or null if it is no longer on the page
+     */
+    public static WebElement findElement(WebDriver driver, JobCard card) {
+        List<WebElement> elements = driver.findElements(By.cssSelector("[" + INDEX_ATTRIBUTE + "='" + card.index() + "']"));
+        if (elements.isEmpty() && card.jobId() != null) {
+            elements = driver.findElements(By.cssSelector(
+                "[data-occludable-job-id='" + card.jobId() + "'], [data-job-id='" + card.jobId() + "']"));
+        }
+        return elements.isEmpty() ? null : elements.get(0);
+    }
+}
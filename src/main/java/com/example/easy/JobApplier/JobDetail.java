@@ -0,0 +1,50 @@
+package com.example.easy.JobApplier;
+
+import java.util.List;
+
+/**
+ * Details of a job as read from the LinkedIn job details pane. Fields the pane did not
+ * show are null.
+ *
+ * @param jobId LinkedIn job ID
+ * @param title Job title
+ * @param company Company name
+ * @param description Full description text
+ * @param criteria Job criteria and insights, e.g. "Full-time" or "Mid-Senior level"
+ * @param applyType How the job is applied to
+ * @param applicants Number of applicants shown, or -1 if not shown
+ * @param fetchedAt When the details were read, in epoch milliseconds
+ */
+public record JobDetail(String jobId, String title, String company, String description, List<String> criteria,
+                        ApplyType applyType, int applicants, long fetchedAt) {
+
+    /**
+     * How a job is applied to, as shown by the apply button in the details pane
+     */
+    public enum ApplyType {
+        EASY_APPLY,
+        EXTERNAL,
+        APPLIED,
+        CLOSED,
+        UNKNOWN
+    }
+
+    /**
+     * Checks whether the job can be applied to with Easy Apply
+     *
+     * @return true if the pane showed an Easy Apply button
+     */
+    public boolean isEasyApply() {
+        return applyType == ApplyType.EASY_APPLY;
+    }
+
+    /**
+     * Checks whether the pane showed that the job cannot be applied to with Easy Apply.
+     * An UNKNOWN apply type, e.g. from a pane that had not finished loading, is not enough.
+     *
+     * @return true if the job is external, closed or already applied to
+     */
+    public boolean isNotEasyApply() {
+        return applyType == ApplyType.EXTERNAL || applyType == ApplyType.CLOSED || applyType == ApplyType.APPLIED;
+    }
+}
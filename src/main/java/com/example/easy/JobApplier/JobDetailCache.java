@@ -0,0 +1,190 @@
+package com.example.easy.JobApplier;
+
+import com.example.easy.LinkedInConfigLoader;
+import com.example.easy.WorkflowMetrics;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of job details by job ID, so a job that shows up in several searches or in a
+ * later run does not have to be opened again before deciding what to do with it.
+ *
+ * A bounded in-memory LRU (linkedin.details.cache_size entries) sits in front of a
+ * store on disk with one gzip-compressed JSON file per job, in job_details in the data
+ * directory. Entries older than linkedin.details.ttl_hours are treated as missing and
+ * their files removed, since postings get edited, closed and re-opened.
+ */
+public class JobDetailCache {
+
+    private static final String DEFAULT_DIRECTORY = "job_details";
+    private static final String METRIC_NAME = "job_details";
+
+    private static final Gson GSON = new Gson();
+
+    private final Path directory;
+    private final long ttlMillis;
+    private final Map<String, JobDetail> recent;
+
+    // A lock rather than synchronized, so virtual threads waiting here do not pin their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Opens the cache at the default location with the configured size and TTL
+     *
+     * @return The opened cache
+     */
+    public static JobDetailCache open() {
+        return new JobDetailCache(LinkedInConfigLoader.getDataPath(DEFAULT_DIRECTORY),
+            LinkedInConfigLoader.getJobDetailCacheSize(),
+            Duration.ofHours(LinkedInConfigLoader.getJobDetailTtlHours()));
+    }
+
+    /**
+     * Opens the cache backed by the given directory, which is created on the first write
+     *
+     * @param directory Directory for the compressed entries
+     * @param maxEntries Maximum number of entries kept in memory
+     * @param ttl How long an entry stays valid
+     */
+    public JobDetailCache(Path directory, int maxEntries, Duration ttl) {
+        this.directory = directory;
+        this.ttlMillis = ttl.toMillis();
+        // Access order, so the least recently used entry is evicted first
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JobDetail> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Looks up the details of a job, in memory first and then on disk
+     *
+     * @param jobId LinkedIn job ID, may be null
+     * @return The cached details, or null if they are missing or expired
+     */
+    public JobDetail get(String jobId) {
+        if (SeenJobIndex.parseJobId(jobId) == 0) {
+            return null;
+        }
+
+        lock.lock();
+        try {
+            JobDetail detail = recent.get(jobId);
+            if (detail != null) {
+                if (!isExpired(detail)) {
+                    WorkflowMetrics.countCacheLookup(METRIC_NAME, "memory");
+                    return detail;
+                }
+                recent.remove(jobId);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        JobDetail detail = read(jobId);
+        if (detail == null) {
+            WorkflowMetrics.countCacheLookup(METRIC_NAME, "miss");
+            return null;
+        }
+        if (isExpired(detail)) {
+            WorkflowMetrics.countCacheLookup(METRIC_NAME, "expired");
+            try {
+                Files.deleteIfExists(file(jobId));
+            } catch (IOException e) {
+                // Overwritten by the next put anyway
+            }
+            return null;
+        }
+
+        WorkflowMetrics.countCacheLookup(METRIC_NAME, "disk");
+        lock.lock();
+        try {
+            recent.put(jobId, detail);
+        } finally {
+            lock.unlock();
+        }
+        return detail;
+    }
+
+    /**
+     * Stores the details of a job in memory and on disk. Details whose apply type is
+     * UNKNOWN are not stored, since they usually come from a pane that had not finished
+     * loading and would stand in for the real details until they expire.
+     *
+     * @param detail Details read from the job details pane
+     */
+    public void put(JobDetail detail) {
+        if (SeenJobIndex.parseJobId(detail.jobId()) == 0 || detail.applyType() == JobDetail.ApplyType.UNKNOWN) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            recent.put(detail.jobId(), detail);
+        } finally {
+            lock.unlock();
+        }
+
+        Path file = file(detail.jobId());
+        try {
+            Files.createDirectories(file.getParent());
+            // Two sessions may cache the same job at once, so each write gets its own temporary file
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName() + "-", ".tmp");
+            try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8)) {
+                GSON.toJson(detail, writer);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.out.println("Could not cache details of job " + detail.jobId() + ": " + e.getMessage());
+        }
+    }
+
+    private JobDetail read(String jobId) {
+        Path file = file(jobId);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8)) {
+            return GSON.fromJson(reader, JobDetail.class);
+        } catch (IOException | JsonParseException e) {
+            System.out.println("Ignoring unreadable cached details of job " + jobId + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isExpired(JobDetail detail) {
+        return System.currentTimeMillis() - detail.fetchedAt() > ttlMillis;
+    }
+
+    /**
+     * Spreads the files over 256 subdirectories by the low bits of the job ID,
+     * so no single directory grows huge
+     */
+    private Path file(String jobId) {
+        long id = SeenJobIndex.parseJobId(jobId);
+        return directory.resolve(String.format("%02x", id & 0xff)).resolve(id + ".json.gz");
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.easy.JobApplier;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * Reads the job shown in the LinkedIn job details pane with a single script call,
+ * in the same way {@link JobCardExtractor} reads the result cards.
+ */
+public class JobDetailExtractor {
+
+    private static final Gson GSON = new Gson();
+
+    private static final String EXTRACT_SCRIPT =
+        // Details still showing another job must not be stored under this job's ID
+        "var jobId = arguments[0];" +
+        "if (jobId && location.href.indexOf('currentJobId=' + jobId) < 0 && location.href.indexOf('/jobs/view/' + jobId) < 0 && " +
+        "    !document.querySelector('.jobs-search__job-details--container a[href*=\"/jobs/view/' + jobId + '\"]')) return null;" +
+        "function first(selectors) {" +
+        "  for (var i = 0; i < selectors.length; i++) {" +
+        "    var el = document.querySelector(selectors[i]);" +
+        "    if (el && el.textContent.trim()) return el;" +
+        "  }" +
+        "  return null;" +
+        "}" +
+        "function text(selectors) {" +
+        "  var el = first(selectors);" +
+        "  return el ? (el.innerText || el.textContent).trim() : null;" +
+        "}" +
+        "function visible(el) {" +
+        "  return !!el && el.getClientRects().length > 0 && getComputedStyle(el).visibility !== 'hidden';" +
+        "}" +
+        "var topCard = first(['.job-details-jobs-unified-top-card__container', '.jobs-unified-top-card', " +
+        "                     '.jobs-details-top-card']) || document.body;" +
+        // The description may be collapsed behind "See more", so textContent rather than innerText
+        "var description = first(['.jobs-description__content', '.jobs-description-content__text', '#job-details', " +
+        "                         '.jobs-box__html-content']);" +
+        "var criteria = [];" +
+        "document.querySelectorAll('.job-details-jobs-unified-top-card__job-insight span[aria-hidden=\"true\"], " +
+        "    .job-details-preferences-and-skills__pill, .job-details-fit-level-preferences button, " +
+        "    .description__job-criteria-text, .jobs-unified-top-card__job-insight').forEach(function(el) {" +
+        "  var value = el.innerText.trim();" +
+        "  if (value && criteria.indexOf(value) < 0) criteria.push(value);" +
+        "});" +
+        "var topText = topCard.innerText || '';" +
+        "var applyType = 'UNKNOWN';" +
+        "var buttons = Array.prototype.filter.call(topCard.querySelectorAll('.jobs-apply-button, .jobs-s-apply button, " +
+        "    .jobs-s-apply a'), visible);" +
+        "if (/No longer accepting applications/i.test(topText)) {" +
+        "  applyType = 'CLOSED';" +
+        "} else if (buttons.some(function(b) { return /Easy Apply/i.test(b.innerText); })) {" +
+        "  applyType = 'EASY_APPLY';" +
+        "} else if (buttons.some(function(b) { return /Apply|company website/i.test(b.innerText); })) {" +
+        "  applyType = 'EXTERNAL';" +
+        "} else if (/(^|\\s)Applied(\\s|$)/.test(topText) || topCard.querySelector('.artdeco-inline-feedback--success')) {" +
+        "  applyType = 'APPLIED';" +
+        "}" +
+        "var applicants = topText.match(/(\\d[\\d,]*)\\s+applicants/i);" +
+        "return JSON.stringify({" +
+        "  jobId: jobId," +
+        "  title: text(['.job-details-jobs-unified-top-card__job-title', '.jobs-unified-top-card__job-title', " +
+        "               '.jobs-details-top-card__job-title'])," +
+        "  company: text(['.job-details-jobs-unified-top-card__company-name', '.jobs-unified-top-card__company-name', " +
+        "                 '.jobs-details-top-card__company-url'])," +
+        "  description: description ? description.textContent.replace(/\\s+/g, ' ').trim() : null," +
+        "  criteria: criteria," +
+        "  applyType: applyType," +
+        "  applicants: applicants ? parseInt(applicants[1].replace(/,/g, ''), 10) : -1" +
+        "});";
+
+    /**
+     * Reads the job shown in the details pane
+     *
+     * @param driver WebDriver instance with a job open in the details pane
+     * @param jobId LinkedIn job ID of the job, stored with the details
+     * @return The job details, or null if the pane could not be read or shows another job
+     */
+    public static JobDetail extract(WebDriver driver, String jobId) {
+        try {
+            Object json = ((JavascriptExecutor) driver).executeScript(EXTRACT_SCRIPT, jobId);
+            if (!(json instanceof String)) {
+                return null;
+            }
+            JobDetail detail = GSON.fromJson((String) json, JobDetail.class);
+            // Stamped here rather than in the page, since the TTL is measured against this clock
+            return detail == null ? null : new JobDetail(detail.jobId(), detail.title(), detail.company(),
+                detail.description(), detail.criteria(), detail.applyType(), detail.applicants(), System.currentTimeMillis());
+        } catch (JsonParseException e) {
+            System.out.println("Could not parse job details: " + e.getMessage());
+        } catch (Exception e) {
+            System.out.println("Could not read job details: " + e.getMessage());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,410 @@
+package com.example.easy.JobApplier;
+
+import org.openqa.selenium.WebDriver;
+
+import com.example.easy.LinkedInConfigLoader;
+import com.example.easy.Pacing;
+import com.example.easy.PageReadiness;
+import com.example.easy.WorkflowMetrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+/**
+ * Walks every job card on a search results page, and the pages that follow it,
+ * running the Easy Apply flow for each job. A failure on one job is recorded and
+ * the loop moves on to the next card. Jobs already handled in an earlier run are skipped
+ * without being opened: the {@link SeenJobIndex} answers first, and the
+ * {@link ApplicationHistoryStore} covers jobs recorded before the index existed.
+ * A job whose cached details ({@link JobDetailCache}) show it cannot be applied to with
+ * Easy Apply is skipped without being opened either, and so is a job parked on a question
+ * the user has not answered yet ({@link PendingQuestions}); it is retried with {@link #retryJob(String)}
+ * once the answers are in.
+ * Before Easy Apply is clicked, a job has to pass the {@link RelevanceScorer}: its card title
+ * (or cached details) is screened before the card is clicked, and its full description once
+ * the details pane shows it.
+ * In incremental mode a page also stops at the jobs an earlier run of the same search listed,
+ * see {@link #setKnownJobIds(Set)}.
+ */
+public class JobHarvester {
+
+    /** Number of job cards LinkedIn shows per results page */
+    private static final int PAGE_SIZE = 25;
+
+    // Promoted jobs can show up out of date order, so a single known card is not enough to stop
+    private static final int KNOWN_JOBS_TO_STOP = 3;
+
+    private final WebDriver driver;
+    private final ContactInfo contactInfo;
+    private final ApplicationHistoryStore history;
+    private final SeenJobIndex seenJobs;
+    private final JobDetailCache detailCache;
+    private final List<JobResult> results = new ArrayList<>();
+    private final List<JobCard> listedCards = new ArrayList<>();
+    private Set<Long> knownJobIds = Set.of();
+    private boolean reachedKnownJobs = false;
+
+    /**
+     * Outcome of processing a single job card. NOT_EASY_APPLY means the job's details showed
+     * it external, closed or already applied to; APPLY_NOT_STARTED means the job or its Easy
+     * Apply button could not be opened this time. CONTACT_INFO_COMPLETED and CONTACT_INFO_FAILED
+     * were recorded when only the contact info page was filled and remain for older history.
+     */
+    public enum Outcome {
+        SUBMITTED,
+        READY_TO_SUBMIT,
+        APPLICATION_FAILED,
+        CONTACT_INFO_COMPLETED,
+        CONTACT_INFO_FAILED,
+        APPLY_NOT_STARTED,
+        NOT_EASY_APPLY,
+        AWAITING_INPUT,
+        NOT_RELEVANT,
+        ALREADY_HANDLED,
+        ERROR
+    }
+
+    /**
+     * Record of what happened to a single job card
+     *
+     * @param page Zero-based results page, -1 for a job retried from its own page
+     * @param index Zero-based position of the card on the page, -1 for a retried job
+     * @param jobId LinkedIn job ID of the card, null if unknown
+     * @param jobUrl URL of the job after clicking the card
+     * @param outcome What happened to the job
+     * @param durationMillis Time spent on the job
+     * @param message Error message for failed jobs, null otherwise
+     */
+    public record JobResult(int page, int index, String jobId, String jobUrl, Outcome outcome, long durationMillis, String message) {
+    }
+
+    /**
+     * Creates a harvester that drives the given browser session
+     *
+     * @param driver WebDriver instance on a LinkedIn search results page
+     * @param contactInfo Easy Apply handler for the same driver
+     * @param history Application history consulted before and updated after each job
+     * @param seenJobs Index of handled job IDs, checked before any card is clicked
+     * @param detailCache Cached job details, checked before any card is clicked and filled after
+     */
+    public JobHarvester(WebDriver driver, ContactInfo contactInfo, ApplicationHistoryStore history, SeenJobIndex seenJobs,
+                        JobDetailCache detailCache) {
+        this.driver = driver;
+        this.contactInfo = contactInfo;
+        this.history = history;
+        this.seenJobs = seenJobs;
+        this.detailCache = detailCache;
+    }
+
+    /**
+     * Sets the jobs an earlier run of the same search listed. Once a newest-first page
+     * reaches a few of them in a row, the rest of the results is older than that run and
+     * the harvester stops.
+     *
+     * @param knownJobIds Numeric IDs of the jobs listed before
+     */
+    public void setKnownJobIds(Set<Long> knownJobIds) {
+        this.knownJobIds = knownJobIds;
+    }
+
+    /**
+     * Processes every job card on a single results page
+     *
+     * @param searchUrl Filtered search URL built by the jobs navigator
+     * @param page Zero-based page number
+     * @return Number of job cards found on the page, 0 once the results have explicitly ended
+     * @throws InterruptedException If the thread is interrupted while waiting
+     * @throws IllegalStateException If the page did not load its results
+     */
+    public int harvestPage(String searchUrl, int page) throws InterruptedException {
+
+        String pageUrl = pageUrl(searchUrl, page * PAGE_SIZE);
+        boolean opened = !pageUrl.equals(driver.getCurrentUrl());
+        if (opened) {
+            System.out.println("Opening results page " + (page + 1) + ": " + pageUrl);
+            driver.navigate().to(pageUrl);
+        }
+        // A page that never loaded must not pass for the end of the results, or the search would be marked complete
+        if (!PageReadiness.await(driver, PageReadiness.Condition.RESULTS_LIST)) {
+            throw new IllegalStateException("Results page " + (page + 1) + " did not load: " + pageUrl);
+        }
+        if (opened) {
+            Pacing.pause(1000, 2000);
+        }
+
+        List<JobCard> cards = contactInfo.getJobCards();
+        if (cards.isEmpty() && !PageReadiness.check(driver, PageReadiness.Condition.NO_RESULTS)) {
+            throw new IllegalStateException("Results page " + (page + 1) + " shows neither job cards nor an end of the results: " + pageUrl);
+        }
+        System.out.println("Found " + cards.size() + " job cards on page " + (page + 1));
+
+        int knownInARow = 0;
+        for (JobCard card : cards) {
+            int index = card.index();
+            String jobId = card.jobId();
+            if (knownJobIds.contains(SeenJobIndex.parseJobId(jobId))) {
+                knownInARow++;
+                if (knownInARow >= KNOWN_JOBS_TO_STOP) {
+                    System.out.println("Reached jobs listed by the previous run on page " + (page + 1) + ". Stopping this search.");
+                    reachedKnownJobs = true;
+                    break;
+                }
+            } else {
+                knownInARow = 0;
+            }
+            listedCards.add(card);
+            if (card.applied()) {
+                // LinkedIn already shows the job as applied, e.g. after applying by hand
+                System.out.println("Job #" + (index + 1) + " on page " + (page + 1) + " (" + card.title() + ") is marked Applied. Skipping.");
+                seenJobs.add(SeenJobIndex.parseJobId(jobId));
+                addResult(new JobResult(page, index, jobId, null, Outcome.ALREADY_HANDLED, 0, null));
+                continue;
+            }
+            if (isAlreadyHandled(jobId)) {
+                System.out.println("Job #" + (index + 1) + " on page " + (page + 1) + " (" + jobId + ") was already handled. Skipping.");
+                addResult(new JobResult(page, index, jobId, null, Outcome.ALREADY_HANDLED, 0, null));
+                continue;
+            }
+            if (PendingQuestions.get().isWaiting(jobId)) {
+                System.out.println("Job #" + (index + 1) + " on page " + (page + 1) + " (" + jobId + ") is waiting for answers. Skipping.");
+                // Not final: the job is retried once its questions are answered
+                addResult(new JobResult(page, index, jobId, null, Outcome.AWAITING_INPUT, 0, null));
+                continue;
+            }
+            JobDetail cached = detailCache.get(jobId);
+            if (cached != null && cached.isNotEasyApply()) {
+                System.out.println("Job #" + (index + 1) + " on page " + (page + 1) + " (" + jobId + ") is "
+                    + cached.applyType() + " according to its cached details. Skipping without opening it.");
+                String jobUrl = LinkedInConfigLoader.getUrl("/jobs/view/" + jobId + "/");
+                history.record(jobId, jobUrl, cached.company(), cached.title(), Outcome.NOT_EASY_APPLY);
+                seenJobs.add(SeenJobIndex.parseJobId(jobId));
+                addResult(new JobResult(page, index, jobId, jobUrl, Outcome.NOT_EASY_APPLY, 0, null));
+                continue;
+            }
+            RelevanceScorer.Relevance relevance = cached != null
+                ? RelevanceScorer.get().score(cached) : RelevanceScorer.get().screenTitle(card.title());
+            if (!relevance.passed()) {
+                System.out.println("Job #" + (index + 1) + " on page " + (page + 1) + " (" + card.title() + ") is not relevant: "
+                    + relevance.rejection() + ". Skipping without opening it.");
+                String jobUrl = LinkedInConfigLoader.getUrl("/jobs/view/" + jobId + "/");
+                history.record(jobId, jobUrl, card.company(), card.title(), Outcome.NOT_RELEVANT);
+                addResult(new JobResult(page, index, jobId, jobUrl, Outcome.NOT_RELEVANT, 0, relevance.rejection()));
+                continue;
+            }
+            addResult(processJob(page, card));
+        }
+
+        return cards.size();
+    }
+
+    /**
+     * Runs the Easy Apply flow again for a job that was parked on questions which have since
+     * been answered. The job is opened from its own page rather than from a results page.
+     *
+     * @param jobId LinkedIn job ID
+     * @return Result of the attempt, with page and index -1
+     * @throws InterruptedException If the thread is interrupted while waiting
+     */
+    public JobResult retryJob(String jobId) throws InterruptedException {
+        JobResult result = processJob(-1, -1, jobId, null, null, () -> contactInfo.openJob(jobId));
+        addResult(result);
+        return result;
+    }
+
+    /**
+     * Runs the Easy Apply flow for one job card and records the outcome
+     */
+    private JobResult processJob(int page, JobCard card) throws InterruptedException {
+        return processJob(page, card.index(), card.jobId(), card.company(), card.title(), () -> contactInfo.clickJob(card));
+    }
+
+    /**
+     * Opens a job with the given action, scores its details, fills its application and records the outcome
+     *
+     * @param cardCompany Company shown on the card, used if the details pane does not load
+     * @param cardTitle Title shown on the card, used if the details pane does not load
+     * @param openJob Opens the job's details, returning whether they are shown
+     */
+    private JobResult processJob(int page, int index, String jobId, String cardCompany, String cardTitle,
+                                 Callable<Boolean> openJob) throws InterruptedException {
+        long jobStart = System.currentTimeMillis();
+        String jobUrl = null;
+        JobDetail detail = null;
+        Outcome outcome;
+        String message = null;
+
+        try {
+            boolean opened = openJob.call();
+            jobUrl = driver.getCurrentUrl();
+            detail = JobDetailExtractor.extract(driver, jobId);
+            if (detail != null) {
+                detailCache.put(detail);
+            }
+
+            // The description is only known now, so this is the last point before the form is opened
+            RelevanceScorer.Relevance relevance = detail != null ? RelevanceScorer.get().score(detail) : null;
+            if (!opened) {
+                outcome = Outcome.APPLY_NOT_STARTED;
+            } else if (relevance != null && !relevance.passed()) {
+                System.out.println("Job " + jobId + " (" + detail.title() + ") is not relevant: " + relevance.rejection() + ".");
+                outcome = Outcome.NOT_RELEVANT;
+                message = relevance.rejection();
+            } else if (detail != null && detail.isNotEasyApply()) {
+                System.out.println("Job " + jobId + " is " + detail.applyType() + ". Not opening Easy Apply.");
+                outcome = Outcome.NOT_EASY_APPLY;
+            } else if (!contactInfo.startEasyApply()) {
+                // The button may just not have rendered yet, so the job is tried again next run
+                outcome = Outcome.APPLY_NOT_STARTED;
+            } else {
+                switch (new EasyApplyFlow(driver, contactInfo).run()) {
+                    case SUBMITTED:
+                        outcome = Outcome.SUBMITTED;
+                        break;
+                    case READY_TO_SUBMIT:
+                        outcome = Outcome.READY_TO_SUBMIT;
+                        break;
+                    case AWAITING_INPUT:
+                        outcome = Outcome.AWAITING_INPUT;
+                        break;
+                    default:
+                        outcome = Outcome.APPLICATION_FAILED;
+                }
+            }
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            System.out.println("Error processing job #" + (index + 1) + " on page " + (page + 1) + ": " + e.getMessage());
+            outcome = Outcome.ERROR;
+            message = e.getMessage();
+        }
+
+        // Always leave the results page clean for the next card
+        contactInfo.closeApplicationModal();
+
+        // The card's own title and company cover a details pane that failed to load
+        String company = detail != null && detail.company() != null ? detail.company() : cardCompany;
+        String title = detail != null && detail.title() != null ? detail.title() : cardTitle;
+        history.record(jobId, jobUrl, company, title, outcome);
+        if (history.isAlreadyHandled(jobId)) {
+            seenJobs.add(SeenJobIndex.parseJobId(jobId));
+        }
+
+        JobResult result = new JobResult(page, index, jobId, jobUrl, outcome, System.currentTimeMillis() - jobStart, message);
+        if (page < 0) {
+            System.out.println("Job " + jobId + ": " + outcome);
+        } else {
+            System.out.println("Job #" + (index + 1) + " on page " + (page + 1) + ": " + outcome);
+        }
+        return result;
+    }
+
+    /**
+     * Records a job result and counts its outcome
+     */
+    private void addResult(JobResult result) {
+        results.add(result);
+        WorkflowMetrics.countJob(result.outcome().name());
+    }
+
+    /**
+     * Checks the seen job index, falling back to the history for jobs recorded before
+     * the index existed. Those jobs are added to the index on the way. An indexed job whose
+     * history says it can be retried, as APPLY_NOT_STARTED could before NOT_EASY_APPLY
+     * existed, is not skipped.
+     */
+    private boolean isAlreadyHandled(String jobId) {
+        long id = SeenJobIndex.parseJobId(jobId);
+        if (seenJobs.contains(id)) {
+            return history.find(jobId) == null || history.isAlreadyHandled(jobId);
+        }
+        if (history.isAlreadyHandled(jobId)) {
+            seenJobs.add(id);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Builds the URL of a results page by setting the start= offset on the search URL
+     *
+     * @param searchUrl Filtered search URL
+     * @param start Offset of the first job on the page
+     * @return URL of the requested results page
+     */
+    static String pageUrl(String searchUrl, int start) {
+        int queryIndex = searchUrl.indexOf('?');
+        String base = queryIndex >= 0 ? searchUrl.substring(0, queryIndex) : searchUrl;
+
+        List<String> params = new ArrayList<>();
+        if (queryIndex >= 0) {
+            for (String pair : searchUrl.substring(queryIndex + 1).split("&")) {
+                if (!pair.isEmpty() && !pair.startsWith("start=")) {
+                    params.add(pair);
+                }
+            }
+        }
+        if (start > 0) {
+            params.add("start=" + start);
+        }
+
+        return params.isEmpty() ? base : base + "?" + String.join("&", params);
+    }
+
+    /**
+     * Returns the job cards listed on the pages processed so far, up to where the harvester stopped
+     *
+     * @return Listed cards, in page order
+     */
+    public List<JobCard> getListedCards() {
+        return Collections.unmodifiableList(listedCards);
+    }
+
+    /**
+     * Checks whether the harvester stopped at jobs an earlier run already listed
+     *
+     * @return true if the rest of the search can be skipped
+     */
+    public boolean hasReachedKnownJobs() {
+        return reachedKnownJobs;
+    }
+
+    /**
+     * Returns the results recorded so far
+     *
+     * @return Per-job results, in processing order
+     */
+    public List<JobResult> getResults() {
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Prints a summary of the outcomes and the application throughput for results
+     * gathered from one or more harvesters
+     *
+     * @param results Per-job results
+     * @param elapsedMillis Wall-clock time spent producing the results
+     */
+    public static void printSummary(List<JobResult> results, long elapsedMillis) {
+        Map<Outcome, Integer> counts = new EnumMap<>(Outcome.class);
+        for (JobResult result : results) {
+            counts.merge(result.outcome(), 1, Integer::sum);
+        }
+
+        elapsedMillis = Math.max(1, elapsedMillis);
+        int completed = counts.getOrDefault(Outcome.SUBMITTED, 0) + counts.getOrDefault(Outcome.READY_TO_SUBMIT, 0);
+        double perHour = completed * 3_600_000.0 / elapsedMillis;
+
+        System.out.println("===== Job harvesting summary =====");
+        System.out.println("Jobs processed: " + results.size());
+        for (Map.Entry<Outcome, Integer> entry : counts.entrySet()) {
+            System.out.println("  " + entry.getKey() + ": " + entry.getValue());
+        }
+        System.out.println("Elapsed: " + elapsedMillis / 1000 + " seconds");
+        System.out.printf("Applications per hour: %.1f%n", perHour);
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.easy.JobApplier;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Finds every occurrence of a fixed set of keywords in a text with one pass over its
+ * characters (an Aho-Corasick automaton), instead of one contains() per keyword.
+ *
+ * Keywords match whole words, ignoring case: "java" matches "Java," but not "JavaScript".
+ * Text is read as a stream of symbols in which letters, digits, '+', '#' and a '.' inside a
+ * word ("node.js", ".NET") are kept and every run of other characters becomes one separator,
+ * so "machine  learning" and "machine-learning" both match the keyword "machine learning".
+ * The automaton is built once into a complete transition table, and scanning allocates nothing.
+ * Instances are immutable and can be shared between threads.
+ */
+public class KeywordMatcher {
+
+    private static final int SEPARATOR = 0;
+    private static final int FIRST_LETTER = 1;
+    private static final int FIRST_DIGIT = FIRST_LETTER + 26;
+    private static final int PLUS = FIRST_DIGIT + 10;
+    private static final int HASH = PLUS + 1;
+    private static final int DOT = HASH + 1;
+    // Letters and digits outside ASCII share one symbol, so they keep words together but match loosely
+    private static final int OTHER = DOT + 1;
+    private static final int ALPHABET = OTHER + 1;
+
+    private final int keywordCount;
+    // Next state by state * ALPHABET + symbol, failure transitions already folded in
+    private final int[] transitions;
+    // First keyword ending in a state, and the next keyword with the same symbols, or -1
+    private final int[] firstKeyword;
+    private final int[] sameKeyword;
+    // Nearest state on the failure chain where a keyword ends, or 0
+    private final int[] outputLink;
+
+    /**
+     * Builds the automaton
+     *
+     * @param keywords Keywords to find; a keyword's position in the list is its number in the counts
+     */
+    public KeywordMatcher(List<String> keywords) {
+        this.keywordCount = keywords.size();
+        this.sameKeyword = new int[keywordCount];
+        Arrays.fill(sameKeyword, -1);
+
+        // Trie of the keywords, padded with separators so they only match whole words
+        int capacity = 1;
+        int[][] symbols = new int[keywordCount][];
+        for (int k = 0; k < keywordCount; k++) {
+            symbols[k] = symbolsOf(keywords.get(k));
+            capacity += symbols[k].length;
+        }
+        int[] trie = new int[capacity * ALPHABET];
+        int[] first = new int[capacity];
+        Arrays.fill(first, -1);
+        int states = 1;
+        for (int k = 0; k < keywordCount; k++) {
+            if (symbols[k].length <= 2) {
+                continue; // Nothing but separators
+            }
+            int state = 0;
+            for (int symbol : symbols[k]) {
+                int next = trie[state * ALPHABET + symbol];
+                if (next == 0) {
+                    next = states++;
+                    trie[state * ALPHABET + symbol] = next;
+                }
+                state = next;
+            }
+            sameKeyword[k] = first[state];
+            first[state] = k;
+        }
+
+        // Breadth-first, each state's failure state is finished before its children need it
+        this.transitions = Arrays.copyOf(trie, states * ALPHABET);
+        this.firstKeyword = Arrays.copyOf(first, states);
+        this.outputLink = new int[states];
+        int[] failure = new int[states];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < ALPHABET; symbol++) {
+            if (transitions[symbol] != 0) {
+                queue.add(transitions[symbol]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int fail = failure[state];
+            outputLink[state] = firstKeyword[fail] >= 0 ? fail : outputLink[fail];
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                int index = state * ALPHABET + symbol;
+                int child = transitions[index];
+                if (child != 0) {
+                    failure[child] = transitions[fail * ALPHABET + symbol];
+                    queue.add(child);
+                } else {
+                    transitions[index] = transitions[fail * ALPHABET + symbol];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keywords
+     *
+     * @return Keyword count, the size the counts array needs
+     */
+    public int size() {
+        return keywordCount;
+    }
+
+    /**
+     * Counts the occurrences of every keyword in a text
+     *
+     * @param text Text to scan, may be null
+     * @param counts Occurrences by keyword number, incremented in place; at least {@link #size()} long
+     */
+    public void count(CharSequence text, int[] counts) {
+        if (text == null) {
+            return;
+        }
+        int state = step(0, SEPARATOR, counts);
+        boolean separated = true;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            int symbol = symbolOf(text.charAt(i), i + 1 < length ? text.charAt(i + 1) : ' ');
+            if (symbol == SEPARATOR) {
+                if (separated) {
+                    continue;
+                }
+                separated = true;
+            } else {
+                separated = false;
+            }
+            state = step(state, symbol, counts);
+        }
+        if (!separated) {
+            step(state, SEPARATOR, counts);
+        }
+    }
+
+    private int step(int state, int symbol, int[] counts) {
+        state = transitions[state * ALPHABET + symbol];
+        for (int output = firstKeyword[state] >= 0 ? state : outputLink[state]; output != 0; output = outputLink[output]) {
+            for (int k = firstKeyword[output]; k >= 0; k = sameKeyword[k]) {
+                counts[k]++;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Maps a character to its symbol; the next character decides whether a '.' is part of a word
+     */
+    private static int symbolOf(char c, char next) {
+        if (c >= 'a' && c <= 'z') {
+            return FIRST_LETTER + (c - 'a');
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return FIRST_LETTER + (c - 'A');
+        }
+        if (c >= '0' && c <= '9') {
+            return FIRST_DIGIT + (c - '0');
+        }
+        switch (c) {
+            case '+':
+                return PLUS;
+            case '#':
+                return HASH;
+            case '.':
+                return Character.isLetterOrDigit(next) ? DOT : SEPARATOR;
+            default:
+                return c > 127 && Character.isLetterOrDigit(c) ? OTHER : SEPARATOR;
+        }
+    }
+
+    /**
+     * The symbols of a keyword between a leading and a trailing separator
+     */
+    private static int[] symbolsOf(String keyword) {
+        int[] symbols = new int[keyword.length() + 2];
+        int length = 0;
+        symbols[length++] = SEPARATOR;
+        for (int i = 0; i < keyword.length(); i++) {
+            int symbol = symbolOf(keyword.charAt(i), i + 1 < keyword.length() ? keyword.charAt(i + 1) : ' ');
+            if (symbol != SEPARATOR || symbols[length - 1] != SEPARATOR) {
+                symbols[length++] = symbol;
+            }
+        }
+        if (symbols[length - 1] != SEPARATOR) {
+            symbols[length++] = SEPARATOR;
+        }
+        return Arrays.copyOf(symbols, length);
+    }
+}
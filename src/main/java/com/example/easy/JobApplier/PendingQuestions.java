@@ -0,0 +1,359 @@
+package com.example.easy.JobApplier;
+
+import com.example.easy.LinkedInConfigLoader;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Persistent queue of form questions that had no saved answer.
+ *
+ * Instead of waiting on the console, a session parks the question here together with
+ * the job that asked it, the job is recorded as awaiting input and the session moves on
+ * to the next posting. The user answers the queue whenever convenient: from the command
+ * line with {@link #main(String[])}, or through the local endpoint the workflow serves
+ * while it runs (linkedin.questions.port). Answers are learned into the saved user
+ * information, and jobs left without open questions are retried at the end of the run.
+ *
+ * The queue is kept in pending_questions.json in the data directory. Every write merges
+ * the answers found in the file first, so answers given from the command line while a
+ * run is going are not lost.
+ */
+public class PendingQuestions {
+
+    private static final String DEFAULT_PATH = "pending_questions.json";
+
+    private static final Gson GSON = new Gson();
+
+    private static volatile PendingQuestions shared;
+
+    private final Path path;
+    // By normalized label, in the order the questions were first asked
+    private final Map<String, Question> questions = new LinkedHashMap<>();
+
+    // A lock rather than synchronized, so virtual threads waiting here do not pin their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * A question waiting for an answer
+     *
+     * @param key Property name the answer is saved under, e.g. "phoneCountryCode" or the label itself
+     * @param label Label shown on the form
+     * @param options Choices offered by the form, empty for free text
+     * @param jobIds Jobs parked on this question
+     * @param askedAt When the question was first asked, in epoch milliseconds
+     * @param answer The answer, or null while it is open
+     */
+    public record Question(String key, String label, List<String> options, List<String> jobIds, long askedAt, String answer) {
+
+        /**
+         * Checks whether the question has been answered
+         *
+         * @return true if an answer was given
+         */
+        public boolean isAnswered() {
+            return answer != null;
+        }
+    }
+
+    /**
+     * Returns the queue shared by every browser session, opening it on first use
+     *
+     * @return The shared queue
+     */
+    public static PendingQuestions get() {
+        if (shared == null) {
+            synchronized (PendingQuestions.class) {
+                if (shared == null) {
+                    shared = new PendingQuestions(LinkedInConfigLoader.getDataPath(DEFAULT_PATH));
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Opens the queue backed by the given file
+     *
+     * @param path Queue file
+     */
+    public PendingQuestions(Path path) {
+        this.path = path;
+        for (Question question : read()) {
+            questions.put(AnswerBank.normalize(question.key()), question);
+        }
+        if (!questions.isEmpty()) {
+            System.out.println("Pending questions loaded: " + questions.size() + " from " + path.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Parks a question for a job. Asking the same question again only adds the job.
+     *
+     * @param key Property name the answer is saved under
+     * @param label Label shown on the form
+     * @param options Choices offered by the form, empty for free text
+     * @param jobId Job that asked the question, may be null
+     */
+    public void park(String key, String label, List<String> options, String jobId) {
+        String id = AnswerBank.normalize(key);
+        lock.lock();
+        try {
+            Question previous = questions.get(id);
+            Set<String> jobIds = new LinkedHashSet<>(previous != null ? previous.jobIds() : List.of());
+            if (jobId != null) {
+                jobIds.add(jobId);
+            }
+            if (previous != null && previous.isAnswered()) {
+                // Answered while the job was being filled; the next attempt will use the answer
+                questions.put(id, new Question(previous.key(), previous.label(), previous.options(),
+                    new ArrayList<>(jobIds), previous.askedAt(), previous.answer()));
+            } else {
+                questions.put(id, new Question(key, label, options == null ? List.of() : List.copyOf(options),
+                    new ArrayList<>(jobIds), previous != null ? previous.askedAt() : System.currentTimeMillis(), null));
+            }
+            save();
+        } finally {
+            lock.unlock();
+        }
+        System.out.println("Parked question \"" + label + "\" for job " + jobId + ". Answer it with PendingQuestions or the questions endpoint.");
+    }
+
+    /**
+     * Answers a question
+     *
+     * @param question Property name or label of the question, or its number in {@link #open()} starting at 1
+     * @param answer The answer
+     * @return The answered question, or null if there is no such open question
+     */
+    public Question answer(String question, String answer) {
+        lock.lock();
+        try {
+            merge();
+            Question open = find(question);
+            if (open == null) {
+                return null;
+            }
+            Question answered = new Question(open.key(), open.label(), open.options(), open.jobIds(), open.askedAt(), answer);
+            questions.put(AnswerBank.normalize(open.key()), answered);
+            save();
+            return answered;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the questions still waiting for an answer
+     *
+     * @return Open questions, oldest first
+     */
+    public List<Question> open() {
+        lock.lock();
+        try {
+            List<Question> open = new ArrayList<>();
+            for (Question question : questions.values()) {
+                if (!question.isAnswered()) {
+                    open.add(question);
+                }
+            }
+            return open;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the answered questions without removing them, so their answers can be learned
+     *
+     * @return Answered questions, including those answered from the command line since the queue was read
+     */
+    public List<Question> answered() {
+        lock.lock();
+        try {
+            merge();
+            List<Question> answered = new ArrayList<>();
+            for (Question question : questions.values()) {
+                if (question.isAnswered()) {
+                    answered.add(question);
+                }
+            }
+            return answered;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the answered questions from the queue
+     *
+     * @return The removed questions
+     */
+    public List<Question> takeAnswered() {
+        lock.lock();
+        try {
+            List<Question> answered = answered();
+            for (Question question : answered) {
+                questions.remove(AnswerBank.normalize(question.key()));
+            }
+            if (!answered.isEmpty()) {
+                save();
+            }
+            return answered;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether a job is parked on a question that is still open
+     *
+     * @param jobId LinkedIn job ID
+     * @return true if the job has to wait for an answer
+     */
+    public boolean isWaiting(String jobId) {
+        if (jobId == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (Question question : questions.values()) {
+                if (!question.isAnswered() && question.jobIds().contains(jobId)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finds an open question by number, key or label. Callers hold the lock.
+     */
+    private Question find(String question) {
+        List<Question> open = open();
+        try {
+            int number = Integer.parseInt(question.trim());
+            return number >= 1 && number <= open.size() ? open.get(number - 1) : null;
+        } catch (NumberFormatException e) {
+            // Not a number, so a key or label
+        }
+        String id = AnswerBank.normalize(question);
+        for (Question candidate : open) {
+            if (AnswerBank.normalize(candidate.key()).equals(id) || AnswerBank.normalize(candidate.label()).equals(id)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Takes over answers written to the file by another process. Callers hold the lock.
+     */
+    private void merge() {
+        for (Question onDisk : read()) {
+            String id = AnswerBank.normalize(onDisk.key());
+            Question inMemory = questions.get(id);
+            if (onDisk.isAnswered() && inMemory != null && !inMemory.isAnswered()) {
+                questions.put(id, new Question(inMemory.key(), inMemory.label(), inMemory.options(),
+                    inMemory.jobIds(), inMemory.askedAt(), onDisk.answer()));
+            }
+        }
+    }
+
+    private List<Question> read() {
+        if (!Files.exists(path)) {
+            return List.of();
+        }
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            Question[] stored = GSON.fromJson(reader, Question[].class);
+            return stored == null ? List.of() : List.of(stored);
+        } catch (IOException | JsonParseException e) {
+            System.err.println("Warning: Could not read pending questions: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Writes the queue through a temporary file and an atomic move. Callers hold the lock.
+     */
+    private void save() {
+        merge();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                GSON.toJson(questions.values().toArray(new Question[0]), writer);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Could not save pending questions: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Answers pending questions from the command line. With a question and an answer as
+     * arguments, that question is answered; without arguments every open question is asked
+     * in turn, and an empty line skips it. The parked jobs are retried by the next run.
+     *
+     * @param args Optional question (number, key or label) and answer
+     */
+    public static void main(String[] args) {
+        PendingQuestions queue = get();
+        if (args.length >= 2) {
+            Question answered = queue.answer(args[0], args[1]);
+            System.out.println(answered != null ? "Answered \"" + answered.label() + "\"." : "No open question " + args[0] + ".");
+            return;
+        }
+
+        List<Question> open = queue.open();
+        if (open.isEmpty()) {
+            System.out.println("No pending questions.");
+            return;
+        }
+        Scanner scanner = new Scanner(System.in);
+        for (Question question : open) {
+            System.out.println(question.label() + " (" + question.jobIds().size() + " job(s) waiting)");
+            for (int i = 0; i < question.options().size(); i++) {
+                System.out.println("  " + (i + 1) + ". " + question.options().get(i));
+            }
+            System.out.print(question.options().isEmpty() ? "Answer: " : "Answer or option number: ");
+            if (!scanner.hasNextLine()) {
+                break;
+            }
+            String answer = scanner.nextLine().trim();
+            if (answer.isEmpty()) {
+                continue;
+            }
+            try {
+                int option = Integer.parseInt(answer);
+                if (option >= 1 && option <= question.options().size()) {
+                    answer = question.options().get(option - 1);
+                }
+            } catch (NumberFormatException e) {
+                // Free text answer
+            }
+            queue.answer(question.key(), answer);
+        }
+    }
+}
@@ -0,0 +1,554 @@
+package com.example.easy.JobApplier;
+
+import com.example.easy.LinkedInConfig;
+import com.example.easy.LinkedInConfigLoader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Decides whether a posting is worth applying to before any browser time is spent on it.
+ *
+ * The title and description are scanned once by a {@link KeywordMatcher} holding the
+ * configured keywords and the negative keywords. A posting is rejected if it mentions a
+ * negative keyword, if its seniority (from the job criteria, else from the words leading
+ * the title, see {@link Seniority#fromTitle(String)}) is not one of the accepted levels, or if
+ * the highest pay it states is below the minimum salary. Otherwise every keyword found
+ * adds its weight, twice if it is in the title, and the posting passes when the score
+ * reaches the threshold; without keywords there is no threshold.
+ *
+ * Configured with linkedin.relevance.keywords (e.g. "java:3, spring boot:2, selenium"),
+ * linkedin.relevance.negative, linkedin.relevance.seniority, linkedin.relevance.min_salary
+ * and linkedin.relevance.threshold. Scoring allocates nothing but the result, so thousands
+ * of postings can be ranked per second.
+ */
+public class RelevanceScorer {
+
+    private static final int KEYWORD = 0;
+    private static final int NEGATIVE = 1;
+
+    // Hours in a working year, to compare hourly pay with a yearly minimum
+    private static final int HOURS_PER_YEAR = 2080;
+
+    // Rates written after an amount
+    private static final String[] HOURLY = {"/hr", "/hour", "per hour", "an hour", "hourly"};
+    private static final String[] MONTHLY = {"/mo", "/month", "per month", "a month", "monthly"};
+    private static final String[] YEARLY = {"/yr", "/year", "per year", "a year", "per annum", "p.a.", "annually", "yearly",
+        "annual"};
+
+    // Words before an amount that make it pay, and words in its clause that make it something else
+    private static final String[] SALARY_WORDS = {"salary", "base pay", "pay range", "compensation", "wage"};
+    private static final String[] NOT_SALARY_WORDS = {"bonus", "stipend", "allowance", "reimburse", "relocation", "signing",
+        "sign-on", "equity", "budget", "funding", "revenue", "raised"};
+    private static final String[] CLAUSE_WORDS = {"plus ", "and ", "with "};
+    private static final int SALARY_CONTEXT_CHARS = 60;
+    private static final int CLAUSE_CHARS = 30;
+
+    private static volatile RelevanceScorer shared;
+
+    /**
+     * LinkedIn's seniority levels, lowest first, named as in linkedin.filter.exp_level
+     */
+    public enum Seniority {
+        INTERNSHIP("internship", "intern", "internship"),
+        ENTRY_LEVEL("entry level", "junior", "jr", "entry level", "entry-level"),
+        ASSOCIATE("associate", "associate"),
+        MID_SENIOR_LEVEL("mid-senior level", "senior", "sr", "principal"),
+        DIRECTOR("director", "director", "head of"),
+        EXECUTIVE("executive", "vp", "svp", "evp", "vice president", "cto", "cio");
+
+        private static final Seniority[] LEVELS = values();
+
+        // As shown in the job criteria
+        private final String criterion;
+        // Words that give the level only when they lead the title; "Lead", "Staff", "Chief" and
+        // "Executive" are left out, as in "Lead Generation", "Staff Accountant", "Chief of Staff"
+        // or "Account Executive" they say nothing about it
+        private final String[] titleModifiers;
+
+        Seniority(String criterion, String... titleModifiers) {
+            this.criterion = criterion;
+            this.titleModifiers = titleModifiers;
+        }
+
+        /**
+         * Reads the level from the modifiers leading a title. "Senior Director" is a director,
+         * so the highest of several leading modifiers counts.
+         *
+         * @param title Job title, may be null
+         * @return The level, or null if the title does not start with a modifier
+         */
+        public static Seniority fromTitle(String title) {
+            if (title == null) {
+                return null;
+            }
+            Seniority level = null;
+            int i = skipSeparators(title, 0);
+            while (i < title.length()) {
+                Seniority found = null;
+                int end = i;
+                for (Seniority candidate : LEVELS) {
+                    for (String modifier : candidate.titleModifiers) {
+                        int after = i + modifier.length();
+                        if (title.regionMatches(true, i, modifier, 0, modifier.length())
+                                && (after == title.length() || !Character.isLetterOrDigit(title.charAt(after)))) {
+                            found = candidate;
+                            end = after;
+                        }
+                    }
+                }
+                if (found == null) {
+                    break;
+                }
+                if (level == null || found.compareTo(level) > 0) {
+                    level = found;
+                }
+                i = skipSeparators(title, end);
+            }
+            return level;
+        }
+
+        private static int skipSeparators(String text, int from) {
+            int i = from;
+            while (i < text.length() && !Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            return i;
+        }
+
+        /**
+         * Parses a level as written in linkedin.filter.exp_level or shown in the job criteria
+         *
+         * @param text e.g. "mid_senior_level" or "Mid-Senior level"
+         * @return The level, or null if the text names none
+         */
+        public static Seniority parse(String text) {
+            String name = text.trim().toUpperCase().replace('-', '_').replace(' ', '_');
+            for (Seniority level : values()) {
+                if (level.name().equals(name) || level.criterion.equalsIgnoreCase(text.trim())) {
+                    return level;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * How relevant a posting is
+     *
+     * @param score Sum of the weights of the keywords found
+     * @param rejection Why the posting should not be applied to, or null if it passed
+     */
+    public record Relevance(int score, String rejection) {
+
+        /**
+         * Checks whether the posting should be applied to
+         *
+         * @return true if no rule rejected it
+         */
+        public boolean passed() {
+            return rejection == null;
+        }
+    }
+
+    private final KeywordMatcher matcher;
+    private final String[] keywords;
+    private final int[] kinds;
+    private final int[] weights;
+    private final Set<Seniority> acceptedLevels;
+    private final int minSalary;
+    private final int threshold;
+    private final boolean hasKeywords;
+    // Configuration the scorer was built from, null if built from explicit rules
+    private final LinkedInConfig config;
+
+    // Occurrence counts by keyword number, reused by every posting scored on the thread
+    private final ThreadLocal<int[]> titleCounts;
+    private final ThreadLocal<int[]> textCounts;
+
+    /**
+     * Returns the scorer for the current configuration, rebuilding it when the configuration changes
+     *
+     * @return The shared scorer
+     */
+    public static RelevanceScorer get() {
+        LinkedInConfig config = LinkedInConfigLoader.getConfig();
+        RelevanceScorer scorer = shared;
+        if (scorer == null || scorer.config != config) {
+            scorer = new RelevanceScorer(config);
+            shared = scorer;
+        }
+        return scorer;
+    }
+
+    private RelevanceScorer(LinkedInConfig config) {
+        this(config.relevanceKeywords(), config.relevanceNegativeKeywords(), config.relevanceSeniority(),
+            config.relevanceMinSalary(), config.relevanceThreshold(), config);
+    }
+
+    /**
+     * Builds a scorer
+     *
+     * @param keywords Keywords, each optionally followed by ":weight" (default 1)
+     * @param negativeKeywords Keywords that reject a posting
+     * @param seniority Accepted seniority levels (see {@link Seniority#parse(String)}), empty to accept any
+     * @param minSalary Minimum yearly pay, 0 for none
+     * @param threshold Score a posting needs when keywords are given
+     */
+    public RelevanceScorer(List<String> keywords, List<String> negativeKeywords, List<String> seniority,
+                           int minSalary, int threshold) {
+        this(keywords, negativeKeywords, seniority, minSalary, threshold, null);
+    }
+
+    private RelevanceScorer(List<String> keywords, List<String> negativeKeywords, List<String> seniority,
+                            int minSalary, int threshold, LinkedInConfig config) {
+        List<String> patterns = new ArrayList<>();
+        List<Integer> patternKinds = new ArrayList<>();
+        List<Integer> patternWeights = new ArrayList<>();
+        for (String entry : keywords) {
+            int colon = entry.lastIndexOf(':');
+            int weight = 1;
+            String keyword = entry;
+            if (colon > 0) {
+                try {
+                    weight = Integer.parseInt(entry.substring(colon + 1).trim());
+                    keyword = entry.substring(0, colon);
+                } catch (NumberFormatException e) {
+                    // A colon that is part of the keyword
+                }
+            }
+            add(patterns, patternKinds, patternWeights, keyword.trim(), KEYWORD, weight);
+        }
+        for (String keyword : negativeKeywords) {
+            add(patterns, patternKinds, patternWeights, keyword.trim(), NEGATIVE, 0);
+        }
+
+        Set<Seniority> accepted = EnumSet.noneOf(Seniority.class);
+        for (String entry : seniority) {
+            Seniority level = Seniority.parse(entry);
+            if (level != null) {
+                accepted.add(level);
+            } else {
+                System.err.println("Warning: Unknown seniority level in linkedin.relevance.seniority: " + entry);
+            }
+        }
+
+        this.matcher = new KeywordMatcher(patterns);
+        this.keywords = patterns.toArray(new String[0]);
+        this.kinds = patternKinds.stream().mapToInt(Integer::intValue).toArray();
+        this.weights = patternWeights.stream().mapToInt(Integer::intValue).toArray();
+        this.acceptedLevels = accepted;
+        this.minSalary = Math.max(0, minSalary);
+        this.threshold = threshold;
+        this.hasKeywords = patternKinds.contains(KEYWORD);
+        this.config = config;
+        int size = patterns.size();
+        this.titleCounts = ThreadLocal.withInitial(() -> new int[size]);
+        this.textCounts = ThreadLocal.withInitial(() -> new int[size]);
+    }
+
+    private static void add(List<String> patterns, List<Integer> kinds, List<Integer> weights,
+                            String keyword, int kind, int weight) {
+        if (keyword.isEmpty()) {
+            return;
+        }
+        patterns.add(keyword);
+        kinds.add(kind);
+        weights.add(weight);
+    }
+
+    /**
+     * Scores a posting from its details
+     *
+     * @param detail Details read from the job details pane or the cache
+     * @return The posting's relevance
+     */
+    public Relevance score(JobDetail detail) {
+        return score(detail.title(), detail.description(), detail.criteria());
+    }
+
+    /**
+     * Scores a posting
+     *
+     * @param title Job title, may be null
+     * @param description Description text, may be null
+     * @param criteria Job criteria such as "Mid-Senior level", may be null
+     * @return The posting's relevance
+     */
+    public Relevance score(String title, String description, List<String> criteria) {
+        int[] inTitle = scan(titleCounts.get(), title);
+        int[] inText = scan(textCounts.get(), description);
+
+        String rejection = rejectByKeywordsOrTitle(title, inTitle, inText, criteria);
+        if (rejection != null) {
+            return new Relevance(0, rejection);
+        }
+
+        if (minSalary > 0) {
+            long pay = Math.max(highestYearlyPay(description), highestYearlyPay(criteria));
+            if (pay > 0 && pay < minSalary) {
+                return new Relevance(0, "pays up to " + pay + " a year, below " + minSalary);
+            }
+        }
+
+        int score = 0;
+        for (int k = 0; k < kinds.length; k++) {
+            if (kinds[k] == KEYWORD) {
+                score += inTitle[k] > 0 ? 2 * weights[k] : inText[k] > 0 ? weights[k] : 0;
+            }
+        }
+        if (hasKeywords && score < threshold) {
+            return new Relevance(score, "score " + score + " below " + threshold);
+        }
+        return new Relevance(score, null);
+    }
+
+    /**
+     * Screens a posting by its title alone, e.g. from a job card before it is opened.
+     * Only the rejecting rules apply, since the description may still hold the keywords.
+     *
+     * @param title Job title, may be null
+     * @return The posting's relevance, with a score of 0
+     */
+    public Relevance screenTitle(String title) {
+        int[] inTitle = scan(titleCounts.get(), title);
+        int[] inText = textCounts.get();
+        Arrays.fill(inText, 0);
+        return new Relevance(0, rejectByKeywordsOrTitle(title, inTitle, inText, null));
+    }
+
+    private int[] scan(int[] counts, String text) {
+        Arrays.fill(counts, 0);
+        matcher.count(text, counts);
+        return counts;
+    }
+
+    /**
+     * Applies the negative keyword and seniority rules to the counts of a scan
+     *
+     * @return Why the posting is rejected, or null
+     */
+    private String rejectByKeywordsOrTitle(String title, int[] inTitle, int[] inText, List<String> criteria) {
+        Seniority level = null;
+        if (criteria != null) {
+            for (String criterion : criteria) {
+                Seniority stated = Seniority.parse(criterion);
+                if (stated != null) {
+                    level = stated;
+                    break;
+                }
+            }
+        }
+        for (int k = 0; k < kinds.length; k++) {
+            if (kinds[k] == NEGATIVE && (inTitle[k] > 0 || inText[k] > 0)) {
+                return "mentions " + keywords[k];
+            }
+        }
+        if (level == null) {
+            level = Seniority.fromTitle(title);
+        }
+        if (level != null && !acceptedLevels.isEmpty() && !acceptedLevels.contains(level)) {
+            return "seniority " + level.name().toLowerCase() + " not accepted";
+        }
+        return null;
+    }
+
+    private static long highestYearlyPay(List<String> texts) {
+        long highest = 0;
+        if (texts != null) {
+            for (String text : texts) {
+                highest = Math.max(highest, highestYearlyPay(text));
+            }
+        }
+        return highest;
+    }
+
+    /**
+     * Finds the highest pay stated in a text such as "Salary: $120,000 - $150K" or "$45/hr",
+     * converted to a yearly amount. Only amounts that read as pay count: one end of a range,
+     * one followed by a rate per hour, month or year, or one after a word like "salary".
+     * Bonuses, stipends and other amounts named as such in the same clause are ignored,
+     * and so are amounts in millions and yearly amounts under 1,000.
+     *
+     * @param text Text to scan, may be null
+     * @return Highest yearly pay, or 0 if none is stated
+     */
+    static long highestYearlyPay(String text) {
+        if (text == null) {
+            return 0;
+        }
+        long highest = 0;
+        // Currency sign of the upper end of the range the previous amount opened, or -1
+        int rangeUpper = -1;
+        for (int i = 0; i < text.length(); i++) {
+            if (!isCurrency(text.charAt(i))) {
+                continue;
+            }
+            int end = amountEnd(text, i);
+            if (end < 0) {
+                continue;
+            }
+            int after = skipSpaces(text, end);
+            int multiplier = rateMultiplier(text, after);
+            boolean upperEnd = i == rangeUpper;
+            rangeUpper = rangeUpperAt(text, after);
+            if (multiplier == 0 && rangeUpper >= 0) {
+                // "$50 - $60/hr": the rate after the range covers both ends
+                int upper = amountEnd(text, rangeUpper);
+                if (upper >= 0) {
+                    multiplier = rateMultiplier(text, skipSpaces(text, upper));
+                }
+            }
+
+            boolean pay = multiplier != 0 || upperEnd || rangeUpper >= 0
+                || mentions(text, i - SALARY_CONTEXT_CHARS, i, SALARY_WORDS);
+            if (!pay || mentions(text, clauseStart(text, i), i, NOT_SALARY_WORDS)
+                || mentions(text, after, clauseEnd(text, after), NOT_SALARY_WORDS)) {
+                continue;
+            }
+            long yearly = amountValue(text, i, end) * (multiplier == 0 ? 1 : multiplier);
+            if (yearly >= 1000) {
+                highest = Math.max(highest, yearly);
+            }
+            i = end - 1;
+        }
+        return highest;
+    }
+
+    private static boolean isCurrency(char c) {
+        return c == '$' || c == '€' || c == '£';
+    }
+
+    /**
+     * Returns where the amount after a currency sign ends, past its cents and a "k",
+     * or -1 if no amount follows or it is in millions
+     */
+    private static int amountEnd(String text, int currency) {
+        int length = text.length();
+        int j = currency + 1;
+        int digits = 0;
+        // A comma only belongs to the amount between digits, "$140,000, plus" ends before the second
+        while (j < length && (Character.isDigit(text.charAt(j))
+                || (text.charAt(j) == ',' && j + 1 < length && Character.isDigit(text.charAt(j + 1))))) {
+            if (text.charAt(j) != ',') {
+                digits++;
+            }
+            j++;
+        }
+        if (digits == 0 || digits > 9) {
+            return -1;
+        }
+        // Cents do not change whether the pay reaches the minimum
+        if (j + 1 < length && text.charAt(j) == '.' && Character.isDigit(text.charAt(j + 1))) {
+            j++;
+            while (j < length && Character.isDigit(text.charAt(j))) {
+                j++;
+            }
+        }
+        if (j < length && (text.charAt(j) == 'k' || text.charAt(j) == 'K')) {
+            return j + 1;
+        }
+        if (j < length && (text.charAt(j) == 'm' || text.charAt(j) == 'M')) {
+            return -1; // Funding or revenue, not pay
+        }
+        return j;
+    }
+
+    /**
+     * Returns the whole amount between a currency sign and the end found by {@link #amountEnd}
+     */
+    private static long amountValue(String text, int currency, int end) {
+        long amount = 0;
+        for (int j = currency + 1; j < end && (Character.isDigit(text.charAt(j)) || text.charAt(j) == ','); j++) {
+            if (text.charAt(j) != ',') {
+                amount = amount * 10 + (text.charAt(j) - '0');
+            }
+        }
+        char last = text.charAt(end - 1);
+        return last == 'k' || last == 'K' ? amount * 1000 : amount;
+    }
+
+    /**
+     * Returns how many times a year the rate written at the position is paid, or 0 if none is written
+     */
+    private static int rateMultiplier(String text, int at) {
+        if (startsWithAny(text, at, HOURLY)) {
+            return HOURS_PER_YEAR;
+        }
+        if (startsWithAny(text, at, MONTHLY)) {
+            return 12;
+        }
+        return startsWithAny(text, at, YEARLY) ? 1 : 0;
+    }
+
+    /**
+     * Returns the currency sign of the upper end of a range such as "- $150K" or "to $150K"
+     * written at the position, or -1
+     */
+    private static int rangeUpperAt(String text, int at) {
+        int j;
+        if (at < text.length() && (text.charAt(at) == '-' || text.charAt(at) == '–' || text.charAt(at) == '—')) {
+            j = skipSpaces(text, at + 1);
+        } else if (text.regionMatches(true, at, "to ", 0, 3)) {
+            j = skipSpaces(text, at + 3);
+        } else {
+            return -1;
+        }
+        return j < text.length() && isCurrency(text.charAt(j)) ? j : -1;
+    }
+
+    /**
+     * Start of the clause an amount is in, looking back a few words at most
+     */
+    private static int clauseStart(String text, int at) {
+        int k = at - 1;
+        while (k >= 0 && at - k <= CLAUSE_CHARS && ",;.)".indexOf(text.charAt(k)) < 0) {
+            k--;
+        }
+        return k + 1;
+    }
+
+    /**
+     * End of the clause after an amount, looking ahead a few words at most; "plus" or "and"
+     * start the next clause, as in "$150K plus bonus"
+     */
+    private static int clauseEnd(String text, int at) {
+        int limit = Math.min(text.length(), at + CLAUSE_CHARS);
+        for (int k = at; k < limit; k++) {
+            char c = text.charAt(k);
+            if (",;(+".indexOf(c) >= 0 || (c == '.' && (k + 1 == text.length() || text.charAt(k + 1) == ' '))
+                || ((k == at || text.charAt(k - 1) == ' ') && startsWithAny(text, k, CLAUSE_WORDS))) {
+                return k;
+            }
+        }
+        return limit;
+    }
+
+    private static int skipSpaces(String text, int at) {
+        while (at < text.length() && text.charAt(at) == ' ') {
+            at++;
+        }
+        return at;
+    }
+
+    private static boolean startsWithAny(String text, int at, String[] words) {
+        for (String word : words) {
+            if (text.regionMatches(true, at, word, 0, word.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean mentions(String text, int from, int to, String[] words) {
+        for (int k = Math.max(0, from); k < to; k++) {
+            if (startsWithAny(text, k, words)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
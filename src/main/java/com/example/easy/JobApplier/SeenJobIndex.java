@@ -0,0 +1,258 @@
+package com.example.easy.JobApplier;
+
+import com.example.easy.LinkedInConfigLoader;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compact set of LinkedIn job IDs that have already been handled, backed by a
+ * memory-mapped file so it survives restarts and stays off the Java heap.
+ *
+ * The file is an open-addressing hash table of primitive longs with linear probing.
+ * A slot value of 0 marks an empty slot, which is safe because LinkedIn job IDs are
+ * always positive. Lookups and inserts are constant time and never box. When the
+ * table is half full it is rehashed into a file twice the size, which is then moved
+ * into place atomically. It stops growing at 2^27 slots (1 GB), and an add that would
+ * fill more than three quarters of the table, about 100 million IDs at that size, fails
+ * instead of leaving the probes without an empty slot to stop at.
+ */
+public class SeenJobIndex implements AutoCloseable {
+
+    private static final String DEFAULT_INDEX_PATH = "seen_job_ids.idx";
+
+    private static final long MAGIC = 0x5345454E4A4F4231L; // "SEENJOB1"
+    private static final int HEADER_BYTES = 16;
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    // The whole table must fit in one mapping (2 GB)
+    private static final int MAX_CAPACITY = 1 << 27;
+
+    private final Path path;
+    private final int maxCapacity;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private MappedByteBuffer table;
+    private int capacity;
+    private int size;
+
+    /**
+     * Opens the index at the default location, creating it if needed
+     *
+     * @return The opened index
+     * @throws IOException If the index file cannot be opened or created
+     */
+    public static SeenJobIndex open() throws IOException {
+        return new SeenJobIndex(LinkedInConfigLoader.getDataPath(DEFAULT_INDEX_PATH));
+    }
+
+    /**
+     * Opens the index backed by the given file, creating it if needed
+     *
+     * @param path Index file
+     * @throws IOException If the index file cannot be opened or created
+     */
+    public SeenJobIndex(Path path) throws IOException {
+        this(path, INITIAL_CAPACITY, MAX_CAPACITY);
+    }
+
+    /**
+     * Opens the index with the given table sizes, so a full table can be tested without a 1 GB file
+     *
+     * @param path Index file
+     * @param initialCapacity Slots of a new table, a power of two
+     * @param maxCapacity Slots the table stops growing at, a power of two
+     * @throws IOException If the index file cannot be opened or created
+     */
+    SeenJobIndex(Path path, int initialCapacity, int maxCapacity) throws IOException {
+        this.path = path;
+        this.maxCapacity = maxCapacity;
+
+        if (Files.exists(path) && Files.size(path) >= HEADER_BYTES) {
+            table = map(path, Files.size(path));
+            if (table.getLong(0) != MAGIC) {
+                throw new IOException("Not a seen job index file: " + path.toAbsolutePath());
+            }
+            capacity = table.getInt(8);
+            size = table.getInt(12);
+            System.out.println("Seen job index loaded: " + size + " job IDs from " + path.toAbsolutePath());
+        } else {
+            table = createTable(path, initialCapacity);
+            capacity = initialCapacity;
+            size = 0;
+        }
+    }
+
+    /**
+     * Parses a job ID as shown in LinkedIn URLs and card attributes
+     *
+     * @param jobId Job ID string, may be null
+     * @return The numeric ID, or 0 if the string is not a valid job ID
+     */
+    public static long parseJobId(String jobId) {
+        if (jobId == null) {
+            return 0;
+        }
+        try {
+            long id = Long.parseLong(jobId.trim());
+            return id > 0 ? id : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Checks whether a job ID is in the set
+     *
+     * @param jobId Positive job ID
+     * @return true if the ID has been added before
+     */
+    public boolean contains(long jobId) {
+        if (jobId <= 0) {
+            return false;
+        }
+
+        lock.readLock().lock();
+        try {
+            return table.getLong(slotOffset(findSlot(table, capacity, jobId))) == jobId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a job ID to the set
+     *
+     * @param jobId Positive job ID
+     * @return true if the ID was not already present
+     * @throws IllegalStateException If the table is three quarters full and cannot grow
+     */
+    public boolean add(long jobId) {
+        if (jobId <= 0) {
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            int slot = findSlot(table, capacity, jobId);
+            if (table.getLong(slotOffset(slot)) == jobId) {
+                return false;
+            }
+            // Reached at the maximum size, or when growing failed; probing needs empty slots to stop at
+            if (size + 1 > capacity - capacity / 4) {
+                throw new IllegalStateException("Seen job index is full with " + size + " job IDs: " + path.toAbsolutePath());
+            }
+
+            table.putLong(slotOffset(slot), jobId);
+            size++;
+            table.putInt(12, size);
+
+            if (size * 2 > capacity && capacity < maxCapacity) {
+                grow();
+            }
+            return true;
+        } catch (IOException e) {
+            System.err.println("Warning: Could not grow seen job index: " + e.getMessage());
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of job IDs in the set
+     *
+     * @return Number of IDs
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes the mapped table to disk
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            table.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rehashes every ID into a table twice the size and swaps it in
+     */
+    private void grow() throws IOException {
+        int newCapacity = capacity * 2;
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        MappedByteBuffer newTable = createTable(temp, newCapacity);
+
+        for (int slot = 0; slot < capacity; slot++) {
+            long id = table.getLong(slotOffset(slot));
+            if (id != 0) {
+                newTable.putLong(slotOffset(findSlot(newTable, newCapacity, id)), id);
+            }
+        }
+        newTable.putInt(12, size);
+        newTable.force();
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        table = newTable;
+        capacity = newCapacity;
+    }
+
+    /**
+     * Finds the slot holding the ID, or the empty slot where it would be inserted
+     */
+    private static int findSlot(MappedByteBuffer table, int capacity, long jobId) {
+        int mask = capacity - 1;
+        int slot = (int) mix(jobId) & mask;
+        while (true) {
+            long value = table.getLong(slotOffset(slot));
+            if (value == 0 || value == jobId) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static int slotOffset(int slot) {
+        return HEADER_BYTES + slot * Long.BYTES;
+    }
+
+    /**
+     * Spreads sequential job IDs across the table (finalizer from SplitMix64)
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private static MappedByteBuffer createTable(Path path, int capacity) throws IOException {
+        MappedByteBuffer table = map(path, HEADER_BYTES + (long) capacity * Long.BYTES);
+        table.putLong(0, MAGIC);
+        table.putInt(8, capacity);
+        table.putInt(12, 0);
+        return table;
+    }
+
+    private static MappedByteBuffer map(Path path, long bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package com.example.easy.JobApplier;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The user's saved answers, shared by every browser session.
+ *
+ * Answers are read from memory. Each learned answer is appended to a journal next to
+ * user_info.properties by a background writer, which writes every answer queued by the
+ * sessions with one write and one fsync, so recording an answer never rewrites the
+ * properties file or waits for the disk. Once the journal holds more lines than there
+ * are answers, and when the store is closed, the answers are compacted into a new
+ * user_info.properties that is moved into place atomically and the journal is emptied.
+ * At startup the journal is replayed over the properties file, so answers learned by a
+ * run that did not close the store are not lost.
+ */
+public class UserInfoStore implements AutoCloseable {
+
+    private static final String USER_INFO_FILE = "src/main/resources/user_info.properties";
+
+    /** Maximum number of answers appended with one fsync */
+    private static final int MAX_BATCH_SIZE = 256;
+
+    /** The journal is never compacted before it has this many lines */
+    private static final int MIN_COMPACT_LINES = 64;
+
+    private static volatile UserInfoStore shared;
+
+    private final Gson gson = new Gson();
+    private final Path path;
+    private final Path journalPath;
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final BlockingQueue<Entry> pendingWrites = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean closed = false;
+
+    // Orders the journal the same way as the map when sessions learn the same answer at once
+    private final ReentrantLock putLock = new ReentrantLock();
+
+    // Used by the writer thread only, and by close() after it has stopped
+    private FileChannel journal;
+    private int journalLines = 0;
+
+    /**
+     * One learned answer as written to the journal
+     *
+     * @param key Property name the answer is saved under
+     * @param value The answer
+     * @param at When the answer was learned, in epoch milliseconds
+     */
+    private record Entry(String key, String value, long at) {
+    }
+
+    /**
+     * Returns the store shared by every browser session, opening it on first use or
+     * again after it was closed
+     *
+     * @return The shared store
+     */
+    public static UserInfoStore get() {
+        UserInfoStore store = shared;
+        if (store == null || store.closed) {
+            synchronized (UserInfoStore.class) {
+                if (shared == null || shared.closed) {
+                    shared = new UserInfoStore(Paths.get(USER_INFO_FILE));
+                }
+                store = shared;
+            }
+        }
+        return store;
+    }
+
+    /**
+     * Returns the shared store without opening it, for answers learned while the workflow runs;
+     * an answer arriving after the run closed the store must not open one that is never closed
+     *
+     * @return The shared store
+     * @throws IllegalStateException If the store is not open
+     */
+    static UserInfoStore current() {
+        UserInfoStore store = shared;
+        if (store == null || store.closed) {
+            throw new IllegalStateException("User information store is not open");
+        }
+        return store;
+    }
+
+    /**
+     * Opens the store backed by the given properties file and its journal
+     *
+     * @param path Properties file holding the compacted answers
+     */
+    public UserInfoStore(Path path) {
+        this.path = path;
+        this.journalPath = path.resolveSibling(path.getFileName() + ".journal");
+        load();
+        this.writer = Thread.ofVirtual().name("user-info-writer").start(this::writeLoop);
+    }
+
+    /**
+     * Looks up an answer by its property name
+     *
+     * @param key Property name
+     * @return The answer, or null if none is saved
+     */
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Returns every saved answer
+     *
+     * @return Answers by property name, a copy
+     */
+    public Map<String, String> entries() {
+        return new HashMap<>(values);
+    }
+
+    /**
+     * Saves an answer. It is readable at once; the journal write happens in the background.
+     *
+     * @param key Property name to save the answer under
+     * @param value The answer
+     * @throws IllegalStateException If the store has been closed, as the answer would not be written
+     */
+    public void put(String key, String value) {
+        if (key == null || value == null) {
+            return;
+        }
+        putLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("User info store is closed; cannot save " + key);
+            }
+            if (value.equals(values.put(key, value))) {
+                return;
+            }
+            pendingWrites.offer(new Entry(key, value, System.currentTimeMillis()));
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the queued answers, compacts them into the properties file and stops the
+     * background writer. A later {@link #get()} waits for this to finish and opens the
+     * store again, so it reads every answer this one saved.
+     */
+    @Override
+    public void close() {
+        synchronized (UserInfoStore.class) {
+            // Every put either sees the flag or has queued its answer before the writer is told to stop
+            putLock.lock();
+            try {
+                closed = true;
+            } finally {
+                putLock.unlock();
+            }
+            // The writer drains the queue before it stops, and only then may this thread touch the journal
+            boolean interrupted = false;
+            while (writer.isAlive()) {
+                try {
+                    writer.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (journalLines > 0) {
+                compact();
+            }
+            try {
+                if (journal != null) {
+                    journal.close();
+                }
+            } catch (IOException e) {
+                System.err.println("Warning: Could not close user info journal: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Background loop that appends queued answers to the journal in batches
+     */
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (!closed || !pendingWrites.isEmpty()) {
+            try {
+                Entry first = pendingWrites.poll(250, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                pendingWrites.drainTo(batch, MAX_BATCH_SIZE - 1);
+                append(batch);
+                if (journalLines >= Math.max(MIN_COMPACT_LINES, values.size())) {
+                    compact();
+                }
+            } catch (InterruptedException e) {
+                // Keep draining until the store is closed
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Appends a batch of answers with a single write and fsync
+     */
+    private void append(List<Entry> batch) {
+        StringBuilder lines = new StringBuilder();
+        for (Entry entry : batch) {
+            lines.append(gson.toJson(entry)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            if (journal == null) {
+                Path parentDir = journalPath.toAbsolutePath().getParent();
+                if (parentDir != null && !Files.exists(parentDir)) {
+                    Files.createDirectories(parentDir);
+                }
+                journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            }
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+            journalLines += batch.size();
+        } catch (IOException e) {
+            System.err.println("Error: Could not save user info: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the properties file, then replays the journal over it. Later lines win.
+     */
+    private void load() {
+        if (Files.exists(path)) {
+            Properties props = new Properties();
+            try (InputStream input = Files.newInputStream(path)) {
+                props.load(input);
+                for (String key : props.stringPropertyNames()) {
+                    values.put(key, props.getProperty(key));
+                }
+                System.out.println("User info loaded successfully from: " + path.toAbsolutePath());
+            } catch (IOException e) {
+                System.err.println("Warning: Could not load user info file: " + e.getMessage());
+            }
+        } else {
+            System.out.println("User info file not found. Will create a new one when needed.");
+        }
+
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        try (BufferedReader in = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                journalLines++;
+                try {
+                    Entry entry = gson.fromJson(line, Entry.class);
+                    if (entry != null && entry.key() != null && entry.value() != null) {
+                        values.put(entry.key(), entry.value());
+                    }
+                } catch (JsonParseException e) {
+                    // A line cut short by a crash before its fsync
+                    System.err.println("Warning: Skipping corrupt user info journal line: " + e.getMessage());
+                }
+            }
+            System.out.println("User info journal replayed: " + journalLines + " answers from " + journalPath.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Warning: Could not load user info journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes every answer to a new properties file, moves it into place atomically and
+     * empties the journal. Answers queued meanwhile are appended after the truncation;
+     * replaying one that the new file already holds is harmless.
+     */
+    private void compact() {
+        Properties props = new Properties();
+        props.putAll(values);
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Path parentDir = path.toAbsolutePath().getParent();
+            if (parentDir != null && !Files.exists(parentDir)) {
+                Files.createDirectories(parentDir);
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+                 OutputStream output = Channels.newOutputStream(channel)) {
+                props.store(output, "LinkedIn Easy Apply User Information");
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            // The answers are safe in the new file before the journal is emptied
+            if (journal != null) {
+                journal.truncate(0);
+                journal.force(false);
+            } else {
+                Files.deleteIfExists(journalPath);
+            }
+            journalLines = 0;
+            System.out.println("User info saved successfully to: " + path.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Warning: Could not compact user info: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.easy;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * One immutable snapshot of the LinkedIn configuration, parsed once from the properties file
+ * and the system properties. {@link LinkedInConfigLoader} publishes the current snapshot and
+ * replaces it as a whole when the file changes, so a reader always sees a consistent set of values.
+ *
+ * @param values All raw values, system properties (-Dkey=value) taking precedence over the file
+ * @param email LinkedIn email
+ * @param password LinkedIn password
+ * @param jobRoles Job roles to search for, at least one
+ * @param jobLocations Job locations to search for, at least one
+ * @param manualLoginEnabled Whether manual login is enabled
+ * @param manualLoginWaitSeconds Manual login wait time in seconds
+ * @param headlessModeEnabled Whether the browser runs headless
+ * @param sortByOptions Sort by options, empty if not specified
+ * @param jobTypeOptions Job type filter options, empty if not specified
+ * @param experienceLevelOptions Experience level filter options, empty if not specified
+ * @param easyApplyEnabled Whether the Easy Apply filter is enabled
+ * @param remoteFilterOptions Remote filter options, empty if not specified
+ * @param incrementalSearch Whether searches only cover what is new since the last run
+ * @param harvestMaxPages Maximum number of result pages per search, at least 1
+ * @param jobDetailCacheSize Number of job details kept in memory, at least 1
+ * @param jobDetailTtlHours Hours cached job details stay valid, at least 1
+ * @param answerPromptEnabled Whether form fields without a stored answer are asked for on the console
+ * @param questionsPort Port of the local endpoint for answering pending questions, 0 if disabled
+ * @param submitEnabled Whether completed applications are submitted rather than left at the review page
+ * @param relevanceKeywords Keywords that make a posting relevant, each optionally with ":weight", empty if not specified
+ * @param relevanceNegativeKeywords Keywords that rule a posting out, empty if not specified
+ * @param relevanceSeniority Accepted seniority levels, empty to accept any
+ * @param relevanceMinSalary Minimum yearly pay a posting may state, 0 for none
+ * @param relevanceThreshold Keyword score a posting needs to be applied to
+ * @param sessionPoolSize Number of browser sessions, at least 1
+ * @param baseUrl Base URL of the site without a trailing slash
+ * @param dataDirectory Directory for run state
+ * @param screenshotTrailSize Number of screenshots kept per session, at least 1
+ * @param pacingProfile Pacing profile name, lower case
+ * @param readinessTimeoutSeconds Page readiness timeout in seconds, at least 1
+ * @param sessionMode Session mode name, lower case
+ * @param sessionDirectory Session directory, or an empty string
+ * @param driverPath Configured chromedriver binary, or an empty string
+ * @param driverVersion Chromedriver version to resolve, or an empty string
+ */
+public record LinkedInConfig(
+    Map<String, String> values,
+    String email,
+    String password,
+    List<String> jobRoles,
+    List<String> jobLocations,
+    boolean manualLoginEnabled,
+    int manualLoginWaitSeconds,
+    boolean headlessModeEnabled,
+    List<String> sortByOptions,
+    List<String> jobTypeOptions,
+    List<String> experienceLevelOptions,
+    boolean easyApplyEnabled,
+    List<String> remoteFilterOptions,
+    boolean incrementalSearch,
+    int harvestMaxPages,
+    int jobDetailCacheSize,
+    int jobDetailTtlHours,
+    boolean answerPromptEnabled,
+    int questionsPort,
+    boolean submitEnabled,
+    List<String> relevanceKeywords,
+    List<String> relevanceNegativeKeywords,
+    List<String> relevanceSeniority,
+    int relevanceMinSalary,
+    int relevanceThreshold,
+    int sessionPoolSize,
+    String baseUrl,
+    String dataDirectory,
+    int screenshotTrailSize,
+    String pacingProfile,
+    int readinessTimeoutSeconds,
+    String sessionMode,
+    String sessionDirectory,
+    String driverPath,
+    String driverVersion) {
+
+    // Locations such as "San Francisco, CA" contain commas, so roles and locations are separated by semicolons
+    private static final String ROLE_SEPARATOR = ";";
+    private static final String OPTION_SEPARATOR = "[,;]";
+
+    /**
+     * Parses a snapshot from the contents of the properties file, applying the
+     * system properties on top and the defaults for anything missing
+     *
+     * @param file Properties read from the file, empty if there is none
+     * @return Configuration snapshot
+     */
+    public static LinkedInConfig from(Properties file) {
+        Map<String, String> values = new HashMap<>();
+        for (String key : file.stringPropertyNames()) {
+            values.put(key, file.getProperty(key));
+        }
+        Properties system = System.getProperties();
+        for (String key : system.stringPropertyNames()) {
+            if (key.startsWith("linkedin.")) {
+                values.put(key, system.getProperty(key));
+            }
+        }
+
+        String baseUrl = values.getOrDefault("linkedin.base.url", "https://www.linkedin.com").trim();
+        while (baseUrl.endsWith("/")) {
+            baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+        }
+
+        return new LinkedInConfig(
+            Map.copyOf(values),
+            values.getOrDefault("linkedin.email", ""),
+            values.getOrDefault("linkedin.password", ""),
+            parseList(values, "linkedin.job.role", ROLE_SEPARATOR, "Software Engineer"),
+            parseList(values, "linkedin.job.location", ROLE_SEPARATOR, "San Francisco, CA"),
+            Boolean.parseBoolean(values.getOrDefault("linkedin.wait.manual.login", "true")),
+            parseInt(values, "linkedin.wait.manual.login.seconds", 30),
+            Boolean.parseBoolean(values.getOrDefault("linkedin.browser.headless", "false")),
+            parseList(values, "linkedin.filter.sort_by", OPTION_SEPARATOR, null),
+            parseList(values, "linkedin.filter.job_type", OPTION_SEPARATOR, null),
+            parseList(values, "linkedin.filter.exp_level", OPTION_SEPARATOR, null),
+            Boolean.parseBoolean(values.getOrDefault("linkedin.filter.easy_apply", "false")),
+            parseList(values, "linkedin.filter.remote", OPTION_SEPARATOR, null),
+            Boolean.parseBoolean(values.getOrDefault("linkedin.search.incremental", "false")),
+            Math.max(1, parseInt(values, "linkedin.harvest.max_pages", 5)),
+            Math.max(1, parseInt(values, "linkedin.details.cache_size", 1000)),
+            Math.max(1, parseInt(values, "linkedin.details.ttl_hours", 72)),
+            Boolean.parseBoolean(values.getOrDefault("linkedin.answers.prompt", "false")),
+            Math.max(0, parseInt(values, "linkedin.questions.port", 0)),
+            Boolean.parseBoolean(values.getOrDefault("linkedin.apply.submit", "false")),
+            parseList(values, "linkedin.relevance.keywords", OPTION_SEPARATOR, null),
+            parseList(values, "linkedin.relevance.negative", OPTION_SEPARATOR, null),
+            parseList(values, "linkedin.relevance.seniority", OPTION_SEPARATOR, null),
+            Math.max(0, parseInt(values, "linkedin.relevance.min_salary", 0)),
+            parseInt(values, "linkedin.relevance.threshold", 1),
+            Math.max(1, parseInt(values, "linkedin.pool.size", 1)),
+            baseUrl,
+            values.getOrDefault("linkedin.data.dir", "."),
+            Math.max(1, parseInt(values, "linkedin.screenshots.trail_size", 10)),
+            values.getOrDefault("linkedin.pacing.profile", "human").trim().toLowerCase(),
+            Math.max(1, parseInt(values, "linkedin.wait.timeout_seconds", 20)),
+            values.getOrDefault("linkedin.session.mode", "none").trim().toLowerCase(),
+            values.getOrDefault("linkedin.session.dir", "").trim(),
+            values.getOrDefault("linkedin.driver.path", "").trim(),
+            values.getOrDefault("linkedin.driver.version", "").trim());
+    }
+
+    /**
+     * Splits a list-valued property into its trimmed, non-empty, distinct entries
+     */
+    private static List<String> parseList(Map<String, String> values, String key, String separator, String defaultValue) {
+        Set<String> entries = new LinkedHashSet<>();
+        for (String entry : values.getOrDefault(key, "").split(separator)) {
+            if (!entry.isBlank()) {
+                entries.add(entry.trim());
+            }
+        }
+        if (entries.isEmpty() && defaultValue != null) {
+            entries.add(defaultValue);
+        }
+        return List.copyOf(entries);
+    }
+
+    private static int parseInt(Map<String, String> values, String key, int defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -3,28 +3,45 @@ package com.example.easy;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.Properties;
 
 /**
  * Utility class to load LinkedIn configuration properties from file
- * and provide secure access to sensitive credentials
+ * and provide secure access to sensitive credentials.
+ *
+ * The file is parsed once into an immutable {@link LinkedInConfig} snapshot published through
+ * a volatile reference, so the getters below never take a lock. A background watcher reloads
+ * the file when it changes and swaps in the new snapshot, so edits take effect without a
+ * restart; a file that fails to load keeps the previous snapshot in place.
  */
 public class LinkedInConfigLoader {
     
     private static final String DEFAULT_PROPERTIES_PATH = "src/main/resources/linkedin.properties";
-    private static Properties properties = null;
+
+    /** Editors often write a file in several steps; wait for them to finish before reloading */
+    private static final long RELOAD_SETTLE_MILLIS = 200;
+
+    private static volatile LinkedInConfig current = null;
+    private static Thread watcher;
     
     /**
-     * Load LinkedIn properties from the default properties file
+     * Load LinkedIn properties from the properties file, which is
+     * linkedin.config if that system property is set, otherwise the default path
      * 
      * @return Properties object containing LinkedIn configuration
      * @throws IOException If properties file cannot be read
      */
-    public static synchronized Properties loadProperties() throws IOException {
-        return loadProperties(DEFAULT_PROPERTIES_PATH);
+    public static Properties loadProperties() throws IOException {
+        return loadProperties(getPropertiesPath().toString());
     }
     
     /**
@@ -34,38 +51,136 @@ public class LinkedInConfigLoader {
      * @return Properties object containing LinkedIn configuration
      * @throws IOException If properties file cannot be read
      */
-    public static synchronized Properties loadProperties(String propertiesPath) throws IOException {
-        if (properties == null) {
-            properties = new Properties();
-            Path path = Paths.get(propertiesPath);
-            
-            if (Files.exists(path)) {
-                try (InputStream input = new FileInputStream(path.toFile())) {
-                    properties.load(input);
-                    System.out.println("LinkedIn properties loaded successfully from: " + path.toAbsolutePath());
-                }
-            } else {
-                throw new IOException("LinkedIn properties file not found: " + path.toAbsolutePath());
+    public static Properties loadProperties(String propertiesPath) throws IOException {
+        Properties properties = new Properties();
+        Path path = Paths.get(propertiesPath);
+        
+        if (Files.exists(path)) {
+            try (InputStream input = new FileInputStream(path.toFile())) {
+                properties.load(input);
+                System.out.println("LinkedIn properties loaded successfully from: " + path.toAbsolutePath());
             }
+        } else {
+            throw new IOException("LinkedIn properties file not found: " + path.toAbsolutePath());
         }
         
         return properties;
     }
     
     /**
-     * Get a property value with default fallback
+     * Get the current configuration snapshot, loading it on first use
+     * 
+     * @return Configuration snapshot
+     */
+    public static LinkedInConfig getConfig() {
+        LinkedInConfig config = current;
+        if (config == null) {
+            config = initialize();
+        }
+        return config;
+    }
+    
+    /**
+     * Parse the properties file and system properties again and publish the new snapshot.
+     * Called by the file watcher, and by code that changes system properties at runtime.
+     * If the file cannot be read, the previous snapshot is kept.
+     */
+    public static synchronized void reload() {
+        Properties file;
+        try {
+            file = loadProperties();
+        } catch (IOException e) {
+            if (current != null) {
+                System.err.println("Warning: Could not reload properties file. Keeping the current configuration: "
+                    + e.getMessage());
+                return;
+            }
+            System.err.println("Warning: Could not load properties file. Using default values: " + e.getMessage());
+            file = new Properties();
+        }
+        current = LinkedInConfig.from(file);
+    }
+    
+    /**
+     * Get a property value with default fallback.
+     * A system property with the same key (-Dkey=value) takes precedence over the file.
      * 
      * @param key Property key
      * @param defaultValue Default value if property is not found
      * @return Property value or default if not found
      */
     public static String getProperty(String key, String defaultValue) {
+        return getConfig().values().getOrDefault(key, defaultValue);
+    }
+    
+    private static synchronized LinkedInConfig initialize() {
+        if (current == null) {
+            reload();
+            startWatcher();
+        }
+        return current;
+    }
+    
+    private static Path getPropertiesPath() {
+        return Paths.get(System.getProperty("linkedin.config", DEFAULT_PROPERTIES_PATH));
+    }
+    
+    /**
+     * Watch the directory of the properties file and reload when the file is written,
+     * created or replaced (editors often save by renaming a temporary file)
+     */
+    private static void startWatcher() {
+        if (watcher != null) {
+            return;
+        }
+        Path file = getPropertiesPath().toAbsolutePath();
+        Path directory = file.getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+
+        WatchService watchService;
         try {
-            Properties props = loadProperties();
-            return props.getProperty(key, defaultValue);
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            System.err.println("Warning: Could not watch properties file for changes: " + e.getMessage());
+            return;
+        }
+
+        // A daemon thread, so watching never keeps the JVM alive
+        watcher = new Thread(() -> watch(watchService, file), "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+    
+    private static void watch(WatchService watchService, Path file) {
+        try (watchService) {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path name && name.equals(file.getFileName())) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+                if (changed) {
+                    Thread.sleep(RELOAD_SETTLE_MILLIS);
+                    // Drop the events of the same save that arrived while settling
+                    WatchKey more = watchService.poll();
+                    if (more != null) {
+                        more.pollEvents();
+                        more.reset();
+                    }
+                    System.out.println("LinkedIn properties file changed. Reloading configuration.");
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Shutting down
         } catch (IOException e) {
-            System.err.println("Warning: Could not load properties file. Using default value for " + key);
-            return defaultValue;
+            System.err.println("Warning: Stopped watching properties file: " + e.getMessage());
         }
     }
     
@@ -75,7 +190,7 @@ public class LinkedInConfigLoader {
      * @return LinkedIn email
      */
     public static String getEmail() {
-        return getProperty("linkedin.email", "");
+        return getConfig().email();
     }
     
     /**
@@ -84,25 +199,26 @@ public class LinkedInConfigLoader {
      * @return LinkedIn password
      */
     public static String getPassword() {
-        return getProperty("linkedin.password", "");
+        return getConfig().password();
     }
     
     /**
-     * Get job role from properties
+     * Get job role from properties. Several roles can be separated by semicolons;
+     * see {@link SearchPlanner} for how they are searched.
      * 
-     * @return Job role to search for
+     * @return First job role to search for
      */
     public static String getJobRole() {
-        return getProperty("linkedin.job.role", "Software Engineer");
+        return getConfig().jobRoles().get(0);
     }
     
     /**
-     * Get job location from properties
+     * Get job location from properties. Several locations can be separated by semicolons.
      * 
-     * @return Job location to search for
+     * @return First job location to search for
      */
     public static String getJobLocation() {
-        return getProperty("linkedin.job.location", "San Francisco, CA");
+        return getConfig().jobLocations().get(0);
     }
     
     /**
@@ -111,7 +227,7 @@ public class LinkedInConfigLoader {
      * @return true if manual login is enabled
      */
     public static boolean isManualLoginEnabled() {
-        return Boolean.parseBoolean(getProperty("linkedin.wait.manual.login", "true"));
+        return getConfig().manualLoginEnabled();
     }
     
     /**
@@ -120,11 +236,7 @@ public class LinkedInConfigLoader {
      * @return Wait time in seconds
      */
     public static int getManualLoginWaitSeconds() {
-        try {
-            return Integer.parseInt(getProperty("linkedin.wait.manual.login.seconds", "30"));
-        } catch (NumberFormatException e) {
-            return 30;
-        }
+        return getConfig().manualLoginWaitSeconds();
     }
     
     /**
@@ -133,37 +245,37 @@ public class LinkedInConfigLoader {
      * @return true if headless mode is enabled
      */
     public static boolean isHeadlessModeEnabled() {
-        return Boolean.parseBoolean(getProperty("linkedin.browser.headless", "false"));
+        return getConfig().headlessModeEnabled();
     }
     
     /**
      * Get sort by option from properties
      * Options: day, week, month
      * 
-     * @return sort by option or empty string if not specified
+     * @return comma-separated sort by options or empty string if not specified
      */
     public static String getSortByOption() {
-        return getProperty("linkedin.filter.sort_by", "");
+        return String.join(",", getConfig().sortByOptions());
     }
     
     /**
      * Get job type filter option from properties
      * Options: temporary, contract, volunteer, full_time, part_time
      * 
-     * @return job type option or empty string if not specified
+     * @return comma-separated job type options or empty string if not specified
      */
     public static String getJobTypeOption() {
-        return getProperty("linkedin.filter.job_type", "");
+        return String.join(",", getConfig().jobTypeOptions());
     }
     
     /**
      * Get experience level filter option from properties
      * Options: internship, entry_level, associate, mid_senior_level, director
      * 
-     * @return experience level option or empty string if not specified
+     * @return comma-separated experience level options or empty string if not specified
      */
     public static String getExperienceLevelOption() {
-        return getProperty("linkedin.filter.exp_level", "");
+        return String.join(",", getConfig().experienceLevelOptions());
     }
     
     /**
@@ -172,16 +284,201 @@ public class LinkedInConfigLoader {
      * @return true if easy apply filter is enabled
      */
     public static boolean isEasyApplyEnabled() {
-        return Boolean.parseBoolean(getProperty("linkedin.filter.easy_apply", "false"));
+        return getConfig().easyApplyEnabled();
     }
     
     /**
      * Get remote filter option from properties
      * Options: remote, onsite, hybrid
      * 
-     * @return remote filter option or empty string if not specified
+     * @return comma-separated remote filter options or empty string if not specified
      */
     public static String getRemoteFilterOption() {
-        return getProperty("linkedin.filter.remote", "");
+        return String.join(",", getConfig().remoteFilterOptions());
+    }
+    
+    /**
+     * Check if searches only cover postings that are new since the previous run
+     * 
+     * @return true if incremental search is enabled
+     */
+    public static boolean isIncrementalSearchEnabled() {
+        return getConfig().incrementalSearch();
+    }
+    
+    /**
+     * Get the maximum number of search result pages to process per planned search
+     * 
+     * @return Maximum number of result pages
+     */
+    public static int getHarvestMaxPages() {
+        return getConfig().harvestMaxPages();
+    }
+    
+    /**
+     * Get the number of job details the cache keeps in memory; the rest stay on disk
+     * 
+     * @return Job detail cache size, at least 1
+     */
+    public static int getJobDetailCacheSize() {
+        return getConfig().jobDetailCacheSize();
+    }
+    
+    /**
+     * Get how long cached job details are used before the job is read again
+     * 
+     * @return Job detail TTL in hours, at least 1
+     */
+    public static int getJobDetailTtlHours() {
+        return getConfig().jobDetailTtlHours();
+    }
+    
+    /**
+     * Check whether form fields without a stored answer are asked for on the console;
+     * otherwise they are parked as pending questions and the run never waits for input
+     * 
+     * @return true if unanswered fields are prompted for
+     */
+    public static boolean isAnswerPromptEnabled() {
+        return getConfig().answerPromptEnabled();
+    }
+    
+    /**
+     * Get the port of the local endpoint for answering pending questions
+     * 
+     * @return Port on the loopback interface, or 0 if the endpoint is disabled
+     */
+    public static int getQuestionsPort() {
+        return getConfig().questionsPort();
+    }
+    
+    /**
+     * Check whether completed applications are submitted; otherwise they stop at the
+     * review page and are saved as drafts
+     * 
+     * @return true if applications are submitted
+     */
+    public static boolean isSubmitEnabled() {
+        return getConfig().submitEnabled();
+    }
+    
+    /**
+     * Get the number of browser sessions to run in parallel
+     * 
+     * @return Session pool size, at least 1
+     */
+    public static int getSessionPoolSize() {
+        return getConfig().sessionPoolSize();
+    }
+    
+    /**
+     * Get the base URL of the site the workflow runs against.
+     * Normally LinkedIn itself; a local stand-in server for offline benchmark runs.
+     * 
+     * @return Base URL without a trailing slash
+     */
+    public static String getBaseUrl() {
+        return getConfig().baseUrl();
+    }
+    
+    /**
+     * Build an absolute URL for a path on the configured site
+     * 
+     * @param path Path starting with a slash, e.g. "/jobs/"
+     * @return Absolute URL
+     */
+    public static String getUrl(String path) {
+        return getBaseUrl() + path;
+    }
+    
+    /**
+     * Check whether a URL points at the configured site, optionally under a given path.
+     * The "www." prefix is ignored, so https://linkedin.com/jobs/ matches the default site.
+     * 
+     * @param url URL to check
+     * @param path Path prefix to require, e.g. "/jobs/", or "" for any page
+     * @return true if the URL is on the configured site
+     */
+    public static boolean isSiteUrl(String url, String path) {
+        if (url == null) {
+            return false;
+        }
+        String site = getBaseUrl().replaceFirst("^https?://", "").replaceFirst("^www\\.", "");
+        return url.contains(site + path);
+    }
+    
+    /**
+     * Resolve a file in the data directory, where run state such as the application
+     * history, selector statistics and screenshots is kept
+     * 
+     * @param fileName File or directory name
+     * @return Path inside the data directory
+     */
+    public static Path getDataPath(String fileName) {
+        return Paths.get(getConfig().dataDirectory(), fileName);
+    }
+    
+    /**
+     * Get the number of recent screenshots each session keeps in memory and
+     * writes to disk when a step fails
+     * 
+     * @return Screenshot trail size, at least 1
+     */
+    public static int getScreenshotTrailSize() {
+        return getConfig().screenshotTrailSize();
+    }
+    
+    /**
+     * Get the pacing profile that scales the human-like pauses between actions
+     * 
+     * @return Pacing profile name: human, fast or none
+     */
+    public static String getPacingProfile() {
+        return getConfig().pacingProfile();
+    }
+    
+    /**
+     * Get the longest time to wait for a page to become ready before giving up
+     * 
+     * @return Readiness timeout in seconds, at least 1
+     */
+    public static int getReadinessTimeoutSeconds() {
+        return getConfig().readinessTimeoutSeconds();
+    }
+    
+    /**
+     * Get how the LinkedIn login is kept between runs
+     * 
+     * @return Session mode name: none, profile or cookies
+     */
+    public static String getSessionMode() {
+        return getConfig().sessionMode();
+    }
+    
+    /**
+     * Get the directory for the kept login (Chrome profiles or the cookie snapshot)
+     * 
+     * @return Session directory, or an empty string for browser_session in the data directory
+     */
+    public static String getSessionDirectory() {
+        return getConfig().sessionDirectory();
+    }
+    
+    /**
+     * Get the chromedriver binary to use instead of resolving one
+     * 
+     * @return Driver path, or an empty string to resolve it with WebDriverManager
+     */
+    public static String getDriverPath() {
+        return getConfig().driverPath();
+    }
+    
+    /**
+     * Get the chromedriver version to resolve when no driver is pinned yet
+     * 
+     * @return Driver version, or an empty string for the one matching the installed Chrome
+     */
+    public static String getDriverVersion() {
+        return getConfig().driverVersion();
     }
 }
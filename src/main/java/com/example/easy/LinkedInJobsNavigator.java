@@ -3,8 +3,6 @@ package com.example.easy;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.Keys;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.chrome.ChromeDriver;
@@ -13,13 +11,6 @@ import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
-
-import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Class to navigate LinkedIn Jobs section with human-like interactions
@@ -35,16 +27,15 @@ import java.util.Random;
  */
 public class LinkedInJobsNavigator {
     
-    private static final Random random = new Random();
-    
     /**
      * Navigates to the LinkedIn Jobs page and interacts with it in a human-like manner
      * @param driver The WebDriver instance with LinkedIn already logged in
+     * @return The filtered search results URL, or null if the search could not be completed
      * @throws Exception If any errors occur during navigation
      */
-    public static void navigateToJobs(WebDriver driver) throws Exception {
+    public static String navigateToJobs(WebDriver driver) throws Exception {
         // Ensure we're on LinkedIn before proceeding
-        if (!driver.getCurrentUrl().contains("linkedin.com")) {
+        if (!LinkedInConfigLoader.isSiteUrl(driver.getCurrentUrl(), "")) {
             throw new IllegalStateException("Not on LinkedIn. Current URL: " + driver.getCurrentUrl());
         }
         
@@ -54,7 +45,7 @@ public class LinkedInJobsNavigator {
         humanWait(3000, 7000);
         
         // Take a screenshot before navigation
-        takeScreenshot(driver, "before_jobs_navigation.png");
+        ScreenshotService.capture(driver, "before_jobs_navigation.png");
         
         // Find the Jobs navigation button using various selectors
         WebElement jobsButton = null;
@@ -88,14 +79,14 @@ public class LinkedInJobsNavigator {
         
         if (jobsButton == null) {
             System.out.println("Could not find Jobs button. Taking a screenshot and attempting an alternative method...");
-            takeScreenshot(driver, "jobs_button_not_found.png");
+            ScreenshotService.capture(driver, "jobs_button_not_found.png");
             
             // Try an alternative method - direct URL navigation with human-like delay
             humanScrollDown(driver);
             humanWait(1000, 3000);
-            driver.navigate().to("https://www.linkedin.com/jobs/");
+            driver.navigate().to(LinkedInConfigLoader.getUrl("/jobs/"));
             System.out.println("Navigated directly to jobs page via URL");
-            humanWait(2000, 4000);
+            PageReadiness.await(driver, PageReadiness.Condition.JOBS_HOME);
         } else {
             // Move to Jobs button like a human (with random path)
             System.out.println("Jobs button found. Moving cursor to it...");
@@ -103,15 +94,16 @@ public class LinkedInJobsNavigator {
             
             // Click on the Jobs button
             System.out.println("Clicking on Jobs button...");
+            String feedUrl = driver.getCurrentUrl();
             jobsButton.click();
             
-            // Wait for page to load
-            humanWait(2000, 5000);
+            // Wait for the jobs page to load
+            PageReadiness.awaitNavigation(driver, feedUrl, PageReadiness.Condition.JOBS_HOME);
             System.out.println("Navigated to Jobs page");
         }
         
         // Take a screenshot after navigation
-        takeScreenshot(driver, "after_jobs_navigation.png");
+        ScreenshotService.capture(driver, "after_jobs_navigation.png");
         
         // Once on the Jobs page, try to find and click the "Show all" button
         try {
@@ -131,11 +123,12 @@ public class LinkedInJobsNavigator {
             }
             
             // Enter job role and location
-            enterJobSearchCriteria(driver);
+            return WorkflowMetrics.time("enter_search_criteria", () -> enterJobSearchCriteria(driver));
             
         } catch (Exception e) {
             System.out.println("Error while finding or clicking 'Show all' button: " + e.getMessage());
             e.printStackTrace();
+            return null;
         }
     }
     
@@ -144,9 +137,10 @@ public class LinkedInJobsNavigator {
      * Uses values from the configuration file
      * 
      * @param driver WebDriver instance
+     * @return The filtered search results URL, or null if the search could not be submitted
      * @throws Exception If any error occurs
      */
-    private static void enterJobSearchCriteria(WebDriver driver) throws Exception {
+    private static String enterJobSearchCriteria(WebDriver driver) throws Exception {
         System.out.println("Entering job search criteria...");
         
         // Get job role and location from configuration
@@ -208,6 +202,7 @@ public class LinkedInJobsNavigator {
         
         // Find and click the search button with multiple attempts
         System.out.println("Looking for search button...");
+        String searchPageUrl = driver.getCurrentUrl();
         boolean searchSubmitted = false;
         
         // Method 1: Try finding and clicking the visible search button
@@ -219,7 +214,7 @@ public class LinkedInJobsNavigator {
                 humanWait(300, 800);
                 
                 // Take screenshot before clicking
-                takeScreenshot(driver, "before_search_button_click.png");
+                ScreenshotService.capture(driver, "before_search_button_click.png");
                 
                 // Click with both standard and JavaScript methods for reliability
                 try {
@@ -273,14 +268,15 @@ public class LinkedInJobsNavigator {
         // Wait for search results to load if any method worked
         if (searchSubmitted) {
             System.out.println("Search submitted. Waiting for results to load...");
-            humanWait(3000, 5000);
-            takeScreenshot(driver, "after_job_search.png");
+            PageReadiness.awaitNavigation(driver, searchPageUrl, PageReadiness.Condition.RESULTS_LIST);
+            ScreenshotService.capture(driver, "after_job_search.png");
             
             // Apply filters to search results
-            applyJobFilters(driver);
+            return WorkflowMetrics.time("apply_filters", () -> applyJobFilters(driver));
         } else {
             System.out.println("WARNING: All search submission methods failed");
-            takeScreenshot(driver, "search_submission_failed.png");
+            ScreenshotService.capture(driver, "search_submission_failed.png");
+            return null;
         }
     }
     
@@ -290,29 +286,23 @@ public class LinkedInJobsNavigator {
      * this method constructs a LinkedIn search URL with all filter parameters directly
      * 
      * @param driver WebDriver instance
+     * @return The filtered search results URL, or null if not on a jobs search page
      * @throws Exception If any error occurs
      */
-    private static void applyJobFilters(WebDriver driver) throws Exception {
+    private static String applyJobFilters(WebDriver driver) throws Exception {
         System.out.println("Applying job filters via direct URL parameters...");
         
-        // Get filter options from configuration
-        String sortBy = LinkedInConfigLoader.getSortByOption();
-        String jobType = LinkedInConfigLoader.getJobTypeOption();
-        String expLevel = LinkedInConfigLoader.getExperienceLevelOption();
-        boolean easyApply = LinkedInConfigLoader.isEasyApplyEnabled();
-        String remoteOption = LinkedInConfigLoader.getRemoteFilterOption();
-        
         // Take a screenshot before applying filters
-        takeScreenshot(driver, "before_filters.png");
+        ScreenshotService.capture(driver, "before_filters.png");
         
         // Get the current URL as a base
         String currentUrl = driver.getCurrentUrl();
         System.out.println("Current URL: " + currentUrl);
         
         // Check if we're on a LinkedIn search results page
-        if (!currentUrl.contains("linkedin.com/jobs/")) {
+        if (!LinkedInConfigLoader.isSiteUrl(currentUrl, "/jobs/")) {
             System.out.println("Not on LinkedIn jobs search page. URL: " + currentUrl);
-            return;
+            return null;
         }
         
         // Start building the filtered URL
@@ -333,99 +323,8 @@ public class LinkedInJobsNavigator {
         // Add filter parameters
         List<String> params = new ArrayList<>();
         
-        // 1. Add f_AL (Easy Apply) parameter if enabled
-        if (easyApply) {
-            params.add("f_AL=true");
-        }
-        
-        // 2. Add f_WT (remote/onsite/hybrid) parameter if specified
-        if (remoteOption != null && !remoteOption.isEmpty()) {
-            // Map property file values to LinkedIn URL parameter values
-            String remoteParam;
-            switch (remoteOption.toLowerCase()) {
-                case "remote":
-                    remoteParam = "2"; // LinkedIn's code for remote
-                    break;
-                case "onsite":
-                    remoteParam = "1"; // LinkedIn's code for onsite
-                    break;
-                case "hybrid":
-                    remoteParam = "3"; // LinkedIn's code for hybrid
-                    break;
-                default:
-                    remoteParam = "2"; // Default to remote
-            }
-            params.add("f_WT=" + remoteParam);
-        }
-        
-        // 3. Add f_TPR (date posted) parameter if specified
-        if (sortBy != null && !sortBy.isEmpty()) {
-            String dateParam;
-            switch (sortBy.toLowerCase()) {
-                case "day":
-                    dateParam = "r86400"; // Past 24 hours
-                    break;
-                case "week":
-                    dateParam = "r604800"; // Past week
-                    break;
-                case "month":
-                    dateParam = "r2592000"; // Past month
-                    break;
-                default:
-                    dateParam = "r604800"; // Default to past week
-            }
-            params.add("f_TPR=" + dateParam);
-        }
-        
-        // 4. Add f_E (experience level) parameter if specified
-        if (expLevel != null && !expLevel.isEmpty()) {
-            String expParam;
-            switch (expLevel.toLowerCase()) {
-                case "internship":
-                    expParam = "1"; // Internship
-                    break;
-                case "entry_level":
-                    expParam = "2"; // Entry level
-                    break;
-                case "associate":
-                    expParam = "3"; // Associate
-                    break;
-                case "mid_senior_level":
-                    expParam = "4"; // Mid-Senior level
-                    break;
-                case "director":
-                    expParam = "5"; // Director
-                    break;
-                default:
-                    expParam = "2,3,4"; // Default to multiple levels
-            }
-            params.add("f_E=" + expParam);
-        }
-        
-        // 5. Add f_JT (job type) parameter if specified
-        if (jobType != null && !jobType.isEmpty()) {
-            String typeParam;
-            switch (jobType.toLowerCase()) {
-                case "full_time":
-                    typeParam = "F"; // Full time
-                    break;
-                case "part_time":
-                    typeParam = "P"; // Part time
-                    break;
-                case "contract":
-                    typeParam = "C"; // Contract
-                    break;
-                case "temporary":
-                    typeParam = "T"; // Temporary
-                    break;
-                case "volunteer":
-                    typeParam = "V"; // Volunteer
-                    break;
-                default:
-                    typeParam = "F"; // Default to full time
-            }
-            params.add("f_JT=" + typeParam);
-        }
+        // Every configured value of a filter is merged into one parameter
+        params.addAll(SearchPlanner.filterParams(LinkedInConfigLoader.getConfig()));
         
         // Preserve any job role and location from the original URL
         if (queryParamIndex >= 0) {
@@ -455,13 +354,14 @@ public class LinkedInJobsNavigator {
         // Navigate to the filtered URL
         driver.navigate().to(filteredUrl);
         
-        // Wait for page to load
-        humanWait(3000, 5000);
+        // Wait for the filtered results to render
+        PageReadiness.await(driver, PageReadiness.Condition.RESULTS_LIST);
         
         // Take a screenshot after applying all filters
-        takeScreenshot(driver, "after_filters_applied.png");
+        ScreenshotService.capture(driver, "after_filters_applied.png");
         
         System.out.println("All job filters applied successfully via URL parameters");
+        return filteredUrl;
     }
     
     /**
@@ -780,18 +680,10 @@ public class LinkedInJobsNavigator {
     private static WebElement findSearchInputField(WebDriver driver, String fieldType, List<By> selectors) {
         System.out.println("Looking for " + fieldType + " input field...");
         
-        for (By selector : selectors) {
-            try {
-                List<WebElement> elements = driver.findElements(selector);
-                for (WebElement element : elements) {
-                    if (element.isDisplayed() && element.isEnabled()) {
-                        System.out.println("Found " + fieldType + " input field");
-                        return element;
-                    }
-                }
-            } catch (Exception e) {
-                // Continue to the next selector
-            }
+        SelectorResolver.Match match = SelectorResolver.resolve(driver, selectors);
+        if (match != null) {
+            System.out.println("Found " + fieldType + " input field with selector: " + match.selector());
+            return match.element();
         }
         
         // Try a JavaScript approach as a fallback
@@ -843,18 +735,10 @@ public class LinkedInJobsNavigator {
             By.cssSelector(".jobs-search-box__submit-button")
         );
         
-        for (By selector : selectors) {
-            try {
-                List<WebElement> elements = driver.findElements(selector);
-                for (WebElement element : elements) {
-                    if (element.isDisplayed() && element.isEnabled()) {
-                        System.out.println("Found search button");
-                        return element;
-                    }
-                }
-            } catch (Exception e) {
-                // Continue to the next selector
-            }
+        SelectorResolver.Match match = SelectorResolver.resolve(driver, selectors);
+        if (match != null) {
+            System.out.println("Found search button with selector: " + match.selector());
+            return match.element();
         }
         
         // JavaScript fallback
@@ -924,7 +808,7 @@ public class LinkedInJobsNavigator {
             
             // Wait a realistic amount of time as if the user was typing
             int typingTime = calculateTypingTime(text);
-            Thread.sleep(typingTime);
+            Pacing.sleep(typingTime);
             
             // Verify what was typed
             JavascriptExecutor js = (JavascriptExecutor) driver;
@@ -958,7 +842,7 @@ public class LinkedInJobsNavigator {
         // Average human typing speed is about 40 WPM or ~200 characters per minute
         // That's about 300ms per character on average
         int baseTimePerChar = 300;
-        return text.length() * baseTimePerChar + random.nextInt(1000); // Add some randomness
+        return text.length() * baseTimePerChar + random().nextInt(1000); // Add some randomness
     }
     
     /**
@@ -986,11 +870,11 @@ public class LinkedInJobsNavigator {
             enteredText.append(c);
             
             // Brief pause between keystrokes (70-150ms is realistic)
-            Thread.sleep(70 + random.nextInt(80));
+            Pacing.pause(70, 150);
             
             // Occasionally pause longer as if thinking
-            if (random.nextInt(20) == 0) {
-                Thread.sleep(200 + random.nextInt(300));
+            if (random().nextInt(20) == 0) {
+                Pacing.pause(200, 500);
             }
         }
     }
@@ -998,7 +882,7 @@ public class LinkedInJobsNavigator {
     /**
      * Specialized method to find and click the "Show all" button in the LinkedIn Jobs page
      * This method uses multiple strategies to find the button:
-     * 1. Modern UI selectors
+     * 1. Modern UI selectors, resolved together in a single round-trip
      * 2. Progressive scrolling to reveal lazy-loaded elements
      * 3. JavaScript execution to find buttons with relevant text
      * 
@@ -1008,9 +892,10 @@ public class LinkedInJobsNavigator {
      */
     private static boolean findAndClickShowAllButton(WebDriver driver) throws Exception {
         System.out.println("Starting advanced search for 'Show all' button...");
+        String jobsPageUrl = driver.getCurrentUrl();
         
         // Take a screenshot before attempting to find the button
-        takeScreenshot(driver, "before_finding_show_all.png");
+        ScreenshotService.capture(driver, "before_finding_show_all.png");
         
         // Strategy 1: Try various CSS and XPath selectors
         List<By> showAllSelectors = Arrays.asList(
@@ -1068,13 +953,13 @@ public class LinkedInJobsNavigator {
             By.xpath("//a[contains(text(), 'Show more')]")
         );
         
-        // Try each selector with a short timeout
-        WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(2));
-        
-        for (By selector : showAllSelectors) {
+        // Resolve the whole selector list in one round-trip, polling for up to 2 seconds in total.
+        // Selectors are tried in the order learned from previous runs.
+        SelectorResolver.Match match = SelectorResolver.waitFor(driver, "show-all", showAllSelectors, Duration.ofSeconds(2));
+        if (match != null) {
             try {
-                WebElement button = shortWait.until(ExpectedConditions.elementToBeClickable(selector));
-                System.out.println("Found 'Show all' button with selector: " + selector);
+                WebElement button = match.element();
+                System.out.println("Found 'Show all' button with selector: " + match.selector());
                 
                 // Move to the button like a human
                 moveMouseLikeHuman(driver, button);
@@ -1082,15 +967,15 @@ public class LinkedInJobsNavigator {
                 // Click the button
                 button.click();
                 
-                // Wait for the results to load
-                humanWait(1500, 3000);
+                // Wait for the results page to load
+                PageReadiness.awaitNavigation(driver, jobsPageUrl, PageReadiness.Condition.JOB_SEARCH_FORM);
                 
                 // Take a screenshot after clicking
-                takeScreenshot(driver, "after_show_all_click.png");
+                ScreenshotService.capture(driver, "after_show_all_click.png");
                 
                 return true;
             } catch (Exception e) {
-                // Continue to the next selector
+                System.out.println("Clicking 'Show all' button failed: " + e.getMessage());
             }
         }
         
@@ -1100,37 +985,32 @@ public class LinkedInJobsNavigator {
         for (int scrollAttempt = 0; scrollAttempt < 5; scrollAttempt++) {
             // Scroll down incrementally
             JavascriptExecutor js = (JavascriptExecutor) driver;
-            js.executeScript("window.scrollBy(0, " + (300 + random.nextInt(200)) + ")");
+            js.executeScript("window.scrollBy(0, " + (300 + random().nextInt(200)) + ")");
             
             humanWait(800, 1500);
             
-            // After scrolling, try the selectors again
-            for (By selector : showAllSelectors) {
+            // After scrolling, try the whole selector list again in a single round-trip
+            SelectorResolver.Match scrolledMatch = SelectorResolver.resolve(driver, "show-all", showAllSelectors, true);
+            if (scrolledMatch != null) {
                 try {
-                    List<WebElement> elements = driver.findElements(selector);
-                    if (!elements.isEmpty()) {
-                        for (WebElement button : elements) {
-                            if (button.isDisplayed() && button.isEnabled()) {
-                                System.out.println("Found 'Show all' button after scrolling with selector: " + selector);
-                                
-                                // Move to the button like a human
-                                moveMouseLikeHuman(driver, button);
-                                
-                                // Click the button
-                                button.click();
-                                
-                                // Wait for the results to load
-                                humanWait(1500, 3000);
-                                
-                                // Take a screenshot after clicking
-                                takeScreenshot(driver, "after_show_all_click_with_scroll.png");
-                                
-                                return true;
-                            }
-                        }
-                    }
+                    WebElement button = scrolledMatch.element();
+                    System.out.println("Found 'Show all' button after scrolling with selector: " + scrolledMatch.selector());
+                    
+                    // Move to the button like a human
+                    moveMouseLikeHuman(driver, button);
+                    
+                    // Click the button
+                    button.click();
+                    
+                    // Wait for the results page to load
+                    PageReadiness.awaitNavigation(driver, jobsPageUrl, PageReadiness.Condition.JOB_SEARCH_FORM);
+                    
+                    // Take a screenshot after clicking
+                    ScreenshotService.capture(driver, "after_show_all_click_with_scroll.png");
+                    
+                    return true;
                 } catch (Exception e) {
-                    // Continue to the next selector
+                    System.out.println("Clicking 'Show all' button after scrolling failed: " + e.getMessage());
                 }
             }
         }
@@ -1163,11 +1043,11 @@ public class LinkedInJobsNavigator {
                     // Click using JavaScript (more reliable for hidden/partially visible elements)
                     js.executeScript("arguments[0].click();", showAllButton);
                     
-                    // Wait for the results to load
-                    humanWait(1500, 3000);
+                    // Wait for the results page to load
+                    PageReadiness.awaitNavigation(driver, jobsPageUrl, PageReadiness.Condition.JOB_SEARCH_FORM);
                     
                     // Take a screenshot after clicking
-                    takeScreenshot(driver, "after_show_all_click_js.png");
+                    ScreenshotService.capture(driver, "after_show_all_click_js.png");
                     
                     return true;
                 }
@@ -1194,11 +1074,11 @@ public class LinkedInJobsNavigator {
                         // Click the button
                         button.click();
                         
-                        // Wait for the results to load
-                        humanWait(1500, 3000);
+                        // Wait for the results page to load
+                        PageReadiness.awaitNavigation(driver, jobsPageUrl, PageReadiness.Condition.JOB_SEARCH_FORM);
                         
                         // Take a screenshot after clicking
-                        takeScreenshot(driver, "after_alternative_button_click.png");
+                        ScreenshotService.capture(driver, "after_alternative_button_click.png");
                         
                         return true;
                     }
@@ -1209,7 +1089,7 @@ public class LinkedInJobsNavigator {
         }
         
         System.out.println("All approaches to find 'Show all' button failed.");
-        takeScreenshot(driver, "show_all_not_found.png");
+        ScreenshotService.capture(driver, "show_all_not_found.png");
         return false;
     }
     
@@ -1229,19 +1109,19 @@ public class LinkedInJobsNavigator {
             int targetY = element.getLocation().getY();
             
             // Add some randomness to the target (not exactly center of element)
-            targetX += element.getSize().getWidth() / 2 + (random.nextInt(10) - 5);
-            targetY += element.getSize().getHeight() / 2 + (random.nextInt(10) - 5);
+            targetX += element.getSize().getWidth() / 2 + (random().nextInt(10) - 5);
+            targetY += element.getSize().getHeight() / 2 + (random().nextInt(10) - 5);
             
             // Move in a slightly curved path instead of a straight line
             for (int i = 0; i < 3; i++) {
-                int intermediateX = targetX + (random.nextInt(40) - 20);
-                int intermediateY = targetY + (random.nextInt(40) - 20);
+                int intermediateX = targetX + (random().nextInt(40) - 20);
+                int intermediateY = targetY + (random().nextInt(40) - 20);
                 
-                actions.moveByOffset(intermediateX, intermediateY).pause(Duration.ofMillis(random.nextInt(100) + 50)).perform();
+                actions.moveByOffset(intermediateX, intermediateY).pause(Duration.ofMillis(random().nextInt(100) + 50)).perform();
             }
             
             // Finally move to the actual target
-            actions.moveToElement(element).pause(Duration.ofMillis(random.nextInt(300) + 200)).perform();
+            actions.moveToElement(element).pause(Duration.ofMillis(random().nextInt(300) + 200)).perform();
             
             // Small pause before clicking
             humanWait(200, 500);
@@ -1267,11 +1147,11 @@ public class LinkedInJobsNavigator {
         Long windowHeight = (Long) js.executeScript("return window.innerHeight");
         
         // Calculate a random number of scroll steps (between 2 and 5)
-        int scrollSteps = 2 + random.nextInt(4);
+        int scrollSteps = 2 + random().nextInt(4);
         
         for (int i = 0; i < scrollSteps; i++) {
             // Calculate a random scroll distance for this step
-            int scrollDistance = windowHeight.intValue() / 3 + random.nextInt(windowHeight.intValue() / 3);
+            int scrollDistance = windowHeight.intValue() / 3 + random().nextInt(windowHeight.intValue() / 3);
             
             // Scroll down smoothly
             js.executeScript("window.scrollBy({top: " + scrollDistance + ", behavior: 'smooth'});");
@@ -1293,38 +1173,36 @@ public class LinkedInJobsNavigator {
     private static WebElement findAndClickFilterDropdown(WebDriver driver, List<By> selectors, String filterName) throws Exception {
         System.out.println("Looking for " + filterName + " dropdown...");
         
-        // Try each selector until we find one that works
-        for (By selector : selectors) {
+        // Resolve all selectors in a single round-trip
+        SelectorResolver.Match match = SelectorResolver.resolve(driver, selectors);
+        if (match != null) {
             try {
-                List<WebElement> elements = driver.findElements(selector);
-                for (WebElement element : elements) {
-                    if (element.isDisplayed() && element.isEnabled()) {
-                        // Take screenshot before clicking
-                        takeScreenshot(driver, filterName.replaceAll("\\s+", "_").toLowerCase() + "_dropdown_before_click.png");
-                        
-                        // Move mouse to element and click
-                        System.out.println("Found " + filterName + " dropdown. Moving mouse to it...");
-                        moveMouseLikeHuman(driver, element);
-                        humanWait(300, 800);
-                        
-                        try {
-                            element.click();
-                            System.out.println("Clicked " + filterName + " dropdown using standard click");
-                        } catch (Exception e) {
-                            System.out.println("Standard click failed for " + filterName + ". Trying JavaScript click...");
-                            JavascriptExecutor js = (JavascriptExecutor) driver;
-                            js.executeScript("arguments[0].click();", element);
-                            System.out.println("Clicked " + filterName + " dropdown using JavaScript");
-                        }
-                        
-                        humanWait(500, 1000);
-                        takeScreenshot(driver, filterName.replaceAll("\\s+", "_").toLowerCase() + "_dropdown_after_click.png");
-                        
-                        return element;
-                    }
+                WebElement element = match.element();
+                
+                // Take screenshot before clicking
+                ScreenshotService.capture(driver, filterName.replaceAll("\\s+", "_").toLowerCase() + "_dropdown_before_click.png");
+                
+                // Move mouse to element and click
+                System.out.println("Found " + filterName + " dropdown with selector: " + match.selector() + ". Moving mouse to it...");
+                moveMouseLikeHuman(driver, element);
+                humanWait(300, 800);
+                
+                try {
+                    element.click();
+                    System.out.println("Clicked " + filterName + " dropdown using standard click");
+                } catch (Exception e) {
+                    System.out.println("Standard click failed for " + filterName + ". Trying JavaScript click...");
+                    JavascriptExecutor js = (JavascriptExecutor) driver;
+                    js.executeScript("arguments[0].click();", element);
+                    System.out.println("Clicked " + filterName + " dropdown using JavaScript");
                 }
+                
+                humanWait(500, 1000);
+                ScreenshotService.capture(driver, filterName.replaceAll("\\s+", "_").toLowerCase() + "_dropdown_after_click.png");
+                
+                return element;
             } catch (Exception e) {
-                // Continue to the next selector
+                System.out.println("Clicking " + filterName + " dropdown failed: " + e.getMessage());
             }
         }
         
@@ -1344,14 +1222,14 @@ public class LinkedInJobsNavigator {
                 WebElement element = (WebElement) result;
                 
                 // Take screenshot before clicking
-                takeScreenshot(driver, filterName.replaceAll("\\s+", "_").toLowerCase() + "_dropdown_js_before_click.png");
+                ScreenshotService.capture(driver, filterName.replaceAll("\\s+", "_").toLowerCase() + "_dropdown_js_before_click.png");
                 
                 // Click using JavaScript
                 js.executeScript("arguments[0].click();", element);
                 System.out.println("Found and clicked " + filterName + " dropdown using JavaScript");
                 
                 humanWait(500, 1000);
-                takeScreenshot(driver, filterName.replaceAll("\\s+", "_").toLowerCase() + "_dropdown_js_after_click.png");
+                ScreenshotService.capture(driver, filterName.replaceAll("\\s+", "_").toLowerCase() + "_dropdown_js_after_click.png");
                 
                 return element;
             }
@@ -1375,38 +1253,36 @@ public class LinkedInJobsNavigator {
     private static boolean clickFilterOption(WebDriver driver, List<By> selectors, String optionName) throws Exception {
         System.out.println("Looking for " + optionName + " option...");
         
-        // Try each selector until we find one that works
-        for (By selector : selectors) {
+        // Resolve all selectors in a single round-trip
+        SelectorResolver.Match match = SelectorResolver.resolve(driver, selectors);
+        if (match != null) {
             try {
-                List<WebElement> elements = driver.findElements(selector);
-                for (WebElement element : elements) {
-                    if (element.isDisplayed() && element.isEnabled()) {
-                        // Take screenshot before clicking
-                        takeScreenshot(driver, optionName.replaceAll("\\s+", "_").toLowerCase() + "_option_before_click.png");
-                        
-                        // Move mouse to element and click
-                        System.out.println("Found " + optionName + " option. Moving mouse to it...");
-                        moveMouseLikeHuman(driver, element);
-                        humanWait(300, 800);
-                        
-                        try {
-                            element.click();
-                            System.out.println("Clicked " + optionName + " option using standard click");
-                        } catch (Exception e) {
-                            System.out.println("Standard click failed for " + optionName + ". Trying JavaScript click...");
-                            JavascriptExecutor js = (JavascriptExecutor) driver;
-                            js.executeScript("arguments[0].click();", element);
-                            System.out.println("Clicked " + optionName + " option using JavaScript");
-                        }
-                        
-                        humanWait(500, 1000);
-                        takeScreenshot(driver, optionName.replaceAll("\\s+", "_").toLowerCase() + "_option_after_click.png");
-                        
-                        return true;
-                    }
+                WebElement element = match.element();
+                
+                // Take screenshot before clicking
+                ScreenshotService.capture(driver, optionName.replaceAll("\\s+", "_").toLowerCase() + "_option_before_click.png");
+                
+                // Move mouse to element and click
+                System.out.println("Found " + optionName + " option with selector: " + match.selector() + ". Moving mouse to it...");
+                moveMouseLikeHuman(driver, element);
+                humanWait(300, 800);
+                
+                try {
+                    element.click();
+                    System.out.println("Clicked " + optionName + " option using standard click");
+                } catch (Exception e) {
+                    System.out.println("Standard click failed for " + optionName + ". Trying JavaScript click...");
+                    JavascriptExecutor js = (JavascriptExecutor) driver;
+                    js.executeScript("arguments[0].click();", element);
+                    System.out.println("Clicked " + optionName + " option using JavaScript");
                 }
+                
+                humanWait(500, 1000);
+                ScreenshotService.capture(driver, optionName.replaceAll("\\s+", "_").toLowerCase() + "_option_after_click.png");
+                
+                return true;
             } catch (Exception e) {
-                // Continue to the next selector
+                System.out.println("Clicking " + optionName + " option failed: " + e.getMessage());
             }
         }
         
@@ -1426,14 +1302,14 @@ public class LinkedInJobsNavigator {
                 WebElement element = (WebElement) result;
                 
                 // Take screenshot before clicking
-                takeScreenshot(driver, optionName.replaceAll("\\s+", "_").toLowerCase() + "_option_js_before_click.png");
+                ScreenshotService.capture(driver, optionName.replaceAll("\\s+", "_").toLowerCase() + "_option_js_before_click.png");
                 
                 // Click using JavaScript
                 js.executeScript("arguments[0].click();", element);
                 System.out.println("Found and clicked " + optionName + " option using JavaScript");
                 
                 humanWait(500, 1000);
-                takeScreenshot(driver, optionName.replaceAll("\\s+", "_").toLowerCase() + "_option_js_after_click.png");
+                ScreenshotService.capture(driver, optionName.replaceAll("\\s+", "_").toLowerCase() + "_option_js_after_click.png");
                 
                 return true;
             }
@@ -1475,7 +1351,7 @@ public class LinkedInJobsNavigator {
                 for (WebElement element : elements) {
                     if (element.isDisplayed() && element.isEnabled()) {
                         // Take screenshot before clicking
-                        takeScreenshot(driver, "apply_button_before_click.png");
+                        ScreenshotService.capture(driver, "apply_button_before_click.png");
                         
                         // Move mouse to element and click
                         System.out.println("Found Apply button. Moving mouse to it...");
@@ -1495,7 +1371,7 @@ public class LinkedInJobsNavigator {
                         }
                         
                         humanWait(500, 1000);
-                        takeScreenshot(driver, "apply_button_after_click.png");
+                        ScreenshotService.capture(driver, "apply_button_after_click.png");
                         
                         break;
                     }
@@ -1516,30 +1392,22 @@ public class LinkedInJobsNavigator {
     }
     
     /**
-     * Takes a screenshot and saves it to the specified filename
-     * @param driver WebDriver instance
-     * @param filename Name of the screenshot file
+     * Random generator for the calling thread; sessions running in parallel
+     * each get their own instance instead of sharing one
+     * @return Thread-local random generator
      */
-    private static void takeScreenshot(WebDriver driver, String filename) {
-        try {
-            File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            Path destination = Paths.get(filename);
-            Files.copy(screenshot.toPath(), destination, StandardCopyOption.REPLACE_EXISTING);
-            System.out.println("Screenshot saved to: " + destination.toAbsolutePath());
-        } catch (Exception e) {
-            System.out.println("Failed to save screenshot: " + e.getMessage());
-        }
+    private static Random random() {
+        return ThreadLocalRandom.current();
     }
     
     /**
-     * Waits for a random time between min and max milliseconds
+     * Pauses for a random time between min and max milliseconds, scaled by the pacing profile
      * @param minMs Minimum wait time in milliseconds
      * @param maxMs Maximum wait time in milliseconds
      * @throws InterruptedException If the thread is interrupted
      */
     private static void humanWait(int minMs, int maxMs) throws InterruptedException {
-        int waitTime = minMs + random.nextInt(maxMs - minMs);
-        Thread.sleep(waitTime);
+        Pacing.pause(minMs, maxMs);
     }
     
     /**
@@ -1550,8 +1418,8 @@ public class LinkedInJobsNavigator {
         WebDriver driver = null;
         
         try {
-            // Set up WebDriverManager for Chrome
-            WebDriverManager.chromedriver().setup();
+            // Find chromedriver, reusing the pinned one when possible
+            DriverResolver.setup();
             
             // Configure Chrome options for stealth browsing
             ChromeOptions options = new ChromeOptions();
@@ -1576,15 +1444,12 @@ public class LinkedInJobsNavigator {
             driver = new ChromeDriver(options);
             
             // First go to LinkedIn login
-            driver.get("https://www.linkedin.com/");
+            driver.get(LinkedInConfigLoader.getUrl("/"));
             System.out.println("LinkedIn opened. Please log in manually.");
-            System.out.println("Waiting 30 seconds for manual login...");
-            Thread.sleep(30000);
+            System.out.println("Waiting up to 30 seconds for manual login...");
             
             // Check if logged in
-            if (driver.getCurrentUrl().contains("feed") || 
-                driver.getCurrentUrl().contains("mynetwork") || 
-                !driver.findElements(By.xpath("//*[contains(@class, 'feed-identity-module')]")).isEmpty()) {
+            if (PageReadiness.await(driver, PageReadiness.Condition.SIGNED_IN, Duration.ofSeconds(30))) {
                 
                 System.out.println("Login detected. Proceeding to Jobs navigation.");
                 // Navigate to Jobs
@@ -1606,6 +1471,9 @@ public class LinkedInJobsNavigator {
                 driver.quit();
                 System.out.println("Browser closed.");
             }
+            
+            // Let queued screenshots reach the disk before the JVM exits
+            ScreenshotService.flush(10000);
         }
     }
 }
@@ -1,6 +1,5 @@
 package com.example.easy;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
@@ -11,7 +10,8 @@ import java.util.Map;
 public class LinkedInOpener {
     
     /**
-     * Types text into an element character by character with random delays to simulate human typing
+     * Types text into an element character by character with random delays to simulate human typing.
+     * The delays are scaled by the pacing profile; with pacing off the text is sent at once.
      * 
      * @param driver WebDriver instance
      * @param element The web element to type into
@@ -19,6 +19,12 @@ public class LinkedInOpener {
      * @throws InterruptedException If sleep is interrupted
      */
     public static void typeHumanLike(WebDriver driver, org.openqa.selenium.WebElement element, String text) throws InterruptedException {
+        // Without pacing there is no point in sending one key at a time
+        if (Pacing.isDisabled()) {
+            element.sendKeys(text);
+            return;
+        }
+        
         // Human typing patterns are highly variable, so we'll simulate that
         char[] chars = text.toCharArray();
         
@@ -80,21 +86,21 @@ public class LinkedInOpener {
             // Special case: @ symbol in email often causes people to pause
             if (c == '@' && i < chars.length - 1) {
                 // Add an extra pause of 300-800ms after typing the @ symbol
-                Thread.sleep(300 + (long) (Math.random() * 500));
+                Pacing.sleep(300 + (long) (Math.random() * 500));
             }
 
             // Special case: Pause slightly more between domain and TLD
             if (c == '.' && text.contains("@") && i > text.indexOf('@')) {
                 // Add a pause of 100-300ms after typing the period in an email domain
-                Thread.sleep(100 + (long) (Math.random() * 200));
+                Pacing.sleep(100 + (long) (Math.random() * 200));
             }
 
             // Sleep for the calculated delay before typing the next character
-            Thread.sleep(delay);
+            Pacing.sleep(delay);
 
             // Occasionally take a longer pause as if reviewing what's been typed so far
             if (Math.random() < 0.05) { // 5% chance of a review pause
-                Thread.sleep(500 + (long) (Math.random() * 1500)); // 500-2000ms pause
+                Pacing.sleep(500 + (long) (Math.random() * 1500)); // 500-2000ms pause
             }
         }
     }
@@ -104,8 +110,8 @@ public class LinkedInOpener {
         WebDriver driver = null;
 
         try {
-            // Setup WebDriverManager for Chrome
-            WebDriverManager.chromedriver().setup();
+            // Find chromedriver, reusing the pinned one when possible
+            DriverResolver.setup();
 
             
             // Configure Chrome options for stealth mode
@@ -135,12 +141,13 @@ public class LinkedInOpener {
             driver = new ChromeDriver(options);
             
             // Navigate to LinkedIn sign-in page
-            driver.get("https://www.linkedin.com/checkpoint/lg/sign-in-another-account");
+            driver.get(LinkedInConfigLoader.getUrl("/checkpoint/lg/sign-in-another-account"));
             System.out.println("LinkedIn sign-in page opened successfully.");
             Thread.sleep(2000);
 
-            String email = "suhas.dasari194@gmail.com";
-            String password = "K17@h13$.Sd";
+            // Credentials come from the properties file
+            String email = LinkedInConfigLoader.getEmail();
+            String password = LinkedInConfigLoader.getPassword();
             
             // Find the email field
             org.openqa.selenium.WebElement emailField = driver.findElement(org.openqa.selenium.By.id("username"));
@@ -174,15 +181,7 @@ public class LinkedInOpener {
             boolean invalidCredentials = false;
             try {
                 // Take a screenshot for debugging
-                try {
-                    org.openqa.selenium.OutputType<java.io.File> outputType = org.openqa.selenium.OutputType.FILE;
-                    java.io.File screenshot = ((org.openqa.selenium.TakesScreenshot) driver).getScreenshotAs(outputType);
-                    java.nio.file.Path destination = java.nio.file.Paths.get("linkedin_credentials_check.png");
-                    java.nio.file.Files.copy(screenshot.toPath(), destination, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-                    System.out.println("Credentials check screenshot saved to: " + destination.toAbsolutePath());
-                } catch (Exception e) {
-                    System.out.println("Failed to save credentials check screenshot: " + e.getMessage());
-                }
+                ScreenshotService.capture(driver, "linkedin_credentials_check.png");
                 
                 // More specific error checks to avoid false positives
                 // Only check for explicit credential error messages
@@ -213,15 +212,7 @@ public class LinkedInOpener {
                 System.out.println("ERROR: Invalid credentials provided. Login failed.");
                 System.out.println("Please check your email and password and try again.");
                 // Take a screenshot of the error for reference
-                try {
-                    org.openqa.selenium.OutputType<java.io.File> outputType = org.openqa.selenium.OutputType.FILE;
-                    java.io.File screenshot = ((org.openqa.selenium.TakesScreenshot) driver).getScreenshotAs(outputType);
-                    java.nio.file.Path destination = java.nio.file.Paths.get("linkedin_error.png");
-                    java.nio.file.Files.copy(screenshot.toPath(), destination, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-                    System.out.println("Error screenshot saved to: " + destination.toAbsolutePath());
-                } catch (Exception e) {
-                    System.out.println("Failed to save error screenshot: " + e.getMessage());
-                }
+                ScreenshotService.capture(driver, "linkedin_error.png");
                 // Keep browser open a bit longer to see the error, then close it
                 System.out.println("Browser will close in 5 seconds...");
                 Thread.sleep(5000);
@@ -261,15 +252,7 @@ public class LinkedInOpener {
                     System.out.println("Checking login status... (waited " + totalWaitTime/1000 + " seconds)");
                     
                     // Take a screenshot for debugging
-                    try {
-                        org.openqa.selenium.OutputType<java.io.File> outputType = org.openqa.selenium.OutputType.FILE;
-                        java.io.File screenshot = ((org.openqa.selenium.TakesScreenshot) driver).getScreenshotAs(outputType);
-                        java.nio.file.Path destination = java.nio.file.Paths.get("linkedin_auth_progress_" + totalWaitTime/1000 + "s.png");
-                        java.nio.file.Files.copy(screenshot.toPath(), destination, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-                        System.out.println("Progress screenshot saved to: " + destination.toAbsolutePath());
-                    } catch (Exception e) {
-                        System.out.println("Failed to save progress screenshot: " + e.getMessage());
-                    }
+                    ScreenshotService.capture(driver, "linkedin_auth_progress_" + totalWaitTime/1000 + "s.png");
                     
                     // Check if we're logged in using multiple methods
                     String currentUrl = driver.getCurrentUrl();
@@ -336,6 +319,9 @@ public class LinkedInOpener {
                 driver.quit();
                 System.out.println("Browser closed.");
             }
+            
+            // Let queued screenshots reach the disk before the JVM exits
+            ScreenshotService.flush(10000);
         }
     }
 }
\ No newline at end of file
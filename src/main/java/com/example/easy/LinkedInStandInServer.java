@@ -0,0 +1,302 @@
+package com.example.easy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process stand-in for the parts of LinkedIn the workflow touches, serving recorded
+ * sign-in, feed, jobs home, search results, job details and Easy Apply pages from the
+ * fixtures in src/main/resources/standin. Pointing linkedin.base.url at it lets the whole
+ * pipeline run offline against headless Chrome, so runs are repeatable and can be timed.
+ *
+ * Search results are generated from a fixed catalogue of jobs, paged 25 at a time with
+ * LinkedIn's start= parameter. Every fifth job is not Easy Apply and every eleventh is
+ * already marked Applied. The f_AL=true filter is honoured; other filters are ignored.
+ */
+public final class LinkedInStandInServer implements AutoCloseable {
+
+    private static final String FIXTURE_ROOT = "/standin/";
+    private static final String SESSION_COOKIE = "li_at";
+    private static final String SIGN_IN_PATH = "/checkpoint/lg/sign-in-another-account";
+    private static final int PAGE_SIZE = 25;
+
+    /** Stand-in job IDs sit far above real LinkedIn IDs so they never collide */
+    private static final long FIRST_JOB_ID = 9_100_000_000L;
+
+    private static final List<String> TITLES = List.of(
+        "Software Engineer", "Senior Software Engineer", "Backend Engineer", "Java Developer",
+        "Full Stack Engineer", "Platform Engineer", "Site Reliability Engineer");
+    private static final List<String> COMPANIES = List.of(
+        "Acme Corp", "Globex", "Initech", "Umbrella Labs", "Hooli", "Stark Industries", "Wayne Enterprises",
+        "Cyberdyne Systems", "Soylent", "Tyrell");
+    private static final List<String> LOCATIONS = List.of(
+        "San Francisco, CA (Remote)", "New York, NY (Hybrid)", "Austin, TX (On-site)", "Seattle, WA (Remote)");
+
+    private final HttpServer server;
+    private final int jobCount;
+    private final Map<String, String> fixtures = new ConcurrentHashMap<>();
+
+    /**
+     * Starts the stand-in server on the loopback interface
+     *
+     * @param port Port to listen on, or 0 for any free port
+     * @param jobCount Number of jobs the search returns in total
+     * @throws IOException If the server cannot be started
+     */
+    public LinkedInStandInServer(int port, int jobCount) throws IOException {
+        this.jobCount = jobCount;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/", this::handle);
+        this.server.start();
+        System.out.println("LinkedIn stand-in server listening on " + getBaseUrl());
+    }
+
+    /**
+     * Returns the base URL to configure as linkedin.base.url
+     *
+     * @return Base URL without a trailing slash
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    /**
+     * Routes a request to the matching recorded page
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = parseQuery(exchange.getRequestURI());
+
+            if (path.equals(SIGN_IN_PATH)) {
+                sendPage(exchange, fixture("signin.html"));
+            } else if (path.equals("/checkpoint/lg/login-submit")) {
+                // Any credentials are accepted
+                exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=standin; Path=/");
+                redirect(exchange, "/feed/");
+            } else if (!hasSession(exchange)) {
+                redirect(exchange, SIGN_IN_PATH);
+            } else if (path.equals("/") || path.equals("/feed/")) {
+                sendPage(exchange, fixture("feed.html"));
+            } else if (path.equals("/jobs/")) {
+                sendPage(exchange, fixture("jobs.html"));
+            } else if (path.equals("/jobs/search/")) {
+                sendPage(exchange, searchPage(query));
+            } else if (path.startsWith("/jobs/view/")) {
+                redirect(exchange, "/jobs/search/?currentJobId=" + path.replaceAll("\\D", ""));
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Renders one page of search results from the job catalogue
+     */
+    private String searchPage(Map<String, String> query) throws IOException {
+        String keywords = query.getOrDefault("keywords", "");
+        String location = query.getOrDefault("location", "");
+        boolean easyApplyOnly = "true".equals(query.get("f_AL"));
+        int start = parseInt(query.get("start"));
+
+        // Without keywords the page is the empty search LinkedIn shows after "Show all"
+        StringBuilder cards = new StringBuilder();
+        int matching = 0;
+        if (!keywords.isEmpty()) {
+            String cardTemplate = fixture("card.html");
+            for (int i = 0; i < jobCount; i++) {
+                boolean easyApply = i % 5 != 4;
+                if (easyApplyOnly && !easyApply) {
+                    continue;
+                }
+                if (matching >= start && matching < start + PAGE_SIZE) {
+                    cards.append(card(cardTemplate, i, easyApply));
+                }
+                matching++;
+            }
+        }
+
+        Map<String, String> values = new HashMap<>();
+        values.put("KEYWORDS", escape(keywords));
+        values.put("LOCATION", escape(location));
+        values.put("RESULT_COUNT", Integer.toString(matching));
+        values.put("CARDS", cards.toString());
+        return render(fixture("search.html"), values);
+    }
+
+    private String card(String template, int i, boolean easyApply) {
+        String footer = "";
+        if (easyApply) {
+            footer += "              <li class=\"job-card-container__apply-method\">Easy Apply</li>\n";
+        }
+        if (i % 11 == 10) {
+            footer += "              <li class=\"job-card-container__footer-job-state\">Applied</li>\n";
+        }
+
+        int daysAgo = i % 7 + 1;
+        Map<String, String> values = new HashMap<>();
+        values.put("JOB_ID", Long.toString(FIRST_JOB_ID + i));
+        values.put("TITLE", TITLES.get(i % TITLES.size()));
+        values.put("COMPANY", COMPANIES.get(i % COMPANIES.size()));
+        values.put("LOCATION", LOCATIONS.get(i % LOCATIONS.size()));
+        values.put("POSTED", daysAgo + (daysAgo == 1 ? " day ago" : " days ago"));
+        values.put("POSTED_DATE", LocalDate.now().minusDays(daysAgo).toString());
+        values.put("EASY_APPLY", Boolean.toString(easyApply));
+        values.put("FOOTER", footer);
+        return render(template, values);
+    }
+
+    /**
+     * Loads a fixture from the classpath, caching it after the first read
+     */
+    private String fixture(String name) throws IOException {
+        String cached = fixtures.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        try (InputStream input = LinkedInStandInServer.class.getResourceAsStream(FIXTURE_ROOT + name)) {
+            if (input == null) {
+                throw new IOException("Stand-in fixture not found: " + FIXTURE_ROOT + name);
+            }
+            String content = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            fixtures.put(name, content);
+            return content;
+        }
+    }
+
+    private static String render(String template, Map<String, String> values) {
+        String result = template;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            result = result.replace("{{" + entry.getKey() + "}}", entry.getValue());
+        }
+        return result;
+    }
+
+    private static boolean hasSession(HttpExchange exchange) {
+        List<String> cookies = exchange.getRequestHeaders().get("Cookie");
+        if (cookies == null) {
+            return false;
+        }
+        for (String header : cookies) {
+            if (header.contains(SESSION_COOKIE + "=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sendPage(HttpExchange exchange, String html) throws IOException {
+        byte[] body = html.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+    }
+
+    private static Map<String, String> parseQuery(URI uri) {
+        Map<String, String> query = new HashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw == null) {
+            return query;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                          URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return value == null ? 0 : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    /**
+     * Runs the complete workflow against the stand-in server with headless Chrome and
+     * reports the wall-clock time. Human-like pauses are switched off, so the time is spent
+     * only on the browser and the workflow itself. Run state goes to a temporary data
+     * directory, so the real application history and selector statistics are left untouched.
+     *
+     * Optional arguments: total number of jobs (default 60) and number of browser sessions
+     * (default from linkedin.pool.size).
+     *
+     * @param args Command line arguments
+     */
+    public static void main(String[] args) {
+        int jobCount = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+        if (args.length > 1) {
+            System.setProperty("linkedin.pool.size", args[1]);
+        }
+
+        try (LinkedInStandInServer standIn = new LinkedInStandInServer(0, jobCount)) {
+            Path dataDir = Files.createTempDirectory("linkedin-standin-");
+
+            System.setProperty("linkedin.base.url", standIn.getBaseUrl());
+            System.setProperty("linkedin.data.dir", dataDir.toString());
+            System.setProperty("linkedin.email", "member@example.com");
+            System.setProperty("linkedin.password", "standin");
+            System.setProperty("linkedin.browser.headless", "true");
+            System.setProperty("linkedin.pacing.profile", "none");
+            // Stand-in applications go nowhere, so every form is driven through to submission
+            System.setProperty("linkedin.apply.submit", "true");
+            System.setProperty("linkedin.harvest.max_pages", Integer.toString((jobCount + PAGE_SIZE - 1) / PAGE_SIZE + 1));
+            LinkedInConfigLoader.reload();
+            System.out.println("Benchmark run state is kept in: " + dataDir.toAbsolutePath());
+
+            long start = System.currentTimeMillis();
+            LinkedInWorkflow.main(new String[0]);
+            long elapsed = System.currentTimeMillis() - start;
+
+            System.out.println("===== Stand-in benchmark =====");
+            System.out.println("Jobs in catalogue: " + jobCount);
+            System.out.println("Browser sessions: " + LinkedInConfigLoader.getSessionPoolSize());
+            System.out.println("Total wall-clock time: " + elapsed / 1000.0 + " seconds");
+        } catch (IOException e) {
+            System.out.println("Could not start the stand-in benchmark: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
@@ -1,12 +1,26 @@
 package com.example.easy;
 
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.example.easy.JobApplier.ApplicationHistoryStore;
 import com.example.easy.JobApplier.ContactInfo;
+import com.example.easy.JobApplier.JobDetailCache;
+import com.example.easy.JobApplier.JobHarvester;
+import com.example.easy.JobApplier.SeenJobIndex;
+import com.example.easy.JobApplier.UserInfoStore;
 
-import java.util.Scanner;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 
 /**
  * Main workflow class to orchestrate the LinkedIn automation
@@ -19,109 +33,333 @@ public class LinkedInWorkflow {
      * Main method to run the complete LinkedIn workflow
      * @param args Command line arguments (not used)
      */
+    @SuppressWarnings("try") // The saved answers and the question server are only held open for the run
     public static void main(String[] args) {
-        // Declare the driver and contactInfo outside the try block so they're accessible in the finally block
-        WebDriver driver = null;
-        ContactInfo contactInfo = null;
-        Scanner scanner = null;
+        // Find chromedriver in the background while the configuration and run state load
+        DriverResolver.resolveAsync();
         
-        try {
-            // Setup WebDriverManager for Chrome
-            WebDriverManager.chromedriver().setup();
-            
-            // Configure Chrome options for stealth mode
-            ChromeOptions options = new ChromeOptions();
-            options.addArguments("--disable-blink-features=AutomationControlled");
-            options.addArguments("--start-maximized");
-            options.addArguments("--disable-extensions");
-            options.addArguments("--disable-popup-blocking");
-            options.addArguments("--disable-infobars");
-            options.setExperimentalOption("excludeSwitches", 
-                    new String[]{"enable-automation", "enable-logging"});
-            options.addArguments("--user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/122.0.0.0 Safari/537.36");
-            
-            // Initialize Chrome driver with stealth options
-            driver = new ChromeDriver(options);
-            System.out.println("Browser initialized successfully.");
+        int poolSize = LinkedInConfigLoader.getSessionPoolSize();
+        int maxPages = LinkedInConfigLoader.getHarvestMaxPages();
+        
+        // Each session in the pool gets its own browser, login and screenshot directory.
+        // The application history and seen job index are shared, so no session re-opens a job another one handled.
+        // So is the job detail cache, so a job listed by several searches is only read once.
+        // The saved answers are closed last, so answers learned by any session are compacted to disk.
+        JobDetailCache detailCache = JobDetailCache.open();
+        try (UserInfoStore userInfo = UserInfoStore.get();
+             ApplicationHistoryStore history = ApplicationHistoryStore.open();
+             SeenJobIndex seenJobs = SeenJobIndex.open();
+             BrowserSessionPool pool = new BrowserSessionPool(poolSize, LinkedInWorkflow::createDriver);
+             PendingQuestionServer questionServer = PendingQuestionServer.startIfConfigured()) {
+            System.out.println("Running with " + pool.getSize() + " browser session(s).");
             
-            // Step 1: Use LinkedInOpener to log in
-            System.out.println("Step 1: Starting LinkedIn login process...");
-            boolean loginSuccess = loginToLinkedIn(driver);
+            // Launch every browser now, so the sessions for result pages are ready when the search is
+            pool.prewarm();
             
-            // Step 2: If login successful, navigate to Jobs
-            if (loginSuccess) {
-                System.out.println("Step 2: Starting LinkedIn Jobs navigation...");
-                
-                // Wait a bit after login to simulate human behavior
-                Thread.sleep(3000 + (int)(Math.random() * 2000));
-                
-                // Navigate to jobs
-                LinkedInJobsNavigator.navigateToJobs(driver);
-                
-                // Step 3: Click on the first job and start Easy Apply process
-                System.out.println("Step 3: Starting Easy Apply process...");
+            // Step 1 and 2: Log in on the first session and run the configured search
+            String searchUrl = pool.submit(session -> {
+                System.out.println("Step 1: Starting LinkedIn login process...");
+                if (!ensureLoggedIn(session)) {
+                    return null;
+                }
                 
-                // Create contact info handler
-                contactInfo = new ContactInfo(driver);
+                System.out.println("Step 2: Starting LinkedIn Jobs navigation...");
                 
-                // Click on first job and start Easy Apply
-                boolean applyStarted = contactInfo.clickFirstJobAndApply();
+                // Pause a bit after login to simulate human behavior
+                Pacing.pause(3000, 5000);
                 
-                if (applyStarted) {
-                    System.out.println("Successfully started Easy Apply process.");
-                    
-                    // Handle contact info form
-                    boolean contactInfoHandled = contactInfo.handleContactInfo();
-                    
-                    if (contactInfoHandled) {
-                        System.out.println("Contact info section completed successfully.");
-                        System.out.println("The application will now wait for you to review and complete the remaining steps.");
-                        
-                        // Keep the browser open to allow user to complete the application
-                        System.out.println("Press Enter to close the browser when done...");
-                        scanner = new Scanner(System.in);
-                        scanner.nextLine();
-                    } else {
-                        System.out.println("Failed to handle contact info section. The form may be different than expected.");
-                        System.out.println("Check the screenshots saved in the project directory for debugging.");
+                // Navigate to jobs and run the configured search
+                String url = null;
+                try {
+                    url = WorkflowMetrics.time("navigate_to_jobs", () -> LinkedInJobsNavigator.navigateToJobs(session.getDriver()));
+                } finally {
+                    if (url == null) {
+                        ScreenshotService.saveTrail(session.getDriver(), "navigate_to_jobs");
                     }
-                } else {
-                    System.out.println("Failed to start Easy Apply process. The Easy Apply button may not have been found.");
-                    System.out.println("This job may not support Easy Apply or the button was not detected.");
-                    System.out.println("Check the screenshots saved in the project directory for debugging.");
                 }
-            } else {
+                if (url == null) {
+                    System.out.println("Filtered search URL not available. Harvesting from the current page.");
+                    url = session.getDriver().getCurrentUrl();
+                }
+                return url;
+            }).get();
+            
+            if (searchUrl == null) {
                 System.out.println("LinkedIn login failed. Cannot proceed with job application.");
                 System.out.println("Please check your credentials in the properties file and ensure they are correct.");
+                return;
+            }
+            
+            // Step 3: Queue the result pages of every planned search, so all sessions drain them in parallel
+            System.out.println("Step 3: Starting Easy Apply process for all job listings...");
+            long harvestStart = System.currentTimeMillis();
+            SearchWatermarks watermarks = SearchWatermarks.open();
+            boolean incremental = LinkedInConfigLoader.isIncrementalSearchEnabled();
+            List<SearchPlanner.SearchQuery> queries = new ArrayList<>(SearchPlanner.plan(LinkedInConfigLoader.getConfig(), watermarks));
+            if (queries.isEmpty()) {
+                System.out.println("No searches planned. Check linkedin.job.role and linkedin.job.location in the properties file.");
+                return;
             }
             
+            // The first search was typed into the search form; its URL carries LinkedIn's own location ID.
+            // In incremental mode the planned URL is kept, since it carries the narrowed date window.
+            if (!incremental) {
+                queries.set(0, queries.get(0).withUrl(searchUrl));
+            }
+            
+            // Searches are queued one after another, so the sessions work through one search's pages together
+            BlockingQueue<PageTask> pages = new LinkedBlockingQueue<>();
+            for (SearchPlanner.SearchQuery query : queries) {
+                for (int page = 0; page < maxPages; page++) {
+                    pages.add(new PageTask(query, page));
+                }
+            }
+            Map<SearchPlanner.SearchQuery, Integer> lastPages = new ConcurrentHashMap<>();
+            Map<SearchPlanner.SearchQuery, Integer> failedPages = new ConcurrentHashMap<>();
+            
+            List<Future<List<JobHarvester.JobResult>>> workers = new ArrayList<>();
+            for (int i = 0; i < pool.getSize(); i++) {
+                workers.add(pool.submit(session -> drainPages(session, history, seenJobs, detailCache,
+                    incremental ? watermarks : null, pages, lastPages, failedPages)));
+            }
+            
+            List<JobHarvester.JobResult> results = new ArrayList<>();
+            for (Future<List<JobHarvester.JobResult>> worker : workers) {
+                try {
+                    results.addAll(worker.get());
+                } catch (ExecutionException e) {
+                    System.out.println("Error processing results pages: " + e.getCause().getMessage());
+                }
+            }
+            
+            // Step 4: Retry the jobs parked on questions that have been answered since, during this run or from the command line
+            BlockingQueue<String> retries = new LinkedBlockingQueue<>(ContactInfo.takeAnsweredJobs());
+            if (!retries.isEmpty()) {
+                System.out.println("Step 4: Retrying " + retries.size() + " job(s) whose questions have been answered...");
+                List<Future<List<JobHarvester.JobResult>>> retryWorkers = new ArrayList<>();
+                for (int i = 0; i < pool.getSize(); i++) {
+                    retryWorkers.add(pool.submit(session -> retryJobs(session, history, seenJobs, detailCache, retries)));
+                }
+                for (Future<List<JobHarvester.JobResult>> worker : retryWorkers) {
+                    try {
+                        results.addAll(worker.get());
+                    } catch (ExecutionException e) {
+                        System.out.println("Error retrying jobs: " + e.getCause().getMessage());
+                    }
+                }
+            }
+            
+            JobHarvester.printSummary(results, System.currentTimeMillis() - harvestStart);
+            if (incremental) {
+                // Only a search read to its end without errors may move its mark, or the next run would skip what this one missed
+                for (SearchPlanner.SearchQuery query : queries) {
+                    Integer lastPage = lastPages.get(query);
+                    Integer failedPage = failedPages.get(query);
+                    if (lastPage != null && (failedPage == null || failedPage > lastPage)) {
+                        watermarks.complete(query.key());
+                    } else {
+                        System.out.println("Search for " + query.role() + " in " + query.location()
+                            + " did not finish. Keeping its watermark.");
+                    }
+                }
+                watermarks.save(harvestStart);
+            }
+            System.out.println("Check the screenshots saved in the screenshots directory for any failed jobs.");
+            
         } catch (Exception e) {
             System.out.println("Error during workflow execution: " + e.getMessage());
             e.printStackTrace();
         } finally {
-            // Clean up resources
+            // Persist selector hit statistics so the next run tries the best selectors first
+            SelectorStats.save();
+            
+            // Let queued screenshots reach the disk before the JVM exits
+            ScreenshotService.flush(10000);
+            
+            // Keep the per-phase timings and command counts of this run
+            WorkflowMetrics.dump(LinkedInConfigLoader.getDataPath("workflow_metrics.txt"));
+        }
+    }
+    
+    /**
+     * Creates a Chrome browser configured for stealth mode
+     * @param sessionId Number of the browser session the browser is for
+     * @return New WebDriver instance
+     */
+    private static WebDriver createDriver(int sessionId) {
+        // Configure Chrome options for stealth mode
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--disable-blink-features=AutomationControlled");
+        options.addArguments("--start-maximized");
+        options.addArguments("--disable-extensions");
+        options.addArguments("--disable-popup-blocking");
+        options.addArguments("--disable-infobars");
+        options.setExperimentalOption("excludeSwitches", 
+                new String[]{"enable-automation", "enable-logging"});
+        options.addArguments("--user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/122.0.0.0 Safari/537.36");
+        
+        if (LinkedInConfigLoader.isHeadlessModeEnabled()) {
+            options.addArguments("--headless=new");
+            options.addArguments("--window-size=1920,1080");
+        }
+        
+        // Keep the login between runs when a persistent profile is configured
+        SessionStore.configure(options, sessionId);
+        
+        // Initialize Chrome driver with stealth options
+        String driverPath = DriverResolver.setup();
+        WebDriver driver;
+        try {
+            driver = new ChromeDriver(options);
+        } catch (SessionNotCreatedException e) {
+            // Usually Chrome has updated past the pinned driver
+            System.out.println("Browser could not start with the pinned chromedriver: " + e.getMessage());
+            DriverResolver.refresh(driverPath);
+            driver = new ChromeDriver(options);
+        }
+        System.out.println("Browser initialized successfully.");
+        
+        // Count every command the workflow sends to the browser
+        return WorkflowMetrics.instrument(driver);
+    }
+    
+    /**
+     * Logs the session into LinkedIn unless it is already logged in.
+     * A login kept from an earlier run is tried first; the full sign-in is the fallback.
+     * @param session Browser session to log in
+     * @return true if the session is logged in
+     * @throws Exception If the login phase fails unexpectedly
+     */
+    private static boolean ensureLoggedIn(BrowserSession session) throws Exception {
+        if (!session.isLoggedIn() && SessionStore.getMode() != SessionStore.Mode.NONE) {
+            // A session kept from an earlier run avoids the whole sign-in flow
+            session.setLoggedIn(WorkflowMetrics.time("restore_session", () -> SessionStore.restore(session.getDriver())));
+        }
+        if (!session.isLoggedIn()) {
+            System.out.println("Logging in browser session " + session.getId() + "...");
+            session.setLoggedIn(WorkflowMetrics.time("login", () -> loginToLinkedIn(session.getDriver())));
+            if (session.isLoggedIn()) {
+                SessionStore.save(session.getDriver());
+            }
+        }
+        return session.isLoggedIn();
+    }
+    
+    /**
+     * A results page of a planned search, waiting in the page queue
+     *
+     * @param query Planned search
+     * @param page Zero-based results page
+     */
+    private record PageTask(SearchPlanner.SearchQuery query, int page) {
+    }
+    
+    /**
+     * Takes results pages off the shared queue and processes them until the queue is empty.
+     * Pages after one that came back empty are skipped, since the search has run out of results,
+     * and so are pages after one that reached the jobs listed by the previous run.
+     * @param session Browser session to use
+     * @param history Application history shared by all sessions
+     * @param seenJobs Seen job index shared by all sessions
+     * @param detailCache Job detail cache shared by all sessions
+     * @param watermarks Marks of earlier runs in incremental mode, null otherwise
+     * @param pages Queue of pages shared by all sessions
+     * @param lastPages Last page to process for each search, once known
+     * @param failedPages First page of each search that could not be processed
+     * @return Per-job results for all pages this session processed
+     * @throws Exception If the session cannot log in
+     */
+    private static List<JobHarvester.JobResult> drainPages(BrowserSession session, ApplicationHistoryStore history,
+                                                           SeenJobIndex seenJobs, JobDetailCache detailCache,
+                                                           SearchWatermarks watermarks, BlockingQueue<PageTask> pages,
+                                                           Map<SearchPlanner.SearchQuery, Integer> lastPages,
+                                                           Map<SearchPlanner.SearchQuery, Integer> failedPages) throws Exception {
+        if (!ensureLoggedIn(session)) {
+            throw new IllegalStateException("Browser session " + session.getId() + " could not log in");
+        }
+        
+        List<JobHarvester.JobResult> results = new ArrayList<>();
+        PageTask task;
+        while ((task = pages.poll()) != null) {
+            Integer lastPage = lastPages.get(task.query());
+            if (lastPage != null && task.page() > lastPage) {
+                continue;
+            }
+            
             try {
-                // Close the scanner if it was opened
-                if (scanner != null) {
-                    scanner.close();
-                    System.out.println("Scanner closed.");
+                Set<Long> knownJobIds = watermarks != null ? watermarks.knownJobIds(task.query().key()) : Set.of();
+                JobHarvester harvester = harvestPage(session, history, seenJobs, detailCache, task.query().url(), task.page(), knownJobIds);
+                List<JobHarvester.JobResult> pageResults = harvester.getResults();
+                if (pageResults.isEmpty()) {
+                    System.out.println("No more job cards for " + task.query().role() + " in " + task.query().location()
+                        + ". Stopping after page " + (task.page() + 1) + ".");
                 }
-                
-                // Clean up the ContactInfo resources
-                if (contactInfo != null) {
-                    contactInfo.cleanup();
-                    System.out.println("ContactInfo resources cleaned up.");
+                if (pageResults.isEmpty() || harvester.hasReachedKnownJobs()) {
+                    lastPages.merge(task.query(), task.page(), Math::min);
                 }
-                
-                // Quit the driver
-                if (driver != null) {
-                    driver.quit();
-                    System.out.println("Browser closed.");
+                if (watermarks != null) {
+                    watermarks.observe(task.query().key(), harvester.getListedCards());
                 }
+                results.addAll(pageResults);
+            } catch (InterruptedException e) {
+                throw e;
             } catch (Exception e) {
-                System.out.println("Error during cleanup: " + e.getMessage());
+                System.out.println("Error processing results page " + (task.page() + 1) + " for " + task.query().role()
+                    + " in " + task.query().location() + ": " + e.getMessage());
+                failedPages.merge(task.query(), task.page(), Math::min);
             }
         }
+        return results;
+    }
+    
+    /**
+     * Takes parked jobs off the shared queue and runs their applications again until the queue is empty
+     * @param session Browser session to use
+     * @param history Application history shared by all sessions
+     * @param seenJobs Seen job index shared by all sessions
+     * @param detailCache Job detail cache shared by all sessions
+     * @param jobIds Queue of job IDs shared by all sessions
+     * @return Per-job results for the jobs this session retried
+     * @throws Exception If the session cannot log in
+     */
+    private static List<JobHarvester.JobResult> retryJobs(BrowserSession session, ApplicationHistoryStore history,
+                                                          SeenJobIndex seenJobs, JobDetailCache detailCache,
+                                                          BlockingQueue<String> jobIds) throws Exception {
+        if (!ensureLoggedIn(session)) {
+            throw new IllegalStateException("Browser session " + session.getId() + " could not log in");
+        }
+        
+        JobHarvester harvester = new JobHarvester(session.getDriver(), session.getContactInfo(), history, seenJobs, detailCache);
+        String jobId;
+        while ((jobId = jobIds.poll()) != null) {
+            harvester.retryJob(jobId);
+        }
+        return harvester.getResults();
+    }
+    
+    /**
+     * Processes one page of search results on the given session
+     * @param session Browser session to use
+     * @param history Application history shared by all sessions
+     * @param seenJobs Seen job index shared by all sessions
+     * @param detailCache Job detail cache shared by all sessions
+     * @param searchUrl Filtered search URL
+     * @param page Zero-based results page
+     * @param knownJobIds Jobs listed by the previous run of the search, empty outside incremental mode
+     * @return Harvester holding the per-job results, empty if the page had no job cards
+     * @throws Exception If the session cannot log in or the page cannot be processed
+     */
+    private static JobHarvester harvestPage(BrowserSession session, ApplicationHistoryStore history, SeenJobIndex seenJobs,
+                                            JobDetailCache detailCache, String searchUrl, int page,
+                                            Set<Long> knownJobIds) throws Exception {
+        if (!ensureLoggedIn(session)) {
+            throw new IllegalStateException("Browser session " + session.getId() + " could not log in");
+        }
+        
+        JobHarvester harvester = new JobHarvester(session.getDriver(), session.getContactInfo(), history, seenJobs, detailCache);
+        harvester.setKnownJobIds(knownJobIds);
+        harvester.harvestPage(searchUrl, page);
+        return harvester;
     }
     
     /**
@@ -132,13 +370,13 @@ public class LinkedInWorkflow {
     private static boolean loginToLinkedIn(WebDriver driver) {
         try {
             // Navigate to LinkedIn sign-in page
-            driver.get("https://www.linkedin.com/checkpoint/lg/sign-in-another-account");
+            driver.get(LinkedInConfigLoader.getUrl("/checkpoint/lg/sign-in-another-account"));
             System.out.println("LinkedIn sign-in page opened successfully.");
-            Thread.sleep(2000);
+            Pacing.pause(1000, 2000);
             
-            // Replace with your LinkedIn credentials
-            String email = "suhas.dasari194@gmail.com";
-            String password = "K17@h13$.Sd";
+            // Credentials come from the properties file
+            String email = LinkedInConfigLoader.getEmail();
+            String password = LinkedInConfigLoader.getPassword();
             
             // This is a simplified version of the login code from LinkedInOpener
             // Find the email field
@@ -149,7 +387,7 @@ public class LinkedInWorkflow {
             LinkedInOpener.typeHumanLike(driver, emailField, email);
             
             // Random delay between email and password fields
-            Thread.sleep(500 + (long)(Math.random() * 1000));
+            Pacing.pause(500, 1500);
             
             // Find the password field
             org.openqa.selenium.WebElement passwordField = driver.findElement(org.openqa.selenium.By.id("password"));
@@ -159,15 +397,16 @@ public class LinkedInWorkflow {
             LinkedInOpener.typeHumanLike(driver, passwordField, password);
             
             // Random delay after entering password before clicking submit
-            Thread.sleep(500 + (long)(Math.random() * 1000));
+            Pacing.pause(500, 1500);
             
             // Click the sign-in button
+            String signInUrl = driver.getCurrentUrl();
             org.openqa.selenium.WebElement signInButton = driver.findElement(org.openqa.selenium.By.xpath("//button[@type='submit']"));
             signInButton.click();
             System.out.println("Login credentials submitted.");
             
             // Wait for authentication
-            waitForAuthentication(driver);
+            waitForAuthentication(driver, signInUrl);
             
             // Check if we're logged in
             boolean loggedIn = isLoggedIn(driver);
@@ -189,11 +428,16 @@ public class LinkedInWorkflow {
     /**
      * Waits for authentication to complete, including mobile verification if needed
      * @param driver WebDriver instance
+     * @param signInUrl URL of the sign-in page the credentials were submitted from
      * @throws Exception If any error occurs
      */
-    private static void waitForAuthentication(WebDriver driver) throws Exception {
+    private static void waitForAuthentication(WebDriver driver, String signInUrl) throws Exception {
         System.out.println("Checking for authentication requirements...");
-        Thread.sleep(5000);
+        PageReadiness.awaitNavigation(driver, signInUrl, PageReadiness.Condition.DOCUMENT_READY);
+        if (PageReadiness.check(driver, PageReadiness.Condition.SIGNED_IN)) {
+            System.out.println("No mobile authentication detected.");
+            return;
+        }
         
         // Check if mobile authentication is required
         boolean mobileAuthRequired = !driver.findElements(org.openqa.selenium.By.xpath("//*[contains(text(), 'authentication')]")).isEmpty() ||
@@ -207,21 +451,9 @@ public class LinkedInWorkflow {
             System.out.println("Mobile authentication required. Please check your mobile device.");
             System.out.println("Waiting for 60 seconds for you to complete authentication...");
             
-            // Loop to check for login success while waiting
-            int totalWaitTime = 0;
-            boolean authSuccess = false;
-            while (totalWaitTime < 60000 && !authSuccess) {
-                // Wait in smaller increments and check for successful login
-                Thread.sleep(5000);
-                totalWaitTime += 5000;
-                
-                System.out.println("Checking login status... (waited " + totalWaitTime/1000 + " seconds)");
-                
-                if (isLoggedIn(driver)) {
-                    System.out.println("Authentication successful! Detected logged-in state.");
-                    authSuccess = true;
-                    break;
-                }
+            // Returns as soon as the signed-in navigation appears
+            if (PageReadiness.await(driver, PageReadiness.Condition.SIGNED_IN, Duration.ofSeconds(60))) {
+                System.out.println("Authentication successful! Detected logged-in state.");
             }
         } else {
             System.out.println("No mobile authentication detected.");
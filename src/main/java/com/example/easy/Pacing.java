@@ -0,0 +1,83 @@
+package com.example.easy;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Human-like pauses between browser actions, kept apart from waiting for pages to load
+ * (see {@link PageReadiness}). Pauses only make the workflow look less automated, so
+ * they are scaled by the profile set in linkedin.pacing.profile:
+ * - human: the full pauses (default)
+ * - fast: a quarter of each pause
+ * - none: no pauses at all, e.g. for runs against the local stand-in server
+ */
+public class Pacing {
+
+    /**
+     * Pacing profiles and the factor they scale each pause by
+     */
+    public enum Profile {
+        HUMAN(1.0),
+        FAST(0.25),
+        NONE(0.0);
+
+        private final double scale;
+
+        Profile(double scale) {
+            this.scale = scale;
+        }
+
+        public double getScale() {
+            return scale;
+        }
+    }
+
+    /**
+     * Returns the configured pacing profile, falling back to human for unknown names
+     *
+     * @return Pacing profile
+     */
+    public static Profile getProfile() {
+        switch (LinkedInConfigLoader.getPacingProfile()) {
+            case "none":
+                return Profile.NONE;
+            case "fast":
+                return Profile.FAST;
+            default:
+                return Profile.HUMAN;
+        }
+    }
+
+    /**
+     * Checks whether pauses are switched off, so callers can skip per-character typing
+     *
+     * @return true if the profile is none
+     */
+    public static boolean isDisabled() {
+        return getProfile() == Profile.NONE;
+    }
+
+    /**
+     * Pauses for a random time between min and max milliseconds, scaled by the profile
+     *
+     * @param minMs Minimum pause in milliseconds
+     * @param maxMs Maximum pause in milliseconds
+     * @throws InterruptedException If the thread is interrupted
+     */
+    public static void pause(int minMs, int maxMs) throws InterruptedException {
+        int range = Math.max(1, maxMs - minMs);
+        sleep(minMs + ThreadLocalRandom.current().nextInt(range));
+    }
+
+    /**
+     * Pauses for the given time, scaled by the profile
+     *
+     * @param millis Pause in milliseconds at the human profile
+     * @throws InterruptedException If the thread is interrupted
+     */
+    public static void sleep(long millis) throws InterruptedException {
+        long scaled = Math.round(millis * getProfile().getScale());
+        if (scaled > 0) {
+            Thread.sleep(scaled);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.easy;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+
+/**
+ * Waits for named page states instead of sleeping for a fixed time.
+ *
+ * Each condition is a single script that checks the page in one round-trip and is polled
+ * until it holds or the hard timeout (linkedin.wait.timeout_seconds) runs out, so a fast
+ * page is never waited on longer than it needs. How long each wait took is recorded in
+ * the linkedin.page.readiness timer. Human-like pauses are a separate concern, see {@link Pacing}.
+ */
+public class PageReadiness {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    // Prepended to every condition: after a click that navigates, the old page must not count as ready
+    private static final String LEFT_PREVIOUS_URL =
+        "if (arguments[1] && location.href === arguments[1]) return false;";
+
+    // Shared by all condition scripts; elements hidden with display:none have no client rects
+    private static final String HELPERS =
+        "function visible(el) {" +
+        "  return !!el && el.getClientRects().length > 0 && getComputedStyle(el).visibility !== 'hidden';" +
+        "}" +
+        "function anyVisible(selector) {" +
+        "  return Array.prototype.some.call(document.querySelectorAll(selector), visible);" +
+        "}";
+
+    // An explicit end of the results: a "no results" banner, a zero result count, or a list that
+    // finished loading without a single card (LinkedIn's answer to a start= past the last page)
+    private static final String NO_RESULTS_SCRIPT =
+        "if (document.readyState !== 'complete') return false;" +
+        "if (document.querySelector('.jobs-search-no-results-banner, .jobs-search-two-pane__no-results-banner--expand')) return true;" +
+        "var subtitle = document.querySelector('.jobs-search-results-list__subtitle');" +
+        "if (subtitle && /^\\s*0\\s/.test(subtitle.innerText)) return true;" +
+        "var list = document.querySelector('.jobs-search-results-list, .scaffold-layout__list');" +
+        "return !!list && !list.querySelector('li[data-occludable-job-id], .job-card-container, " +
+        "    .jobs-search-results__list-item, [data-job-id], .artdeco-loader, [aria-busy=\"true\"]');";
+
+    /**
+     * Page states the workflow waits for
+     */
+    public enum Condition {
+        /** The document and its subresources have finished loading */
+        DOCUMENT_READY("document loaded",
+            "return document.readyState === 'complete';"),
+
+        /** The member is signed in and the global navigation bar is shown */
+        SIGNED_IN("signed-in navigation",
+            "return document.readyState !== 'loading' && " +
+            "  !!document.querySelector('#global-nav, .global-nav, .feed-identity-module, [data-test-id=\"nav-settings\"]');"),
+
+        /** The jobs home page is shown, with job picks or a way to search */
+        JOBS_HOME("jobs home",
+            "return document.readyState !== 'loading' && " +
+            "  !!document.querySelector('.jobs-home-top-card, .jobs-search-box, input[id*=\"jobs-search-box\"], " +
+            "    a[href*=\"/jobs/search\"], a[href*=\"/jobs/collections\"]');"),
+
+        /** The job title and location search inputs are rendered */
+        JOB_SEARCH_FORM("job search form",
+            "return document.readyState !== 'loading' && " +
+            "  !!document.querySelector('input[id*=\"jobs-search-box\"], .jobs-search-box__text-input');"),
+
+        /** The search results list is rendered, with job cards or an explicit end of the results */
+        RESULTS_LIST("search results list",
+            "if (document.readyState !== 'complete') return false;" +
+            "if (document.querySelector('li[data-occludable-job-id], .job-card-container, " +
+            "    .jobs-search-results__list-item, [data-job-id]')) return true;" +
+            NO_RESULTS_SCRIPT),
+
+        /** The search has no (further) results: a "no results" message or a loaded list without cards */
+        NO_RESULTS("no search results", NO_RESULTS_SCRIPT),
+
+        /** The job details pane shows a title, for the given job ID when one is passed */
+        JOB_DETAILS("job details pane",
+            "var title = document.querySelector('.job-details-jobs-unified-top-card__job-title, " +
+            "    .jobs-unified-top-card__job-title, .jobs-details-top-card__job-title');" +
+            "if (!title || !title.innerText.trim()) return false;" +
+            "var jobId = arguments[0];" +
+            "if (!jobId) return true;" +
+            "return location.href.indexOf('currentJobId=' + jobId) >= 0 || location.href.indexOf('/jobs/view/' + jobId) >= 0 || " +
+            "  !!document.querySelector('.jobs-search__job-details--container a[href*=\"/jobs/view/' + jobId + '\"]');"),
+
+        /** The Easy Apply modal is open and its form or primary button is rendered */
+        EASY_APPLY_MODAL("Easy Apply modal",
+            "var modals = document.querySelectorAll('.jobs-easy-apply-modal, [aria-labelledby*=\"jobs-easy-apply\"], " +
+            "    .artdeco-modal[role=\"dialog\"]');" +
+            "return Array.prototype.some.call(modals, function(modal) {" +
+            "  return visible(modal) && " +
+            "    Array.prototype.some.call(modal.querySelectorAll('input, select, textarea, button.artdeco-button--primary'), visible);" +
+            "});"),
+
+        /** No application modal or confirmation dialog is shown */
+        MODAL_CLOSED("application modal closed",
+            "return !anyVisible('.jobs-easy-apply-modal, [role=\"dialog\"], [role=\"alertdialog\"]');");
+
+        private final String description;
+        private final String script;
+
+        Condition(String description, String script) {
+            this.description = description;
+            this.script = script;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * Waits until the condition holds, up to the configured timeout
+     *
+     * @param driver WebDriver instance
+     * @param condition Page state to wait for
+     * @return true if the condition holds, false if the timeout ran out first
+     */
+    public static boolean await(WebDriver driver, Condition condition) {
+        return await(driver, condition, null, null, defaultTimeout());
+    }
+
+    /**
+     * Waits until the condition holds, up to the given timeout
+     *
+     * @param driver WebDriver instance
+     * @param condition Page state to wait for
+     * @param timeout Longest time to wait
+     * @return true if the condition holds, false if the timeout ran out first
+     */
+    public static boolean await(WebDriver driver, Condition condition, Duration timeout) {
+        return await(driver, condition, null, null, timeout);
+    }
+
+    /**
+     * Waits until a click has taken the browser away from the given URL and the new page
+     * meets the condition, up to the configured timeout. Needed where the previous page
+     * would already satisfy the condition, and works for LinkedIn's in-page navigation too.
+     *
+     * @param driver WebDriver instance
+     * @param previousUrl URL before the click
+     * @param condition Page state to wait for
+     * @return true if the condition holds on a new URL, false if the timeout ran out first
+     */
+    public static boolean awaitNavigation(WebDriver driver, String previousUrl, Condition condition) {
+        return await(driver, condition, null, previousUrl, defaultTimeout());
+    }
+
+    /**
+     * Waits until the details pane shows the given job, up to the configured timeout
+     *
+     * @param driver WebDriver instance
+     * @param jobId LinkedIn job ID, or null to accept any job
+     * @return true if the details are shown, false if the timeout ran out first
+     */
+    public static boolean awaitJobDetails(WebDriver driver, String jobId) {
+        return await(driver, Condition.JOB_DETAILS, jobId, null, defaultTimeout());
+    }
+
+    /**
+     * Checks the condition once, without waiting
+     *
+     * @param driver WebDriver instance
+     * @param condition Page state to check
+     * @return true if the condition holds right now
+     */
+    public static boolean check(WebDriver driver, Condition condition) {
+        try {
+            return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(HELPERS + condition.script, null, null));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static boolean await(WebDriver driver, Condition condition, String argument, String previousUrl,
+                                 Duration timeout) {
+        String script = HELPERS + LEFT_PREVIOUS_URL + condition.script;
+        long start = System.nanoTime();
+        boolean ready = false;
+        try {
+            new WebDriverWait(driver, timeout, POLL_INTERVAL)
+                // A page in the middle of navigating may fail the script; just poll again
+                .ignoring(JavascriptException.class)
+                .ignoring(StaleElementReferenceException.class)
+                .until(d -> Boolean.TRUE.equals(((JavascriptExecutor) d).executeScript(script, argument, previousUrl)));
+            ready = true;
+        } catch (TimeoutException e) {
+            System.out.println("Timed out after " + timeout.toSeconds() + " seconds waiting for " + condition.getDescription());
+        } finally {
+            WorkflowMetrics.recordWait(condition.name().toLowerCase(), ready, System.nanoTime() - start);
+        }
+        return ready;
+    }
+
+    private static Duration defaultTimeout() {
+        return Duration.ofSeconds(LinkedInConfigLoader.getReadinessTimeoutSeconds());
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.easy;
+
+import com.example.easy.JobApplier.ContactInfo;
+import com.example.easy.JobApplier.PendingQuestions;
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Small local endpoint for answering the {@link PendingQuestions} queue while the workflow
+ * runs, started when linkedin.questions.port is set. It listens on the loopback interface only.
+ *
+ * - GET /questions lists the open questions as JSON, numbered from 1
+ * - POST /questions with the form fields question (number, property name or label) and answer
+ *   answers one; the answer is learned at once and the parked jobs are retried at the end of the run
+ *
+ * Every request must carry the random token printed at startup in the X-Questions-Token header.
+ * A web page cannot send that header without a CORS preflight, which is never answered, and
+ * requests with an Origin header are refused, so only local tools such as curl get through.
+ *
+ * For example: curl -H "X-Questions-Token: $TOKEN" -d question=1 -d answer=Yes http://127.0.0.1:8765/questions
+ */
+public class PendingQuestionServer implements AutoCloseable {
+
+    private static final Gson GSON = new Gson();
+
+    private static final String TOKEN_HEADER = "X-Questions-Token";
+
+    private final HttpServer server;
+    private final String token;
+
+    /**
+     * Starts the endpoint on the loopback interface
+     *
+     * @param port Port to listen on
+     * @throws IOException If the server cannot be started
+     */
+    public PendingQuestionServer(int port) throws IOException {
+        byte[] random = new byte[24];
+        new SecureRandom().nextBytes(random);
+        this.token = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/questions", this::handle);
+        this.server.start();
+        System.out.println("Pending questions can be answered at http://127.0.0.1:" + server.getAddress().getPort() + "/questions"
+            + " with the header " + TOKEN_HEADER + ": " + token);
+    }
+
+    /**
+     * Starts the endpoint if linkedin.questions.port is set
+     *
+     * @return The started endpoint, or null if it is disabled or cannot start
+     */
+    public static PendingQuestionServer startIfConfigured() {
+        int port = LinkedInConfigLoader.getQuestionsPort();
+        if (port <= 0) {
+            return null;
+        }
+        try {
+            return new PendingQuestionServer(port);
+        } catch (IOException e) {
+            System.err.println("Warning: Could not start the pending questions endpoint on port " + port + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (exchange.getRequestHeaders().containsKey("Origin")) {
+                send(exchange, 403, "{\"error\":\"requests from web pages are not accepted\"}");
+                return;
+            }
+            if (!authorized(exchange.getRequestHeaders().getFirst(TOKEN_HEADER))) {
+                send(exchange, 401, "{\"error\":\"missing or wrong " + TOKEN_HEADER + " header\"}");
+                return;
+            }
+            switch (exchange.getRequestMethod()) {
+                case "GET":
+                    send(exchange, 200, GSON.toJson(PendingQuestions.get().open()));
+                    break;
+                case "POST":
+                    Map<String, String> form = parseForm(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                    String question = form.get("question");
+                    String answer = form.get("answer");
+                    if (question == null || answer == null) {
+                        send(exchange, 400, "{\"error\":\"question and answer are required\"}");
+                        break;
+                    }
+                    PendingQuestions.Question answered = ContactInfo.answerQuestion(question, answer);
+                    if (answered == null) {
+                        send(exchange, 404, "{\"error\":\"no open question " + GSON.toJson(question) + "\"}");
+                    } else {
+                        System.out.println("Answered pending question \"" + answered.label() + "\" through the endpoint.");
+                        send(exchange, 200, GSON.toJson(answered));
+                    }
+                    break;
+                default:
+                    exchange.sendResponseHeaders(405, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private boolean authorized(String presented) {
+        return presented != null
+            && MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), presented.trim().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static Map<String, String> parseForm(String raw) {
+        Map<String, String> form = new HashMap<>();
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                form.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                         URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return form;
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.easy;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single screenshot pipeline for the whole workflow.
+ *
+ * The calling thread only grabs the PNG bytes from the browser and hands them to a
+ * bounded queue. A background writer downscales each capture and compresses it to JPEG,
+ * then keeps it in an in-memory ring holding the session's last few captures. Nothing
+ * touches the disk until a step fails and {@link #saveTrail(WebDriver, String)} is called:
+ * the ring is then written into a new directory under the session's screenshot directory,
+ * named after the run, the failure and the failed step, so nothing is ever overwritten.
+ * When the writer falls behind and the queue is full, new captures are dropped rather
+ * than stalling the browser loop.
+ */
+public class ScreenshotService {
+
+    /** Captures waiting to be written; further captures are dropped when full */
+    private static final int QUEUE_CAPACITY = 16;
+
+    /** Screenshots wider than this are scaled down, keeping the aspect ratio */
+    private static final int MAX_WIDTH = 1280;
+
+    private static final float JPEG_QUALITY = 0.6f;
+
+    private static final String RUN_ID = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+
+    private static final BlockingQueue<Request> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    // Last captures of each session, keyed by screenshot directory; only touched by the writer thread
+    private static final Map<Path, Deque<Compressed>> trails = new HashMap<>();
+
+    private static final AtomicLong sequence = new AtomicLong();
+    private static final AtomicLong failures = new AtomicLong();
+    private static final AtomicInteger dropped = new AtomicInteger();
+    private static final AtomicInteger pending = new AtomicInteger();
+    private static Thread writer;
+
+    /** Work for the writer thread, handled in the order it was queued */
+    private sealed interface Request permits Capture, SaveTrail {
+    }
+
+    /**
+     * A screenshot waiting to be compressed
+     *
+     * @param directory Directory of the session that took it
+     * @param name Unique file name without extension
+     * @param png Raw PNG bytes from the browser
+     */
+    private record Capture(Path directory, String name, byte[] png) implements Request {
+    }
+
+    /**
+     * A request to write a session's trail to disk
+     *
+     * @param directory Directory of the session
+     * @param name Name of the directory to write the trail into
+     */
+    private record SaveTrail(Path directory, String name) implements Request {
+    }
+
+    /**
+     * A compressed capture held in a session's trail
+     *
+     * @param name Unique file name without extension
+     * @param jpeg JPEG bytes
+     */
+    private record Compressed(String name, byte[] jpeg) {
+    }
+
+    /**
+     * Takes a screenshot and adds it to the session's trail. Returns as soon as the
+     * browser has produced the image; never blocks on compression or disk.
+     *
+     * @param driver WebDriver to capture
+     * @param step Name of the workflow step, e.g. "before_filters.png"
+     */
+    public static void capture(WebDriver driver, String step) {
+        byte[] png;
+        try {
+            png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        } catch (Exception e) {
+            System.out.println("Failed to take screenshot: " + e.getMessage());
+            return;
+        }
+
+        String name = String.format("%s-%05d-%s", RUN_ID, sequence.incrementAndGet(), stepName(step));
+        ensureWriterStarted();
+        pending.incrementAndGet();
+        if (!queue.offer(new Capture(BrowserSession.screenshotDirectory(driver), name, png))) {
+            pending.decrementAndGet();
+            dropped.incrementAndGet();
+            System.out.println("Screenshot writer is busy. Dropped screenshot: " + name);
+        }
+    }
+
+    /**
+     * Writes the session's recent captures to disk, e.g. because a step failed.
+     * Captures queued before this call are included.
+     *
+     * @param driver WebDriver of the session
+     * @param reason Step that failed, used to name the trail directory
+     */
+    public static void saveTrail(WebDriver driver, String reason) {
+        String name = String.format("%s-failure-%03d-%s", RUN_ID, failures.incrementAndGet(), stepName(reason));
+        ensureWriterStarted();
+        pending.incrementAndGet();
+        try {
+            // Unlike a capture, a failure trail is worth waiting briefly for
+            if (!queue.offer(new SaveTrail(BrowserSession.screenshotDirectory(driver), name), 2, TimeUnit.SECONDS)) {
+                pending.decrementAndGet();
+                System.out.println("Screenshot writer is busy. Could not save screenshot trail: " + name);
+            }
+        } catch (InterruptedException e) {
+            pending.decrementAndGet();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for queued screenshots to be processed, up to the given timeout
+     *
+     * @param timeoutMillis Maximum time to wait
+     */
+    public static void flush(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        try {
+            while (pending.get() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (pending.get() > 0) {
+            System.out.println("Warning: " + pending.get() + " screenshots were still being written.");
+        }
+        if (dropped.get() > 0) {
+            System.out.println("Screenshots dropped because the writer was busy: " + dropped.get());
+        }
+    }
+
+    private static synchronized void ensureWriterStarted() {
+        if (writer == null) {
+            // A platform daemon thread: encoding is CPU work and must not keep the JVM alive
+            writer = new Thread(ScreenshotService::writeLoop, "screenshot-writer");
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    private static void writeLoop() {
+        while (true) {
+            try {
+                Request request = queue.poll(1, TimeUnit.SECONDS);
+                if (request != null) {
+                    try {
+                        if (request instanceof Capture capture) {
+                            remember(capture);
+                        } else if (request instanceof SaveTrail save) {
+                            writeTrail(save);
+                        }
+                    } finally {
+                        pending.decrementAndGet();
+                    }
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                System.out.println("Failed to save screenshot: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Downscales and compresses one capture and adds it to its session's trail,
+     * evicting the oldest capture once the trail is full
+     */
+    private static void remember(Capture capture) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(capture.png()));
+        if (image == null) {
+            throw new IOException("Unreadable screenshot " + capture.name());
+        }
+
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        writeJpeg(downscale(image), jpeg);
+
+        Deque<Compressed> trail = trails.computeIfAbsent(capture.directory(), d -> new ArrayDeque<>());
+        trail.addLast(new Compressed(capture.name(), jpeg.toByteArray()));
+        while (trail.size() > LinkedInConfigLoader.getScreenshotTrailSize()) {
+            trail.removeFirst();
+        }
+    }
+
+    /**
+     * Writes a session's trail into a new directory and clears it
+     */
+    private static void writeTrail(SaveTrail save) throws IOException {
+        Deque<Compressed> trail = trails.get(save.directory());
+        if (trail == null || trail.isEmpty()) {
+            return;
+        }
+
+        Path trailDirectory = Files.createDirectories(save.directory().resolve(save.name()));
+        for (Compressed capture : trail) {
+            Files.write(trailDirectory.resolve(capture.name() + ".jpg"), capture.jpeg(), StandardOpenOption.CREATE_NEW);
+        }
+        System.out.println("Saved last " + trail.size() + " screenshots to: " + trailDirectory.toAbsolutePath());
+        trail.clear();
+    }
+
+    /**
+     * Scales the image down to at most {@link #MAX_WIDTH} pixels wide and drops the
+     * alpha channel, which JPEG cannot store
+     */
+    static BufferedImage downscale(BufferedImage image) {
+        int width = Math.min(image.getWidth(), MAX_WIDTH);
+        int height = (int) Math.round(image.getHeight() * (width / (double) image.getWidth()));
+
+        BufferedImage scaled = new BufferedImage(width, Math.max(1, height), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, Math.max(1, height), null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    static void writeJpeg(BufferedImage image, OutputStream output) throws IOException {
+        ImageWriter jpegWriter = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = jpegWriter.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            jpegWriter.setOutput(imageOutput);
+            jpegWriter.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            jpegWriter.dispose();
+        }
+    }
+
+    /**
+     * Turns a legacy file name such as "before_filters.png" into a safe step name
+     */
+    private static String stepName(String step) {
+        String name = step.endsWith(".png") ? step.substring(0, step.length() - 4) : step;
+        return name.replaceAll("[^A-Za-z0-9_-]", "_");
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.easy;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Expands the configured job roles, locations and filter values into the smallest set of
+ * search URLs.
+ *
+ * Roles and locations (semicolon-separated in linkedin.properties) cannot be combined in one
+ * LinkedIn search, so every distinct role and location pair becomes its own search. Filter
+ * values never multiply the searches: LinkedIn accepts comma-separated codes for experience
+ * level (f_E), job type (f_JT) and workplace type (f_WT), so all values of a filter go into
+ * one parameter, e.g. f_E=2,3,4. Only one date posted window (f_TPR) can be set, so the widest
+ * configured window is used; it covers the narrower ones.
+ *
+ * In incremental mode (linkedin.search.incremental) a search that ran before is narrowed to
+ * the time since its last run, see {@link SearchWatermarks}, and sorted newest first so
+ * paging can stop at the jobs the last run already listed.
+ */
+public class SearchPlanner {
+
+    /**
+     * One planned search
+     *
+     * @param key Identifies the search across runs: role, location and filters other than the date posted window
+     * @param role Job role typed into the keywords
+     * @param location Job location
+     * @param url Filtered search results URL
+     */
+    public record SearchQuery(String key, String role, String location, String url) {
+
+        /**
+         * Returns the same search with a different URL, e.g. the one produced by typing it into the search form
+         *
+         * @param url Search results URL
+         * @return Search with the given URL
+         */
+        public SearchQuery withUrl(String url) {
+            return new SearchQuery(key, role, location, url);
+        }
+    }
+
+    /**
+     * Plans the searches for the current configuration
+     *
+     * @return Searches in configuration order, empty if no role or no location is configured
+     */
+    public static List<SearchQuery> plan() {
+        return plan(LinkedInConfigLoader.getConfig(), null);
+    }
+
+    /**
+     * Plans the searches for a configuration snapshot: one per distinct role and location
+     * pair, each carrying all filter values
+     *
+     * @param config Configuration snapshot
+     * @param watermarks Marks of earlier runs, used in incremental mode; may be null
+     * @return Searches in configuration order, empty if no role or no location is configured
+     */
+    public static List<SearchQuery> plan(LinkedInConfig config, SearchWatermarks watermarks) {
+        boolean incremental = config.incrementalSearch() && watermarks != null;
+        String filterKey = String.join("&", filterParams(config, -1));
+        List<SearchQuery> queries = new ArrayList<>();
+        Set<String> planned = new HashSet<>();
+
+        for (String role : config.jobRoles()) {
+            for (String location : config.jobLocations()) {
+                // LinkedIn search is not case sensitive, so "java developer" and "Java Developer" are one search
+                String key = role.toLowerCase() + "|" + location.toLowerCase() + "|" + filterKey;
+                if (!planned.add(key)) {
+                    continue;
+                }
+
+                long window = incremental ? watermarks.windowSeconds(key) : 0;
+                if (window > 0) {
+                    System.out.println("Searching " + role + " in " + location + " for postings of the last "
+                        + (window + 3599) / 3600 + " hour(s)");
+                }
+                List<String> filters = filterParams(config, window);
+                queries.add(new SearchQuery(key, role, location,
+                    searchUrl(config.baseUrl(), role, location, filters, incremental ? "DD" : "R")));
+            }
+        }
+
+        System.out.println("Planned " + queries.size() + " search(es) for " + config.jobRoles().size()
+            + " role(s) and " + config.jobLocations().size() + " location(s)");
+        return queries;
+    }
+
+    /**
+     * Builds the filter parameters for a configuration snapshot, merging all values of a filter into one parameter
+     *
+     * @param config Configuration snapshot
+     * @return Filter parameters such as "f_E=2,3", sorted
+     */
+    public static List<String> filterParams(LinkedInConfig config) {
+        return filterParams(config, 0);
+    }
+
+    /**
+     * Builds the filter parameters, narrowing the date posted window where requested
+     *
+     * @param config Configuration snapshot
+     * @param window Date posted window in seconds to use if narrower than the configured one,
+     *               0 for the configured window, or -1 to leave the window out
+     * @return Filter parameters, sorted
+     */
+    private static List<String> filterParams(LinkedInConfig config, long window) {
+        List<String> params = new ArrayList<>();
+
+        // 1. Easy Apply
+        if (config.easyApplyEnabled()) {
+            params.add("f_AL=true");
+        }
+
+        // 2. Workplace type: remote/onsite/hybrid
+        addCodes(params, "f_WT", config.remoteFilterOptions(), SearchPlanner::workplaceTypeCode);
+
+        // 3. Date posted: a single window, the widest one configured, or the time since the last run if that is narrower
+        long configured = 0;
+        for (String option : config.sortByOptions()) {
+            configured = Math.max(configured, timePostedSeconds(option));
+        }
+        if (window > 0 && (configured == 0 || window < configured)) {
+            params.add("f_TPR=r" + window);
+        } else if (window >= 0 && configured > 0) {
+            params.add("f_TPR=r" + configured);
+        }
+
+        // 4. Experience level
+        addCodes(params, "f_E", config.experienceLevelOptions(), SearchPlanner::experienceLevelCode);
+
+        // 5. Job type
+        addCodes(params, "f_JT", config.jobTypeOptions(), SearchPlanner::jobTypeCode);
+
+        Collections.sort(params);
+        return params;
+    }
+
+    /**
+     * Builds the search results URL for one role and location
+     *
+     * @param baseUrl Base URL of the site
+     * @param role Job role
+     * @param location Job location
+     * @param filters Filter parameters from {@link #filterParams(LinkedInConfig)}
+     * @param sortBy LinkedIn sort order: R for relevance, DD for newest first
+     * @return Search results URL
+     */
+    static String searchUrl(String baseUrl, String role, String location, List<String> filters, String sortBy) {
+        List<String> params = new ArrayList<>(filters);
+        params.add("keywords=" + URLEncoder.encode(role, StandardCharsets.UTF_8));
+        params.add("location=" + URLEncoder.encode(location, StandardCharsets.UTF_8));
+        Collections.sort(params);
+        return baseUrl + "/jobs/search/?" + String.join("&", params) + "&sortBy=" + sortBy;
+    }
+
+    /**
+     * Adds one parameter holding the codes of all options, or nothing if there are no options
+     */
+    private static void addCodes(List<String> params, String name, List<String> options, Function<String, String> mapping) {
+        Set<String> codes = new TreeSet<>();
+        for (String option : options) {
+            for (String code : mapping.apply(option).split(",")) {
+                codes.add(code);
+            }
+        }
+        if (!codes.isEmpty()) {
+            params.add(name + "=" + String.join(",", codes));
+        }
+    }
+
+    private static String workplaceTypeCode(String option) {
+        switch (option.toLowerCase()) {
+            case "onsite":
+                return "1";
+            case "remote":
+                return "2";
+            case "hybrid":
+                return "3";
+            default:
+                return "2"; // Default to remote
+        }
+    }
+
+    private static long timePostedSeconds(String option) {
+        switch (option.toLowerCase()) {
+            case "day":
+                return 86400; // Past 24 hours
+            case "week":
+                return 604800; // Past week
+            case "month":
+                return 2592000; // Past month
+            default:
+                return 604800; // Default to past week
+        }
+    }
+
+    private static String experienceLevelCode(String option) {
+        switch (option.toLowerCase()) {
+            case "internship":
+                return "1";
+            case "entry_level":
+                return "2";
+            case "associate":
+                return "3";
+            case "mid_senior_level":
+                return "4";
+            case "director":
+                return "5";
+            default:
+                return "2,3,4"; // Default to multiple levels
+        }
+    }
+
+    private static String jobTypeCode(String option) {
+        switch (option.toLowerCase()) {
+            case "full_time":
+                return "F";
+            case "part_time":
+                return "P";
+            case "contract":
+                return "C";
+            case "temporary":
+                return "T";
+            case "volunteer":
+                return "V";
+            default:
+                return "F"; // Default to full time
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.easy;
+
+import com.example.easy.JobApplier.JobCard;
+import com.example.easy.JobApplier.SeenJobIndex;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * High-water marks of earlier runs for each planned search, used by the incremental
+ * search mode (linkedin.search.incremental).
+ *
+ * For every search the store remembers when it last ran, the newest posting it saw and
+ * the IDs of the jobs it listed. The next run then narrows the date posted filter to the
+ * time since the last run (f_TPR=rNNN), sorts by date, and stops paging once the results
+ * reach jobs the previous run already listed. A recurring run thus only pages through
+ * what is new. The marks are kept in search_watermarks.json in the data directory.
+ */
+public class SearchWatermarks {
+
+    private static final String DEFAULT_PATH = "search_watermarks.json";
+
+    /** Job IDs remembered per search; enough to cover the first pages of a date-sorted search */
+    private static final int MAX_JOB_IDS = 500;
+
+    /** Added to the time since the last run, as LinkedIn shows new postings with some delay */
+    private static final long WINDOW_SLACK_SECONDS = 3600;
+
+    private static final Pattern RELATIVE_TIME =
+        Pattern.compile("(\\d+)\\s*(minute|min|hour|hr|day|week|month|year)s?\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final Gson GSON = new Gson();
+
+    private final Path path;
+    private final Map<String, Watermark> previous = new HashMap<>();
+    private final Map<String, Set<Long>> knownJobIds = new HashMap<>();
+
+    // Cards listed by each search during this run; pages of one search are processed by several sessions
+    private final Map<String, List<JobCard>> observed = new ConcurrentHashMap<>();
+
+    // Searches whose results were read through to their end during this run
+    private final Set<String> completed = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The high-water mark of one search
+     *
+     * @param key Search key, see {@link SearchPlanner.SearchQuery#key()}
+     * @param lastRunAt When the search last ran, in epoch milliseconds
+     * @param newestPostedAt Newest posting time seen, in epoch milliseconds, or 0 if unknown
+     * @param jobIds IDs of the jobs the search listed, newest runs first
+     */
+    public record Watermark(String key, long lastRunAt, long newestPostedAt, List<Long> jobIds) {
+    }
+
+    /**
+     * Opens the store at the default location
+     *
+     * @return The opened store, empty if there is no file yet
+     */
+    public static SearchWatermarks open() {
+        return new SearchWatermarks(LinkedInConfigLoader.getDataPath(DEFAULT_PATH));
+    }
+
+    /**
+     * Opens the store backed by the given file
+     *
+     * @param path Watermark file
+     */
+    public SearchWatermarks(Path path) {
+        this.path = path;
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            Watermark[] marks = GSON.fromJson(reader, Watermark[].class);
+            if (marks != null) {
+                for (Watermark mark : marks) {
+                    previous.put(mark.key(), mark);
+                    knownJobIds.put(mark.key(), mark.jobIds() == null ? Set.of() : Set.copyOf(mark.jobIds()));
+                }
+            }
+            System.out.println("Search watermarks loaded for " + previous.size() + " search(es) from " + path.toAbsolutePath());
+        } catch (IOException | JsonParseException e) {
+            System.err.println("Warning: Could not read search watermarks. Searching everything: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the date posted window that covers everything new since the search last ran
+     *
+     * @param key Search key
+     * @return Window in seconds, or 0 if the search has not run before
+     */
+    public long windowSeconds(String key) {
+        Watermark mark = previous.get(key);
+        if (mark == null || mark.lastRunAt() <= 0) {
+            return 0;
+        }
+        long elapsed = Math.max(0, System.currentTimeMillis() - mark.lastRunAt()) / 1000;
+        return elapsed + WINDOW_SLACK_SECONDS;
+    }
+
+    /**
+     * Returns the IDs of the jobs the search listed in earlier runs
+     *
+     * @param key Search key
+     * @return Job IDs, empty if the search has not run before
+     */
+    public Set<Long> knownJobIds(String key) {
+        return knownJobIds.getOrDefault(key, Set.of());
+    }
+
+    /**
+     * Records the cards a results page of the search listed in this run. Called for every
+     * page that was processed, even an empty one, so the search counts as run.
+     *
+     * @param key Search key
+     * @param cards Cards read from the page
+     */
+    public void observe(String key, List<JobCard> cards) {
+        observed.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).addAll(cards);
+    }
+
+    /**
+     * Records that the search's results were read through to their end in this run: up to
+     * an empty page or to the jobs an earlier run listed, with no page failing before that.
+     *
+     * @param key Search key
+     */
+    public void complete(String key) {
+        completed.add(key);
+    }
+
+    /**
+     * Moves the marks of every completed search to this run and writes the file. Searches
+     * that did not run, and searches cut short by an error or by the page limit, keep their
+     * old marks, so the next run's window still covers the postings this one did not reach.
+     *
+     * @param runStartedAt When this run started searching, in epoch milliseconds.
+     *                     Jobs posted while it ran are picked up by the next run.
+     */
+    public void save(long runStartedAt) {
+        Map<String, Watermark> marks = new HashMap<>(previous);
+        for (Map.Entry<String, List<JobCard>> entry : observed.entrySet()) {
+            if (!completed.contains(entry.getKey())) {
+                continue;
+            }
+            Watermark old = previous.get(entry.getKey());
+            Set<Long> jobIds = new LinkedHashSet<>();
+            long newestPostedAt = old != null ? old.newestPostedAt() : 0;
+            synchronized (entry.getValue()) {
+                for (JobCard card : entry.getValue()) {
+                    long id = SeenJobIndex.parseJobId(card.jobId());
+                    if (id != 0) {
+                        jobIds.add(id);
+                    }
+                    newestPostedAt = Math.max(newestPostedAt, parsePostedTime(card.postedTime(), runStartedAt));
+                }
+            }
+            if (old != null && old.jobIds() != null) {
+                jobIds.addAll(old.jobIds());
+            }
+            List<Long> kept = new ArrayList<>(jobIds).subList(0, Math.min(jobIds.size(), MAX_JOB_IDS));
+            marks.put(entry.getKey(), new Watermark(entry.getKey(), runStartedAt, newestPostedAt, new ArrayList<>(kept)));
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                GSON.toJson(marks.values().toArray(new Watermark[0]), writer);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            System.out.println("Saved search watermarks for " + completed.size() + " completed search(es).");
+        } catch (IOException e) {
+            System.err.println("Warning: Could not save search watermarks: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Converts a card's posting time, e.g. "3 hours ago" or "2024-05-01", into epoch milliseconds
+     *
+     * @param postedTime Posting time as shown on the card, may be null
+     * @param now Time the card was read, in epoch milliseconds
+     * @return Approximate posting time, or 0 if it cannot be parsed
+     */
+    static long parsePostedTime(String postedTime, long now) {
+        if (postedTime == null || postedTime.isBlank()) {
+            return 0;
+        }
+        String text = postedTime.trim();
+        if (text.toLowerCase().contains("just now")) {
+            return now;
+        }
+
+        Matcher matcher = RELATIVE_TIME.matcher(text);
+        if (matcher.find()) {
+            long amount = Long.parseLong(matcher.group(1));
+            long unitMillis;
+            switch (matcher.group(2).toLowerCase()) {
+                case "minute":
+                case "min":
+                    unitMillis = 60_000L;
+                    break;
+                case "hour":
+                case "hr":
+                    unitMillis = 3_600_000L;
+                    break;
+                case "day":
+                    unitMillis = 86_400_000L;
+                    break;
+                case "week":
+                    unitMillis = 7 * 86_400_000L;
+                    break;
+                case "month":
+                    unitMillis = 30 * 86_400_000L;
+                    break;
+                default:
+                    unitMillis = 365 * 86_400_000L;
+            }
+            return now - amount * unitMillis;
+        }
+
+        try {
+            return LocalDate.parse(text).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.easy;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves a list of candidate selectors in a single WebDriver round-trip.
+ * Instead of calling findElements/isDisplayed for every selector in turn, the whole
+ * candidate list is sent to the page in one executeScript call, and the first visible
+ * (and optionally enabled) element is returned together with the selector that matched.
+ */
+public class SelectorResolver {
+
+    /**
+     * Script evaluated in the page. Arguments: candidate list of [strategy, value] pairs,
+     * whether the match must be enabled, and an optional root element to search under.
+     * Returns [element, candidateIndex] or null if nothing matched.
+     */
+    private static final String RESOLVE_SCRIPT =
+        "var candidates = arguments[0], requireEnabled = arguments[1], root = arguments[2] || document;" +
+        "function visible(el) {" +
+        "  if (!el || el.nodeType !== 1 || !el.isConnected) return false;" +
+        "  var style = window.getComputedStyle(el);" +
+        "  if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') return false;" +
+        "  var rect = el.getBoundingClientRect();" +
+        "  return rect.width > 0 && rect.height > 0;" +
+        "}" +
+        "function enabled(el) {" +
+        "  return !el.disabled && el.getAttribute('aria-disabled') !== 'true';" +
+        "}" +
+        "function query(strategy, value) {" +
+        "  try {" +
+        "    switch (strategy) {" +
+        "      case 'xpath':" +
+        "        var snapshot = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "        var nodes = [];" +
+        "        for (var i = 0; i < snapshot.snapshotLength; i++) nodes.push(snapshot.snapshotItem(i));" +
+        "        return nodes;" +
+        "      case 'css': return Array.from(root.querySelectorAll(value));" +
+        "      case 'id': return Array.from(root.querySelectorAll('[id=\"' + CSS.escape(value) + '\"]'));" +
+        "      case 'name': return Array.from(root.querySelectorAll('[name=\"' + CSS.escape(value) + '\"]'));" +
+        "      case 'tag': return Array.from(root.getElementsByTagName(value));" +
+        "      case 'class': return Array.from(root.getElementsByClassName(value));" +
+        "      case 'link': return Array.from(root.querySelectorAll('a')).filter(a => a.innerText.trim() === value);" +
+        "      case 'partialLink': return Array.from(root.querySelectorAll('a')).filter(a => a.innerText.includes(value));" +
+        "    }" +
+        "  } catch (e) {" +
+        "    /* invalid selector for this browser - treat as no match */" +
+        "  }" +
+        "  return [];" +
+        "}" +
+        "for (var c = 0; c < candidates.length; c++) {" +
+        "  var elements = query(candidates[c][0], candidates[c][1]);" +
+        "  for (var e = 0; e < elements.length; e++) {" +
+        "    if (visible(elements[e]) && (!requireEnabled || enabled(elements[e]))) return [elements[e], c];" +
+        "  }" +
+        "}" +
+        "return null;";
+
+    /**
+     * Result of a successful resolution
+     *
+     * @param element The first visible element that matched
+     * @param selector The selector that produced the match
+     * @param index Position of the winning selector in the candidate list
+     */
+    public record Match(WebElement element, By selector, int index) {
+    }
+
+    /**
+     * Finds the first visible and enabled element matching any of the selectors
+     *
+     * @param driver WebDriver instance
+     * @param selectors Candidate selectors in priority order
+     * @return The match, or null if no selector matched a visible element
+     */
+    public static Match resolve(WebDriver driver, List<By> selectors) {
+        return resolve(driver, selectors, true, null);
+    }
+
+    /**
+     * Finds the first visible element matching any of the selectors
+     *
+     * @param driver WebDriver instance
+     * @param selectors Candidate selectors in priority order
+     * @param requireEnabled Whether the element must also be enabled to count as a match
+     * @param root Element to search under, or null to search the whole document
+     * @return The match, or null if no selector matched a visible element
+     */
+    public static Match resolve(WebDriver driver, List<By> selectors, boolean requireEnabled, WebElement root) {
+        if (selectors == null || selectors.isEmpty()) {
+            return null;
+        }
+
+        List<List<String>> candidates = new ArrayList<>(selectors.size());
+        for (By selector : selectors) {
+            candidates.add(toCandidate(selector));
+        }
+
+        try {
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            Object result = js.executeScript(RESOLVE_SCRIPT, candidates, requireEnabled, root);
+
+            if (result instanceof List<?> pair && pair.size() == 2 && pair.get(0) instanceof WebElement element) {
+                int index = ((Number) pair.get(1)).intValue();
+                return new Match(element, selectors.get(index), index);
+            }
+        } catch (Exception e) {
+            System.out.println("Selector resolution script failed: " + e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Resolves a named selector list, trying selectors in the order learned by
+     * {@link SelectorStats} and recording which selector won
+     *
+     * @param driver WebDriver instance
+     * @param listName Name under which hit statistics are kept
+     * @param selectors Candidate selectors in source order
+     * @param requireEnabled Whether the element must also be enabled to count as a match
+     * @return The match, or null if no selector matched a visible element
+     */
+    public static Match resolve(WebDriver driver, String listName, List<By> selectors, boolean requireEnabled) {
+        return resolve(driver, listName, selectors, List.of(), requireEnabled);
+    }
+
+    /**
+     * Resolves a named selector list in the order learned by {@link SelectorStats}, followed
+     * by catch-all fallbacks that are always tried last and in source order. Broad selectors
+     * match more pages and would otherwise be promoted ahead of the specific ones.
+     *
+     * @param driver WebDriver instance
+     * @param listName Name under which hit statistics are kept
+     * @param selectors Specific candidate selectors in source order, reordered by their statistics
+     * @param fallbacks Catch-all selectors, never reordered
+     * @param requireEnabled Whether the element must also be enabled to count as a match
+     * @return The match, or null if no selector matched a visible element
+     */
+    public static Match resolve(WebDriver driver, String listName, List<By> selectors, List<By> fallbacks,
+                                boolean requireEnabled) {
+        List<By> ordered = new ArrayList<>(SelectorStats.order(listName, selectors));
+        ordered.addAll(fallbacks);
+        long start = System.currentTimeMillis();
+        Match match = resolve(driver, ordered, requireEnabled, null);
+        recordOutcome(listName, ordered, match, System.currentTimeMillis() - start);
+        return match;
+    }
+
+    /**
+     * Polls the page until one of the selectors matches a visible and enabled element.
+     * Each poll is a single round-trip, so the timeout bounds the whole list rather than
+     * each selector individually.
+     *
+     * @param driver WebDriver instance
+     * @param selectors Candidate selectors in priority order
+     * @param timeout Maximum time to wait for a match
+     * @return The match, or null if nothing matched before the timeout
+     * @throws InterruptedException If the thread is interrupted while polling
+     */
+    public static Match waitFor(WebDriver driver, List<By> selectors, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (true) {
+            Match match = resolve(driver, selectors);
+            if (match != null || System.nanoTime() >= deadline) {
+                return match;
+            }
+            Thread.sleep(250);
+        }
+    }
+
+    /**
+     * Polls the page for a named selector list, trying selectors in the order learned by
+     * {@link SelectorStats} and recording the outcome once the wait finishes
+     *
+     * @param driver WebDriver instance
+     * @param listName Name under which hit statistics are kept
+     * @param selectors Candidate selectors in source order
+     * @param timeout Maximum time to wait for a match
+     * @return The match, or null if nothing matched before the timeout
+     * @throws InterruptedException If the thread is interrupted while polling
+     */
+    public static Match waitFor(WebDriver driver, String listName, List<By> selectors, Duration timeout) throws InterruptedException {
+        List<By> ordered = SelectorStats.order(listName, selectors);
+        long start = System.currentTimeMillis();
+        Match match = waitFor(driver, ordered, timeout);
+        recordOutcome(listName, ordered, match, System.currentTimeMillis() - start);
+        return match;
+    }
+
+    /**
+     * Records a hit for the winning selector and a miss for every selector tried before it
+     * (or for all of them if nothing matched)
+     */
+    private static void recordOutcome(String listName, List<By> ordered, Match match, long latencyMillis) {
+        int missed = match != null ? match.index() : ordered.size();
+        for (int i = 0; i < missed; i++) {
+            SelectorStats.recordMiss(listName, ordered.get(i));
+        }
+        if (match != null) {
+            SelectorStats.recordHit(listName, match.selector(), latencyMillis);
+        }
+    }
+
+    /**
+     * Converts a Selenium By into a [strategy, value] pair the resolve script understands.
+     * Selenium's By implementations describe themselves as "By.strategy: value".
+     *
+     * @param selector The selector to convert
+     * @return Two-element list with the strategy name and selector value
+     */
+    private static List<String> toCandidate(By selector) {
+        String description = selector.toString();
+        int separator = description.indexOf(": ");
+        if (separator < 0) {
+            return List.of("css", description);
+        }
+
+        String type = description.substring(0, separator);
+        String value = description.substring(separator + 2);
+
+        switch (type) {
+            case "By.xpath":
+                return List.of("xpath", value);
+            case "By.cssSelector":
+                return List.of("css", value);
+            case "By.id":
+                return List.of("id", value);
+            case "By.name":
+                return List.of("name", value);
+            case "By.tagName":
+                return List.of("tag", value);
+            case "By.className":
+                return List.of("class", value);
+            case "By.linkText":
+                return List.of("link", value);
+            case "By.partialLinkText":
+                return List.of("partialLink", value);
+            default:
+                return List.of("css", value);
+        }
+    }
+}
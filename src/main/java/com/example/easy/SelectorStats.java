@@ -0,0 +1,219 @@
+package com.example.easy;
+
+import org.openqa.selenium.By;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks how often each selector in a named selector list wins, misses and how long
+ * resolution took, and persists the counters between runs. Lists are reordered so that
+ * selectors which usually match are tried first, and selectors that never match are
+ * demoted to the end of the list.
+ */
+public class SelectorStats {
+
+    private static final String DEFAULT_STATS_PATH = "selector_stats.properties";
+
+    /** Number of misses without a single hit after which a selector is demoted */
+    private static final int DEMOTE_AFTER_MISSES = 10;
+
+    private static final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private static volatile boolean loaded = false;
+
+    /**
+     * Hit/miss/latency counters for a single selector
+     */
+    private static class Counters {
+        final AtomicLong hits = new AtomicLong();
+        final AtomicLong misses = new AtomicLong();
+        final AtomicLong totalLatencyMillis = new AtomicLong();
+
+        /**
+         * Smoothed hit rate, so selectors with no history start in the middle
+         */
+        double hitRate() {
+            long h = hits.get();
+            return (h + 1.0) / (h + misses.get() + 2.0);
+        }
+
+        double averageLatencyMillis() {
+            long h = hits.get();
+            return h == 0 ? Double.MAX_VALUE : (double) totalLatencyMillis.get() / h;
+        }
+
+        boolean isDemoted() {
+            return hits.get() == 0 && misses.get() >= DEMOTE_AFTER_MISSES;
+        }
+    }
+
+    /**
+     * Returns the selectors reordered by their recorded performance: best hit rate first,
+     * lower latency breaking ties, demoted selectors last. Selectors without history keep
+     * their relative source order.
+     *
+     * @param listName Name of the selector list (e.g. "show-all")
+     * @param selectors Selectors in source order
+     * @return New list with the selectors in the order they should be tried
+     */
+    public static List<By> order(String listName, List<By> selectors) {
+        ensureLoaded();
+
+        // Rank from one snapshot: other sessions keep updating the counters while the list is sorted,
+        // and a comparator reading them live can break TimSort's contract
+        Map<By, Rank> ranks = new HashMap<>();
+        for (By selector : selectors) {
+            Counters c = countersFor(listName, selector);
+            ranks.putIfAbsent(selector, new Rank(c.isDemoted(), c.hitRate(), c.averageLatencyMillis()));
+        }
+
+        List<By> ordered = new ArrayList<>(selectors);
+        ordered.sort(Comparator
+            .comparing((By selector) -> ranks.get(selector).demoted())
+            .thenComparing(selector -> -ranks.get(selector).hitRate())
+            .thenComparing(selector -> ranks.get(selector).averageLatencyMillis()));
+        return ordered;
+    }
+
+    private record Rank(boolean demoted, double hitRate, double averageLatencyMillis) {
+    }
+
+    /**
+     * Records that a selector produced the match for its list
+     *
+     * @param listName Name of the selector list
+     * @param selector The winning selector
+     * @param latencyMillis Time taken to resolve the list
+     */
+    public static void recordHit(String listName, By selector, long latencyMillis) {
+        ensureLoaded();
+        Counters c = countersFor(listName, selector);
+        c.hits.incrementAndGet();
+        c.totalLatencyMillis.addAndGet(latencyMillis);
+    }
+
+    /**
+     * Records that a selector was tried without matching
+     *
+     * @param listName Name of the selector list
+     * @param selector The selector that missed
+     */
+    public static void recordMiss(String listName, By selector) {
+        ensureLoaded();
+        countersFor(listName, selector).misses.incrementAndGet();
+    }
+
+    /**
+     * Saves the counters to the default stats file
+     */
+    public static void save() {
+        save(LinkedInConfigLoader.getDataPath(DEFAULT_STATS_PATH).toString());
+    }
+
+    /**
+     * Saves the counters to the specified stats file
+     *
+     * @param statsPath Path to the stats file
+     */
+    public static synchronized void save(String statsPath) {
+        if (!loaded) {
+            return;
+        }
+
+        Properties props = new Properties();
+        for (Map.Entry<String, Counters> entry : counters.entrySet()) {
+            Counters c = entry.getValue();
+            props.setProperty(entry.getKey() + ".hits", Long.toString(c.hits.get()));
+            props.setProperty(entry.getKey() + ".misses", Long.toString(c.misses.get()));
+            props.setProperty(entry.getKey() + ".latency", Long.toString(c.totalLatencyMillis.get()));
+        }
+
+        Path path = Paths.get(statsPath);
+        try (OutputStream output = new FileOutputStream(path.toFile())) {
+            props.store(output, "Selector hit statistics");
+            System.out.println("Selector statistics saved to: " + path.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Warning: Could not save selector statistics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the counters from the default stats file the first time they are needed
+     */
+    private static void ensureLoaded() {
+        if (!loaded) {
+            load(LinkedInConfigLoader.getDataPath(DEFAULT_STATS_PATH).toString());
+        }
+    }
+
+    /**
+     * Loads the counters from the specified stats file
+     *
+     * @param statsPath Path to the stats file
+     */
+    private static synchronized void load(String statsPath) {
+        if (loaded) {
+            return;
+        }
+
+        Path path = Paths.get(statsPath);
+        if (Files.exists(path)) {
+            Properties props = new Properties();
+            try (InputStream input = new FileInputStream(path.toFile())) {
+                props.load(input);
+                for (String name : props.stringPropertyNames()) {
+                    int dot = name.lastIndexOf('.');
+                    if (dot < 0) {
+                        continue;
+                    }
+                    Counters c = counters.computeIfAbsent(name.substring(0, dot), k -> new Counters());
+                    long value = parseLong(props.getProperty(name));
+                    switch (name.substring(dot + 1)) {
+                        case "hits":
+                            c.hits.set(value);
+                            break;
+                        case "misses":
+                            c.misses.set(value);
+                            break;
+                        case "latency":
+                            c.totalLatencyMillis.set(value);
+                            break;
+                        default:
+                            break;
+                    }
+                }
+                System.out.println("Selector statistics loaded from: " + path.toAbsolutePath());
+            } catch (IOException e) {
+                System.err.println("Warning: Could not load selector statistics: " + e.getMessage());
+            }
+        }
+
+        loaded = true;
+    }
+
+    private static Counters countersFor(String listName, By selector) {
+        return counters.computeIfAbsent(listName + "|" + selector, k -> new Counters());
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
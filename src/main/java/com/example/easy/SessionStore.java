@@ -0,0 +1,239 @@
+package com.example.easy;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the LinkedIn login between runs so a launch does not have to sign in again.
+ *
+ * The mode is set with linkedin.session.mode:
+ * - none: every run signs in from scratch (default)
+ * - profile: each browser session uses its own persistent Chrome user-data directory,
+ *   so Chrome itself keeps the cookies
+ * - cookies: the cookies of a successful login are saved to a JSON file and added to
+ *   each new browser before it validates the session
+ *
+ * State lives in linkedin.session.dir, which can point at a tmpfs such as /dev/shm.
+ * A restored session is validated by opening the feed once; when that does not show the
+ * signed-in navigation, the caller falls back to the full login.
+ */
+public class SessionStore {
+
+    private static final String COOKIE_FILE = "cookies.json";
+
+    /** Restoring only pays off if a stale session is recognised quickly */
+    private static final Duration VALIDATION_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final Gson GSON = new Gson();
+
+    // Several browser sessions may save the snapshot at the same time after logging in
+    private static final ReentrantLock fileLock = new ReentrantLock();
+
+    /**
+     * How the login is kept between runs
+     */
+    public enum Mode {
+        NONE,
+        PROFILE,
+        COOKIES
+    }
+
+    /**
+     * A cookie as stored in the snapshot file
+     *
+     * @param name Cookie name
+     * @param value Cookie value
+     * @param domain Cookie domain
+     * @param path Cookie path
+     * @param expiry Expiry time in epoch milliseconds, or null for a session cookie
+     * @param secure Whether the cookie is only sent over HTTPS
+     * @param httpOnly Whether the cookie is hidden from scripts
+     * @param sameSite SameSite attribute, or null
+     */
+    private record StoredCookie(String name, String value, String domain, String path, Long expiry,
+                                boolean secure, boolean httpOnly, String sameSite) {
+
+        static StoredCookie from(Cookie cookie) {
+            return new StoredCookie(cookie.getName(), cookie.getValue(), cookie.getDomain(), cookie.getPath(),
+                cookie.getExpiry() != null ? cookie.getExpiry().getTime() : null,
+                cookie.isSecure(), cookie.isHttpOnly(), cookie.getSameSite());
+        }
+
+        boolean isExpired() {
+            return expiry != null && expiry < System.currentTimeMillis();
+        }
+
+        Cookie toCookie() {
+            return new Cookie(name, value, domain, path, expiry != null ? new Date(expiry) : null,
+                secure, httpOnly, sameSite);
+        }
+    }
+
+    /**
+     * Returns the configured mode, falling back to none for unknown names
+     *
+     * @return Session mode
+     */
+    public static Mode getMode() {
+        switch (LinkedInConfigLoader.getSessionMode()) {
+            case "profile":
+                return Mode.PROFILE;
+            case "cookies":
+                return Mode.COOKIES;
+            default:
+                return Mode.NONE;
+        }
+    }
+
+    /**
+     * Adds the persistent user-data directory to a browser's options in profile mode.
+     * Chrome locks its profile, so every browser session gets a directory of its own.
+     *
+     * @param options Options of the browser about to be started
+     * @param sessionId Number of the browser session
+     */
+    public static void configure(ChromeOptions options, int sessionId) {
+        if (getMode() != Mode.PROFILE) {
+            return;
+        }
+        Path profile = getSessionDirectory().resolve("chrome-profile-" + sessionId).toAbsolutePath();
+        try {
+            Files.createDirectories(profile);
+        } catch (IOException e) {
+            System.err.println("Warning: Could not create Chrome profile directory " + profile + ": " + e.getMessage());
+            return;
+        }
+        options.addArguments("--user-data-dir=" + profile);
+        System.out.println("Browser session " + sessionId + " uses Chrome profile: " + profile);
+    }
+
+    /**
+     * Tries to continue the session of an earlier run: in cookies mode the saved cookies
+     * are added first, then the feed is opened to check that the member is signed in
+     *
+     * @param driver Freshly started browser
+     * @return true if the browser is signed in, false if a full login is needed
+     */
+    public static boolean restore(WebDriver driver) {
+        Mode mode = getMode();
+        if (mode == Mode.NONE) {
+            return false;
+        }
+
+        if (mode == Mode.COOKIES) {
+            List<StoredCookie> cookies = readCookies();
+            if (cookies.isEmpty()) {
+                return false;
+            }
+
+            // Cookies can only be added for the site the browser is currently on
+            driver.get(LinkedInConfigLoader.getUrl("/"));
+            int added = 0;
+            for (StoredCookie cookie : cookies) {
+                if (cookie.isExpired()) {
+                    continue;
+                }
+                try {
+                    driver.manage().addCookie(cookie.toCookie());
+                    added++;
+                } catch (Exception e) {
+                    // Cookies of other LinkedIn subdomains are rejected here and are not needed
+                }
+            }
+            if (added == 0) {
+                return false;
+            }
+        }
+
+        driver.get(LinkedInConfigLoader.getUrl("/feed/"));
+        boolean signedIn = PageReadiness.await(driver, PageReadiness.Condition.SIGNED_IN, VALIDATION_TIMEOUT);
+        System.out.println(signedIn
+            ? "Restored the LinkedIn session from an earlier run."
+            : "Saved LinkedIn session is no longer valid. Signing in again.");
+        return signedIn;
+    }
+
+    /**
+     * Saves the cookies of a signed-in browser in cookies mode, replacing the previous snapshot.
+     * The file holds the login token, so it is only readable by its owner where possible.
+     *
+     * @param driver Signed-in browser
+     */
+    public static void save(WebDriver driver) {
+        if (getMode() != Mode.COOKIES) {
+            return;
+        }
+
+        List<StoredCookie> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            cookies.add(StoredCookie.from(cookie));
+        }
+
+        Path file = getSessionDirectory().resolve(COOKIE_FILE);
+        Path temp = file.resolveSibling(COOKIE_FILE + ".tmp");
+        fileLock.lock();
+        try {
+            Files.createDirectories(file.getParent());
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                GSON.toJson(cookies, writer);
+            }
+            try {
+                Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+            } catch (UnsupportedOperationException e) {
+                // Not a POSIX file system
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            System.out.println("Saved LinkedIn session cookies to: " + file.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Warning: Could not save LinkedIn session cookies: " + e.getMessage());
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    private static List<StoredCookie> readCookies() {
+        Path file = getSessionDirectory().resolve(COOKIE_FILE);
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        fileLock.lock();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            StoredCookie[] cookies = GSON.fromJson(reader, StoredCookie[].class);
+            return cookies == null ? List.of() : List.of(cookies);
+        } catch (IOException | JsonParseException e) {
+            System.err.println("Warning: Could not read LinkedIn session cookies: " + e.getMessage());
+            return List.of();
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    private static Path getSessionDirectory() {
+        String directory = LinkedInConfigLoader.getSessionDirectory();
+        return directory.isEmpty() ? LinkedInConfigLoader.getDataPath("browser_session") : Paths.get(directory);
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.easy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer timers and counters for the phases of the workflow.
+ *
+ * Meters are registered in Micrometer's global registry. When the application runs
+ * under Spring Boot, Actuator adds its own registry there and the meters appear at
+ * /actuator/metrics; in a plain CLI run a simple in-memory registry is added instead
+ * and {@link #dump(Path)} writes the results to a file at the end.
+ *
+ * Meters:
+ * - linkedin.workflow.phase: timer per phase (login, navigate_to_jobs, ...) and outcome,
+ *   with 50th, 90th and 99th percentiles
+ * - linkedin.webdriver.commands: counter per WebDriver command and the phase that issued it
+ * - linkedin.jobs.processed: counter per job outcome
+ * - linkedin.page.readiness: timer per page condition waited for and whether it was met
+ * - linkedin.cache.lookups: counter per cache and where a lookup was answered from
+ */
+public class WorkflowMetrics {
+
+    public static final String PHASE_TIMER = "linkedin.workflow.phase";
+    public static final String COMMAND_COUNTER = "linkedin.webdriver.commands";
+    public static final String JOB_COUNTER = "linkedin.jobs.processed";
+    public static final String READINESS_TIMER = "linkedin.page.readiness";
+    public static final String CACHE_COUNTER = "linkedin.cache.lookups";
+
+    /** Phase running on the current thread, used to attribute WebDriver commands */
+    private static final ThreadLocal<String> CURRENT_PHASE = new ThreadLocal<>();
+
+    /** WebDriver commands issued by the current thread, so callers can measure the round-trips of a step */
+    private static final ThreadLocal<long[]> COMMANDS_ON_THREAD = ThreadLocal.withInitial(() -> new long[1]);
+
+    static {
+        // Without any registry the global registry drops every measurement
+        if (Metrics.globalRegistry.getRegistries().isEmpty()) {
+            Metrics.addRegistry(new SimpleMeterRegistry());
+        }
+    }
+
+    /**
+     * Runs one phase of the workflow and records its duration.
+     * The outcome tag is "success", "failure" when the phase returns false or null,
+     * or "error" when it throws.
+     *
+     * @param phase Phase name, e.g. "login"
+     * @param body Work to time
+     * @param <T> Result type of the phase
+     * @return The phase's result
+     * @throws Exception Whatever the phase throws
+     */
+    public static <T> T time(String phase, Callable<T> body) throws Exception {
+        String outerPhase = CURRENT_PHASE.get();
+        CURRENT_PHASE.set(phase);
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = body.call();
+            outcome = result == null || Boolean.FALSE.equals(result) ? "failure" : "success";
+            return result;
+        } finally {
+            Timer.builder(PHASE_TIMER)
+                .description("Time spent in each phase of the LinkedIn workflow")
+                .tags("phase", phase, "outcome", outcome)
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(Metrics.globalRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            CURRENT_PHASE.set(outerPhase);
+        }
+    }
+
+    /**
+     * Counts a processed job by its outcome
+     *
+     * @param outcome Outcome name
+     */
+    public static void countJob(String outcome) {
+        Counter.builder(JOB_COUNTER)
+            .description("Jobs processed by outcome")
+            .tag("outcome", outcome)
+            .register(Metrics.globalRegistry)
+            .increment();
+    }
+
+    /**
+     * Records how long a wait for a page condition took
+     *
+     * @param condition Condition name, e.g. "results_list"
+     * @param ready Whether the condition was met before the timeout
+     * @param nanos Time spent waiting
+     */
+    public static void recordWait(String condition, boolean ready, long nanos) {
+        Timer.builder(READINESS_TIMER)
+            .description("Time spent waiting for the page to reach a named state")
+            .tags("condition", condition, "outcome", ready ? "ready" : "timeout")
+            .publishPercentiles(0.5, 0.9, 0.99)
+            .register(Metrics.globalRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts a cache lookup by where it was answered from
+     *
+     * @param cache Cache name, e.g. "job_details" or "answer_bank"
+     * @param result "memory", "disk", "expired" or "miss" for job details; "exact", "indexed" or "miss" for answers
+     */
+    public static void countCacheLookup(String cache, String result) {
+        Counter.builder(CACHE_COUNTER)
+            .description("Cache lookups by where they were answered from")
+            .tags("cache", cache, "result", result)
+            .register(Metrics.globalRegistry)
+            .increment();
+    }
+
+    /**
+     * Returns how many WebDriver commands the current thread has issued through
+     * instrumented drivers; the difference between two calls is the number of
+     * browser round-trips in between
+     *
+     * @return Commands issued by the current thread so far
+     */
+    public static long commandsOnThread() {
+        return COMMANDS_ON_THREAD.get()[0];
+    }
+
+    /**
+     * Wraps a driver so every WebDriver, WebElement and navigation command it issues
+     * is counted, tagged with the phase that was running at the time
+     *
+     * @param driver Driver to instrument
+     * @return Instrumented driver
+     */
+    public static WebDriver instrument(WebDriver driver) {
+        return new EventFiringDecorator<WebDriver>(new CommandCounter()).decorate(driver);
+    }
+
+    /**
+     * Writes every workflow meter to a plain-text report
+     *
+     * @param path Report file
+     */
+    public static void dump(Path path) {
+        List<Meter> meters = new ArrayList<>();
+        for (Meter meter : Metrics.globalRegistry.getMeters()) {
+            if (meter.getId().getName().startsWith("linkedin.")) {
+                meters.add(meter);
+            }
+        }
+        meters.sort(Comparator.comparing((Meter m) -> m.getId().getName()).thenComparing(m -> tags(m.getId().getTags())));
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            out.println("===== Workflow metrics =====");
+            for (Meter meter : meters) {
+                String name = meter.getId().getName() + " " + tags(meter.getId().getTags());
+                if (meter instanceof Timer) {
+                    Timer timer = (Timer) meter;
+                    StringBuilder line = new StringBuilder();
+                    line.append(String.format("%s count=%d mean=%.0fms max=%.0fms", name, timer.count(),
+                        timer.mean(TimeUnit.MILLISECONDS), timer.max(TimeUnit.MILLISECONDS)));
+                    for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+                        line.append(String.format(" p%.0f=%.0fms", percentile.percentile() * 100,
+                            percentile.value(TimeUnit.MILLISECONDS)));
+                    }
+                    out.println(line);
+                } else if (meter instanceof Counter) {
+                    out.println(String.format("%s count=%.0f", name, ((Counter) meter).count()));
+                }
+            }
+            System.out.println("Workflow metrics saved to: " + path.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Warning: Could not save workflow metrics: " + e.getMessage());
+        }
+    }
+
+    private static String tags(List<Tag> tags) {
+        List<String> pairs = new ArrayList<>();
+        for (Tag tag : tags) {
+            pairs.add(tag.getKey() + "=" + tag.getValue());
+        }
+        return "{" + String.join(", ", pairs) + "}";
+    }
+
+    private static void countCommand(Method method) {
+        COMMANDS_ON_THREAD.get()[0]++;
+        String phase = CURRENT_PHASE.get();
+        Counter.builder(COMMAND_COUNTER)
+            .description("WebDriver commands issued, by command and workflow phase")
+            .tags("command", method.getName(), "phase", phase != null ? phase : "none")
+            .register(Metrics.globalRegistry)
+            .increment();
+    }
+
+    /**
+     * Counts commands as they pass through the decorated driver
+     */
+    private static class CommandCounter implements WebDriverListener {
+
+        @Override
+        public void beforeAnyWebDriverCall(WebDriver driver, Method method, Object[] args) {
+            countCommand(method);
+        }
+
+        @Override
+        public void beforeAnyWebElementCall(WebElement element, Method method, Object[] args) {
+            countCommand(method);
+        }
+
+        @Override
+        public void beforeAnyNavigationCall(WebDriver.Navigation navigation, Method method, Object[] args) {
+            countCommand(method);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.easy;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Structured scope for workflow tasks running on virtual threads.
+ * Every forked task gets its own virtual thread, so hundreds of tasks that spend
+ * most of their time sleeping or waiting on the browser cost almost nothing.
+ * Tasks never outlive the scope: {@link #close()} cancels anything still running
+ * and waits for it to finish.
+ *
+ * Built on the stable virtual thread API rather than the preview
+ * StructuredTaskScope, so no --enable-preview flag is needed.
+ */
+public class WorkflowScope implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final List<Future<?>> subtasks = new CopyOnWriteArrayList<>();
+    private volatile boolean closed = false;
+
+    /**
+     * Opens a scope whose virtual threads are named after it
+     *
+     * @param name Prefix for the names of the scope's threads
+     */
+    public WorkflowScope(String name) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 1).factory());
+    }
+
+    /**
+     * Starts a task on a new virtual thread owned by this scope
+     *
+     * @param task Task to run
+     * @param <T> Result type of the task
+     * @return Future holding the task's result
+     */
+    public <T> Future<T> fork(Callable<T> task) {
+        if (closed) {
+            throw new IllegalStateException("Workflow scope is already closed");
+        }
+        Future<T> subtask = executor.submit(task);
+        subtasks.add(subtask);
+        return subtask;
+    }
+
+    /**
+     * Waits until every task forked so far, including tasks forked by other tasks,
+     * has finished. Failures are not rethrown here; they are reported through each
+     * task's own future.
+     *
+     * @throws InterruptedException If the waiting thread is interrupted
+     */
+    public void join() throws InterruptedException {
+        int joined = 0;
+        while (joined < subtasks.size()) {
+            Future<?> subtask = subtasks.get(joined++);
+            try {
+                subtask.get();
+            } catch (ExecutionException | CancellationException e) {
+                // Reported to whoever holds the task's future
+            }
+        }
+    }
+
+    /**
+     * Cancels any tasks still running and waits for their threads to exit
+     */
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                System.out.println("Warning: Some workflow tasks did not stop within a minute.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
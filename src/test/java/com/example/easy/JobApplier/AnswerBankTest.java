@@ -0,0 +1,72 @@
+package com.example.easy.JobApplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class AnswerBankTest {
+
+    @Test
+    void normalizesPropertyNamesAndLabelsAlike() {
+        assertEquals("first name", AnswerBank.normalize("firstName"));
+        assertEquals("first name", AnswerBank.normalize("What is your first name?"));
+        assertEquals("", AnswerBank.normalize(null));
+    }
+
+    @Test
+    void findsAnswerSavedUnderPropertyName() {
+        AnswerBank answers = new AnswerBank();
+        answers.put("firstName", "Ada");
+
+        AnswerBank.Match match = answers.find("First name");
+
+        assertNotNull(match);
+        assertEquals("Ada", match.answer());
+        assertEquals(1.0, match.similarity(), 0.0);
+    }
+
+    @Test
+    void matchesLabelsDifferingOnlyInGenericWordsOrTypos() {
+        AnswerBank answers = new AnswerBank();
+        answers.put("email", "ada@example.com");
+        answers.put("Years of experience with Java", "5");
+
+        assertEquals("ada@example.com", answers.find("Email address").answer());
+        assertEquals("5", answers.find("Years of experience with Jave").answer());
+        assertEquals("5", answers.find("Java experience").answer());
+    }
+
+    @Test
+    void findsTyposThroughTheDeletionIndex() {
+        AnswerBank answers = new AnswerBank();
+        answers.put("Will you require visa sponsorship?", "No");
+        answers.put("Preferred pronouns", "they/them");
+        answers.put("Salary expectations", "120000");
+
+        assertEquals("No", answers.find("Will you require visa sponsorhsip").answer());
+        assertEquals("they/them", answers.find("Prefered pronouns").answer());
+        assertEquals("120000", answers.find("Salery expectation").answer());
+        assertNull(answers.find("Will you require visa sponsoring arrangements"));
+    }
+
+    @Test
+    void doesNotAnswerQuestionAboutAnotherSkill() {
+        AnswerBank answers = new AnswerBank();
+        answers.put("Years of experience with Java", "5");
+
+        assertNull(answers.find("Years of experience with Python"));
+        assertNull(answers.find("Years of experience"));
+    }
+
+    @Test
+    void doesNotAnswerQuestionWithAnExtraSpecificWord() {
+        AnswerBank answers = new AnswerBank();
+        answers.put("Years of experience", "5");
+        answers.put("firstName", "Ada");
+
+        assertNull(answers.find("Years of experience with Kubernetes"));
+        assertNull(answers.find("Last name"));
+    }
+}
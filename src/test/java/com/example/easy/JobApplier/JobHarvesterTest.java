@@ -0,0 +1,28 @@
+package com.example.easy.JobApplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class JobHarvesterTest {
+
+    private static final String SEARCH = "https://www.linkedin.com/jobs/search/?f_AL=true&keywords=Java";
+
+    @Test
+    void addsStartOffsetForLaterPages() {
+        assertEquals(SEARCH + "&start=25", JobHarvester.pageUrl(SEARCH, 25));
+        assertEquals("https://www.linkedin.com/jobs/search/?start=50", JobHarvester.pageUrl("https://www.linkedin.com/jobs/search/", 50));
+    }
+
+    @Test
+    void replacesExistingStartOffset() {
+        assertEquals(SEARCH + "&start=50", JobHarvester.pageUrl("https://www.linkedin.com/jobs/search/?f_AL=true&start=25&keywords=Java", 50));
+        assertEquals(SEARCH, JobHarvester.pageUrl(SEARCH + "&start=25", 0));
+    }
+
+    @Test
+    void keepsFirstPageUrlUnchanged() {
+        assertEquals(SEARCH, JobHarvester.pageUrl(SEARCH, 0));
+        assertEquals("https://www.linkedin.com/jobs/search/", JobHarvester.pageUrl("https://www.linkedin.com/jobs/search/?", 0));
+    }
+}
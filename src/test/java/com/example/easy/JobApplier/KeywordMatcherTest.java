@@ -0,0 +1,68 @@
+package com.example.easy.JobApplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class KeywordMatcherTest {
+
+    private static int[] count(KeywordMatcher matcher, String text) {
+        int[] counts = new int[matcher.size()];
+        matcher.count(text, counts);
+        return counts;
+    }
+
+    @Test
+    void matchesWholeWordsIgnoringCase() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("java", "script"));
+
+        assertArrayEquals(new int[] {2, 0}, count(matcher, "Java, JAVA and JavaScript"));
+        assertArrayEquals(new int[] {0, 1}, count(matcher, "a script"));
+    }
+
+    @Test
+    void treatsAnyRunOfSeparatorsAsOne() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("machine learning"));
+
+        assertArrayEquals(new int[] {3}, count(matcher, "machine learning; machine  learning / machine-learning"));
+        assertArrayEquals(new int[] {0}, count(matcher, "machinelearning"));
+    }
+
+    @Test
+    void keepsSymbolsThatArePartOfTechnologyNames() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("c++", "c#", "node.js", ".net", "c"));
+
+        assertArrayEquals(new int[] {1, 1, 1, 1, 1}, count(matcher, "C++, C#, Node.js, .NET and C."));
+        assertArrayEquals(new int[] {0, 0, 0, 0, 0}, count(matcher, "nodejs dotnet"));
+    }
+
+    @Test
+    void findsOverlappingAndNestedKeywords() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("spring", "spring boot", "boot", "senior", "senior director"));
+
+        assertArrayEquals(new int[] {1, 1, 1, 0, 0}, count(matcher, "Spring Boot"));
+        assertArrayEquals(new int[] {0, 0, 0, 1, 1}, count(matcher, "Senior Director"));
+    }
+
+    @Test
+    void countsDuplicateKeywordsSeparately() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("java", "Java", ""));
+
+        assertEquals(3, matcher.size());
+        assertArrayEquals(new int[] {1, 1, 0}, count(matcher, "java"));
+    }
+
+    @Test
+    void addsToExistingCountsAndAcceptsNull() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("java"));
+        int[] counts = {2};
+
+        matcher.count("java", counts);
+        matcher.count(null, counts);
+
+        assertArrayEquals(new int[] {3}, counts);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.easy.JobApplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class RelevanceScorerTest {
+
+    @Test
+    void readsYearlyPayFromRangesAndRates() {
+        assertEquals(150_000, RelevanceScorer.highestYearlyPay("Pay: $120,000/yr - $150K/yr"));
+        assertEquals(150_000, RelevanceScorer.highestYearlyPay("The range is $120k to $150k depending on experience."));
+        assertEquals(93_600, RelevanceScorer.highestYearlyPay("$40 - $45/hr, contract"));
+        assertEquals(124_800, RelevanceScorer.highestYearlyPay("We pay $60 an hour."));
+        assertEquals(96_000, RelevanceScorer.highestYearlyPay("€8,000 per month gross"));
+        assertEquals(130_000, RelevanceScorer.highestYearlyPay("Base salary: $130,000.00"));
+    }
+
+    @Test
+    void ignoresAmountsThatAreNotPay() {
+        assertEquals(0, RelevanceScorer.highestYearlyPay("Includes a $5,000 signing bonus."));
+        assertEquals(0, RelevanceScorer.highestYearlyPay("Annual learning stipend of $2,000/yr"));
+        assertEquals(0, RelevanceScorer.highestYearlyPay("We raised $40M last year and have $12,000 in credits."));
+        assertEquals(0, RelevanceScorer.highestYearlyPay("Customers save $50 on every order"));
+        assertEquals(0, RelevanceScorer.highestYearlyPay(null));
+    }
+
+    @Test
+    void keepsSalaryNextToABonus() {
+        assertEquals(150_000, RelevanceScorer.highestYearlyPay("Salary $120K - $150K plus bonus of $20,000"));
+        assertEquals(140_000, RelevanceScorer.highestYearlyPay("Salary: $140,000, relocation allowance $10,000"));
+    }
+
+    @Test
+    void scoresKeywordsTwiceInTheTitle() {
+        RelevanceScorer scorer = new RelevanceScorer(List.of("java:3", "spring boot:2", "selenium"), List.of(), List.of(), 0, 4);
+
+        RelevanceScorer.Relevance inTitle = scorer.score("Java Developer", "We use Spring Boot.", List.of());
+        RelevanceScorer.Relevance inText = scorer.score("Developer", "We use Java and Selenium.", List.of());
+
+        assertEquals(8, inTitle.score());
+        assertTrue(inTitle.passed());
+        assertEquals(4, inText.score());
+        assertTrue(inText.passed());
+    }
+
+    @Test
+    void rejectsPostingBelowThreshold() {
+        RelevanceScorer scorer = new RelevanceScorer(List.of("java:3"), List.of(), List.of(), 0, 4);
+
+        RelevanceScorer.Relevance relevance = scorer.score("Developer", "JavaScript and Java", null);
+
+        assertEquals(3, relevance.score());
+        assertFalse(relevance.passed());
+    }
+
+    @Test
+    void rejectsNegativeKeywords() {
+        RelevanceScorer scorer = new RelevanceScorer(List.of("java"), List.of("clearance"), List.of(), 0, 1);
+
+        assertFalse(scorer.score("Java Developer", "Active security clearance required", null).passed());
+        assertFalse(scorer.screenTitle("Java Developer (Clearance)").passed());
+        assertTrue(scorer.screenTitle("Java Developer").passed());
+    }
+
+    @Test
+    void rejectsSeniorityFromCriteriaBeforeTitle() {
+        RelevanceScorer scorer = new RelevanceScorer(List.of(), List.of(), List.of("entry_level", "associate"), 0, 1);
+
+        assertFalse(scorer.screenTitle("Senior Software Engineer").passed());
+        assertFalse(scorer.screenTitle("Director of Engineering").passed());
+        assertTrue(scorer.screenTitle("Software Engineer").passed());
+        assertTrue(scorer.score("Senior Software Engineer", null, List.of("Associate")).passed());
+    }
+
+    @Test
+    void readsSeniorityOnlyFromLeadingTitleModifiers() {
+        assertEquals(RelevanceScorer.Seniority.DIRECTOR, RelevanceScorer.Seniority.fromTitle("Senior Director, Product"));
+        assertEquals(RelevanceScorer.Seniority.EXECUTIVE, RelevanceScorer.Seniority.fromTitle("VP of Engineering"));
+        assertEquals(RelevanceScorer.Seniority.MID_SENIOR_LEVEL, RelevanceScorer.Seniority.fromTitle("Sr. Java Developer"));
+        assertEquals(RelevanceScorer.Seniority.ENTRY_LEVEL, RelevanceScorer.Seniority.fromTitle("Entry-Level Analyst"));
+        assertNull(RelevanceScorer.Seniority.fromTitle("Account Executive"));
+        assertNull(RelevanceScorer.Seniority.fromTitle("Software Engineer, Senior"));
+        assertNull(RelevanceScorer.Seniority.fromTitle("Internal Auditor"));
+        assertNull(RelevanceScorer.Seniority.fromTitle(null));
+    }
+
+    @Test
+    void passesTitlesWhoseWordsDoNotNameALevel() {
+        RelevanceScorer scorer = new RelevanceScorer(List.of(), List.of(), List.of("entry_level"), 0, 1);
+
+        assertTrue(scorer.screenTitle("Account Executive").passed());
+        assertTrue(scorer.screenTitle("Executive Assistant").passed());
+        assertTrue(scorer.screenTitle("Chief of Staff").passed());
+        assertTrue(scorer.screenTitle("Staff Accountant").passed());
+        assertTrue(scorer.screenTitle("Lead Generation Specialist").passed());
+        assertFalse(scorer.screenTitle("Vice President, Sales").passed());
+    }
+
+    @Test
+    void rejectsPayBelowMinimumOnly() {
+        RelevanceScorer scorer = new RelevanceScorer(List.of(), List.of(), List.of(), 100_000, 1);
+
+        assertFalse(scorer.score("Engineer", "Salary range $70,000 - $90,000", null).passed());
+        assertTrue(scorer.score("Engineer", "Salary range $90,000 - $120,000", null).passed());
+        assertTrue(scorer.score("Engineer", "Includes a $5,000 signing bonus", null).passed());
+        assertNull(scorer.score("Engineer", null, List.of("$110K/yr - $130K/yr")).rejection());
+    }
+
+    @Test
+    void parsesSeniorityNames() {
+        assertEquals(RelevanceScorer.Seniority.MID_SENIOR_LEVEL, RelevanceScorer.Seniority.parse("mid_senior_level"));
+        assertEquals(RelevanceScorer.Seniority.MID_SENIOR_LEVEL, RelevanceScorer.Seniority.parse("Mid-Senior level"));
+        assertEquals(RelevanceScorer.Seniority.ENTRY_LEVEL, RelevanceScorer.Seniority.parse("Entry level"));
+        assertNull(RelevanceScorer.Seniority.parse("Full-time"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.easy.JobApplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SeenJobIndexTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void addsAndFindsJobIds() throws IOException {
+        try (SeenJobIndex index = new SeenJobIndex(dir.resolve("seen.idx"))) {
+            assertTrue(index.add(4012345678L));
+            assertFalse(index.add(4012345678L));
+            assertTrue(index.add(4012345679L));
+
+            assertTrue(index.contains(4012345678L));
+            assertTrue(index.contains(4012345679L));
+            assertFalse(index.contains(4012345680L));
+            assertEquals(2, index.size());
+        }
+    }
+
+    @Test
+    void ignoresIdsThatAreNotPositive() throws IOException {
+        try (SeenJobIndex index = new SeenJobIndex(dir.resolve("seen.idx"))) {
+            assertFalse(index.add(0));
+            assertFalse(index.add(-5));
+            assertFalse(index.contains(0));
+            assertEquals(0, index.size());
+        }
+        assertEquals(0, SeenJobIndex.parseJobId("not-a-number"));
+        assertEquals(0, SeenJobIndex.parseJobId(null));
+        assertEquals(4012345678L, SeenJobIndex.parseJobId(" 4012345678 "));
+    }
+
+    @Test
+    void growsAndKeepsEveryId() throws IOException {
+        Path file = dir.resolve("seen.idx");
+        try (SeenJobIndex index = new SeenJobIndex(file, 16, 1 << 20)) {
+            for (long id = 1; id <= 1000; id++) {
+                assertTrue(index.add(4000000000L + id));
+            }
+            assertEquals(1000, index.size());
+            for (long id = 1; id <= 1000; id++) {
+                assertTrue(index.contains(4000000000L + id));
+            }
+            assertFalse(index.contains(4000000000L));
+        }
+        // At most half full, so 1000 IDs need at least 2048 slots of 8 bytes
+        assertTrue(Files.size(file) >= 2048L * Long.BYTES);
+    }
+
+    @Test
+    void reopensFromTheMappedFile() throws IOException {
+        Path file = dir.resolve("seen.idx");
+        try (SeenJobIndex index = new SeenJobIndex(file, 16, 1 << 20)) {
+            for (long id = 1; id <= 100; id++) {
+                index.add(id * 7919);
+            }
+        }
+
+        try (SeenJobIndex reopened = new SeenJobIndex(file)) {
+            assertEquals(100, reopened.size());
+            for (long id = 1; id <= 100; id++) {
+                assertTrue(reopened.contains(id * 7919));
+            }
+            assertFalse(reopened.contains(7918));
+            assertTrue(reopened.add(7918));
+        }
+    }
+
+    @Test
+    void rejectsFileThatIsNotAnIndex() throws IOException {
+        Path file = dir.resolve("seen.idx");
+        Files.writeString(file, "definitely not an index file");
+
+        assertThrows(IOException.class, () -> new SeenJobIndex(file));
+    }
+
+    @Test
+    void refusesToFillTableAtMaximumSize() throws IOException {
+        try (SeenJobIndex index = new SeenJobIndex(dir.resolve("seen.idx"), 16, 16)) {
+            for (long id = 1; id <= 12; id++) {
+                assertTrue(index.add(id));
+            }
+
+            assertThrows(IllegalStateException.class, () -> index.add(13));
+            assertFalse(index.add(12));
+            assertTrue(index.contains(12));
+            assertFalse(index.contains(13));
+            assertEquals(12, index.size());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.easy.JobApplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UserInfoStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private static Properties read(Path file) throws IOException {
+        Properties props = new Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            props.load(input);
+        }
+        return props;
+    }
+
+    private static long lines(Path file) throws IOException {
+        return Files.exists(file) ? Files.readAllLines(file).stream().filter(line -> !line.isBlank()).count() : 0;
+    }
+
+    private static void awaitLines(Path journal, long expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (lines(journal) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void readsAnswersFromPropertiesFile() throws IOException {
+        Path file = dir.resolve("user_info.properties");
+        Files.writeString(file, "firstName=Ada\nlastName=Lovelace\n");
+
+        try (UserInfoStore store = new UserInfoStore(file)) {
+            assertEquals("Ada", store.get("firstName"));
+            assertEquals(2, store.entries().size());
+            assertNull(store.get("email"));
+        }
+    }
+
+    @Test
+    void replaysJournalOfRunThatWasNotClosed() throws Exception {
+        Path file = dir.resolve("user_info.properties");
+        Path journal = dir.resolve("user_info.properties.journal");
+        Files.writeString(file, "firstName=Ada\nphone=000\n");
+
+        UserInfoStore crashed = new UserInfoStore(file);
+        crashed.put("phone", "555-0100");
+        crashed.put("city", "London");
+        awaitLines(journal, 2);
+        // A line cut short by a crash before its fsync
+        Files.writeString(journal, "{\"key\":\"email\",\"val", StandardOpenOption.APPEND);
+
+        try (UserInfoStore reopened = new UserInfoStore(file)) {
+            assertEquals("Ada", reopened.get("firstName"));
+            assertEquals("555-0100", reopened.get("phone"));
+            assertEquals("London", reopened.get("city"));
+            assertNull(reopened.get("email"));
+        }
+        crashed.close();
+    }
+
+    @Test
+    void compactsJournalIntoPropertiesFileOnClose() throws Exception {
+        Path file = dir.resolve("user_info.properties");
+        Path journal = dir.resolve("user_info.properties.journal");
+
+        try (UserInfoStore store = new UserInfoStore(file)) {
+            store.put("firstName", "Ada");
+            store.put("firstName", "Ada");
+            store.put("city", "London");
+        }
+
+        assertEquals(0, lines(journal));
+        Properties props = read(file);
+        assertEquals("Ada", props.getProperty("firstName"));
+        assertEquals("London", props.getProperty("city"));
+        assertEquals(2, props.size());
+    }
+
+    @Test
+    void compactsJournalOnceItOutgrowsTheAnswers() throws Exception {
+        Path file = dir.resolve("user_info.properties");
+        Path journal = dir.resolve("user_info.properties.journal");
+
+        try (UserInfoStore store = new UserInfoStore(file)) {
+            for (int i = 0; i < 200; i++) {
+                store.put("answer", "value " + i);
+            }
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!Files.exists(file) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+
+            assertTrue(Files.exists(file));
+            assertTrue(lines(journal) < 200);
+        }
+
+        assertEquals("value 199", read(file).getProperty("answer"));
+        try (UserInfoStore reopened = new UserInfoStore(file)) {
+            assertEquals("value 199", reopened.get("answer"));
+        }
+    }
+
+    @Test
+    void rejectsAnswerSavedAfterClose() throws IOException {
+        Path file = dir.resolve("user_info.properties");
+        UserInfoStore store = new UserInfoStore(file);
+        store.close();
+
+        assertThrows(IllegalStateException.class, () -> store.put("firstName", "Ada"));
+        assertTrue(!Files.exists(file) || !read(file).containsKey("firstName"));
+    }
+}
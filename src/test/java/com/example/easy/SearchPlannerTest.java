@@ -0,0 +1,69 @@
+package com.example.easy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+class SearchPlannerTest {
+
+    private static LinkedInConfig config(String... keyValues) {
+        Properties file = new Properties();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            file.setProperty(keyValues[i], keyValues[i + 1]);
+        }
+        return LinkedInConfig.from(file);
+    }
+
+    @Test
+    void leavesFiltersOutWhenNoneAreConfigured() {
+        assertEquals(List.of(), SearchPlanner.filterParams(config()));
+    }
+
+    @Test
+    void mergesAllValuesOfAFilterIntoOneParameter() {
+        LinkedInConfig config = config(
+            "linkedin.filter.easy_apply", "true",
+            "linkedin.filter.remote", "remote, hybrid, remote",
+            "linkedin.filter.exp_level", "mid_senior_level;entry_level",
+            "linkedin.filter.job_type", "full_time,contract");
+
+        assertEquals(List.of("f_AL=true", "f_E=2,4", "f_JT=C,F", "f_WT=2,3"), SearchPlanner.filterParams(config));
+    }
+
+    @Test
+    void usesTheWidestDatePostedWindow() {
+        assertEquals(List.of("f_TPR=r2592000"), SearchPlanner.filterParams(config("linkedin.filter.sort_by", "day,month,week")));
+        assertEquals(List.of("f_TPR=r86400"), SearchPlanner.filterParams(config("linkedin.filter.sort_by", "day")));
+    }
+
+    @Test
+    void buildsSearchUrlWithEncodedKeywordsAndSortedParameters() {
+        String url = SearchPlanner.searchUrl("https://www.linkedin.com", "C++ Developer", "São Paulo, Brazil",
+            List.of("f_TPR=r86400", "f_AL=true"), "DD");
+
+        assertEquals("https://www.linkedin.com/jobs/search/?f_AL=true&f_TPR=r86400&keywords=C%2B%2B+Developer"
+            + "&location=S%C3%A3o+Paulo%2C+Brazil&sortBy=DD", url);
+    }
+
+    @Test
+    void plansOneSearchPerDistinctRoleAndLocation() {
+        LinkedInConfig config = config(
+            "linkedin.base.url", "https://www.linkedin.com/",
+            "linkedin.job.role", "Java Developer; java developer; QA Engineer",
+            "linkedin.job.location", "Berlin;Remote");
+
+        List<SearchPlanner.SearchQuery> queries = SearchPlanner.plan(config, null);
+
+        assertEquals(4, queries.size());
+        assertEquals("Java Developer", queries.get(0).role());
+        assertEquals("Berlin", queries.get(0).location());
+        assertEquals("QA Engineer", queries.get(3).role());
+        assertEquals("Remote", queries.get(3).location());
+        assertTrue(queries.get(0).url().startsWith("https://www.linkedin.com/jobs/search/?"));
+        assertTrue(queries.get(0).url().endsWith("&sortBy=R"));
+    }
+}
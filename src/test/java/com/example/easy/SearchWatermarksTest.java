@@ -0,0 +1,46 @@
+package com.example.easy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+
+class SearchWatermarksTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long HOUR = 3_600_000L;
+    private static final long DAY = 24 * HOUR;
+
+    @Test
+    void readsRelativePostingTimes() {
+        assertEquals(NOW - HOUR, SearchWatermarks.parsePostedTime("1 hr ago", NOW));
+        assertEquals(NOW - 3 * HOUR, SearchWatermarks.parsePostedTime("3 hours ago", NOW));
+        assertEquals(NOW - 30 * 60_000L, SearchWatermarks.parsePostedTime("30 mins ago", NOW));
+        assertEquals(NOW - DAY, SearchWatermarks.parsePostedTime("1 day ago", NOW));
+        assertEquals(NOW - 60 * DAY, SearchWatermarks.parsePostedTime("2 months ago", NOW));
+    }
+
+    @Test
+    void readsPostingTimeWithinLongerText() {
+        assertEquals(NOW - 14 * DAY, SearchWatermarks.parsePostedTime("Reposted 2 weeks ago", NOW));
+        assertEquals(NOW - 5 * 60_000L, SearchWatermarks.parsePostedTime("  Posted 5 Minutes ago ", NOW));
+        assertEquals(NOW, SearchWatermarks.parsePostedTime("Just now", NOW));
+    }
+
+    @Test
+    void readsIsoDates() {
+        long expected = LocalDate.of(2024, 5, 1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        assertEquals(expected, SearchWatermarks.parsePostedTime("2024-05-01", NOW));
+    }
+
+    @Test
+    void returnsZeroForUnreadableTimes() {
+        assertEquals(0, SearchWatermarks.parsePostedTime(null, NOW));
+        assertEquals(0, SearchWatermarks.parsePostedTime(" ", NOW));
+        assertEquals(0, SearchWatermarks.parsePostedTime("Promoted", NOW));
+        assertEquals(0, SearchWatermarks.parsePostedTime("a few hours ago", NOW));
+    }
+}